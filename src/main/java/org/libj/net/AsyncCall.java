@@ -0,0 +1,215 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link CompletableFuture} of an exchange over {@link HttpURLConnection}s that is run on an {@link Executor}, which aborts the
+ * exchange by disconnecting its current {@link HttpURLConnection} when it is cancelled or completed exceptionally, including when
+ * its deadline expires.
+ *
+ * @param <T> The type of the result of the exchange.
+ */
+final class AsyncCall<T> extends CompletableFuture<T> {
+  /**
+   * An exchange that registers each {@link HttpURLConnection} it opens with {@link AsyncCall#connect(HttpURLConnection)} before it
+   * is connected.
+   *
+   * @param <T> The type of the result of the exchange.
+   */
+  @FunctionalInterface
+  interface Exchange<T> {
+    T exchange(AsyncCall<T> call) throws IOException;
+  }
+
+  /**
+   * The default {@link Executor}, which runs each exchange on a virtual thread on JDK 21 or later, or otherwise on a daemon thread of
+   * a cached thread pool.
+   */
+  static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
+
+  private static Executor newDefaultExecutor() {
+    try {
+      return (Executor)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+    catch (final ReflectiveOperationException e) {
+      final AtomicInteger count = new AtomicInteger();
+      return Executors.newCachedThreadPool((final Runnable r) -> {
+        final Thread thread = new Thread(r, "AsyncCall-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /** The scheduler of deadlines, which is created on first use. */
+  private static final class Deadlines {
+    private static final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, (final Runnable r) -> {
+      final Thread thread = new Thread(r, "AsyncCall-Deadlines");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    static {
+      scheduler.setRemoveOnCancelPolicy(true);
+    }
+  }
+
+  /**
+   * Returns a new {@link CompletableFuture} of the provided exchange, which is run on the provided {@link Executor}.
+   *
+   * @param <T> The type of the result of the exchange.
+   * @param executor The {@link Executor} on which to run the exchange, or {@code null} for {@link #DEFAULT_EXECUTOR}.
+   * @param timeout The deadline of the exchange in milliseconds, after which it is completed with a {@link TimeoutException} and is
+   *          aborted. A timeout of zero is interpreted as an infinite timeout.
+   * @param exchange The exchange.
+   * @return A new {@link CompletableFuture} of the provided exchange.
+   * @throws IllegalArgumentException If {@code timeout} is negative.
+   * @throws NullPointerException If {@code exchange} is null.
+   */
+  static <T> CompletableFuture<T> run(final Executor executor, final long timeout, final Exchange<T> exchange) {
+    assertNotNegative(timeout);
+    assertNotNull(exchange);
+    final AsyncCall<T> call = new AsyncCall<>(timeout == 0 ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+    if (timeout > 0) {
+      final ScheduledFuture<?> deadline = Deadlines.scheduler.schedule(() -> call.completeExceptionally(newTimeoutException(timeout, null)), timeout, TimeUnit.MILLISECONDS);
+      call.whenComplete((r, e) -> deadline.cancel(false));
+    }
+
+    try {
+      (executor != null ? executor : DEFAULT_EXECUTOR).execute(() -> {
+        if (call.isDone())
+          return;
+
+        try {
+          call.complete(exchange.exchange(call));
+        }
+        catch (final Throwable t) {
+          // The connect and read timeouts are limited to the deadline, and so may expire just before it
+          call.completeExceptionally(call.deadline != 0 && call.deadline - System.nanoTime() <= 0 ? newTimeoutException(timeout, t) : t);
+        }
+      });
+    }
+    catch (final RejectedExecutionException e) {
+      call.completeExceptionally(e);
+    }
+
+    return call;
+  }
+
+  /**
+   * Returns the bytes read from the provided {@link InputStream} until its end, which is closed thereafter.
+   *
+   * @param in The {@link InputStream}.
+   * @return The bytes read from the provided {@link InputStream} until its end.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static byte[] readAll(final InputStream in) throws IOException {
+    try (final InputStream i = in) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buf = new byte[8192];
+      for (int n; (n = i.read(buf)) != -1;) // [X]
+        out.write(buf, 0, n);
+
+      return out.toByteArray();
+    }
+  }
+
+  private final long deadline;
+  private volatile HttpURLConnection connection;
+
+  private AsyncCall(final long deadline) {
+    this.deadline = deadline;
+  }
+
+  /**
+   * Registers the provided {@link HttpURLConnection} as the current connection of this exchange, so that it is disconnected if this
+   * {@link AsyncCall} is cancelled, and limits its connect and read timeouts to the time remaining until the deadline.
+   *
+   * @param connection The {@link HttpURLConnection} that is to be connected.
+   * @throws InterruptedIOException If this {@link AsyncCall} is already cancelled, or its deadline has expired.
+   */
+  void connect(final HttpURLConnection connection) throws InterruptedIOException {
+    this.connection = connection;
+    if (isDone()) {
+      connection.disconnect();
+      throw new InterruptedIOException("Aborted");
+    }
+
+    if (deadline != 0) {
+      final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remaining <= 0)
+        throw new SocketTimeoutException("Deadline expired");
+
+      final int timeout = (int)Math.min(remaining, Integer.MAX_VALUE);
+      if (connection.getConnectTimeout() == 0 || connection.getConnectTimeout() > timeout)
+        connection.setConnectTimeout(timeout);
+
+      if (connection.getReadTimeout() == 0 || connection.getReadTimeout() > timeout)
+        connection.setReadTimeout(timeout);
+    }
+  }
+
+  private static TimeoutException newTimeoutException(final long timeout, final Throwable cause) {
+    final TimeoutException e = new TimeoutException("Deadline of " + timeout + "ms expired");
+    if (cause != null)
+      e.initCause(cause);
+
+    return e;
+  }
+
+  private void abort() {
+    final HttpURLConnection connection = this.connection;
+    if (connection != null)
+      connection.disconnect();
+  }
+
+  @Override
+  public boolean completeExceptionally(final Throwable ex) {
+    final boolean completed = super.completeExceptionally(ex);
+    if (completed)
+      abort();
+
+    return completed;
+  }
+
+  @Override
+  public boolean cancel(final boolean mayInterruptIfRunning) {
+    final boolean cancelled = super.cancel(mayInterruptIfRunning);
+    if (cancelled)
+      abort();
+
+    return cancelled;
+  }
+}
@@ -40,6 +40,8 @@ import org.libj.io.Streams;
  * This implementation also provides a workaround for a bug in the Servlet API 2.0 implementation of
  * {@link ServletInputStream#readLine(byte[],int,int)}, which contains a bug that results in a
  * {@code ArrayIndexOutOfBoundsExceptions} under certain conditions. Apache JServ is known to suffer from this bug.
+ *
+ * @see FormParser
  */
 public class BufferedServletInputStream extends FilterServletInputStream {
   private static final int INVALIDATED = -2;
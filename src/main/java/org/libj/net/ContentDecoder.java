@@ -0,0 +1,389 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Negotiates the {@code gzip} and {@code deflate} content codings of responses, and decodes the {@link InputStream}s of the
+ * responses that are encoded with them, as an opt-in for
+ * {@link HTTP#getAsStream(java.net.URL,RedirectCache,HttpRouteLimiter,ContentDecoder)} and
+ * {@link Downloads#downloadFile(java.net.URL,java.io.File,int,int,ContentDecoder,boolean,java.nio.file.CopyOption...)}. The
+ * {@link Inflater}s of the decoded streams are returned to a bounded pool when the streams are closed, so that their native memory
+ * is reused by subsequent responses instead of being allocated and freed for each.
+ * <p>
+ * A response with the {@code deflate} coding is decoded as the {@code zlib} format of RFC 1950, or as raw {@code deflate} data (as
+ * is sent by some servers) if it does not start with a {@code zlib} header. A response with a coding other than {@code gzip} or
+ * {@code deflate} is not decoded.
+ */
+public final class ContentDecoder {
+  private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+  /** The decoded {@link InputStream} of an encoded response, which reads the encoded bytes into its own buffer. */
+  private final class DecodedInputStream extends InputStream {
+    private final InputStream in;
+    private final boolean gzip;
+    private final byte[] buf = new byte[8192];
+    private final byte[] one = new byte[1];
+    private final CRC32 crc;
+    private boolean nowrap;
+    private Inflater inflater;
+    private int pos;
+    private int lim;
+    private boolean eof;
+    private boolean closed;
+
+    private DecodedInputStream(final InputStream in, final boolean gzip) throws IOException {
+      this.in = in;
+      this.gzip = gzip;
+      this.crc = gzip ? new CRC32() : null;
+      // An empty body (such as of a HEAD request) has no header
+      if (!fill(2) && lim == 0) {
+        eof = true;
+        return;
+      }
+
+      if (gzip) {
+        readHeader();
+        nowrap = true;
+      }
+      else {
+        // A zlib header has the deflate compression method, and is a multiple of 31 as a 16-bit big-endian integer
+        nowrap = lim - pos < 2 || (buf[pos] & 0x0f) != 8 || (((buf[pos] & 0xff) << 8) | (buf[pos + 1] & 0xff)) % 31 != 0;
+      }
+
+      inflater = poll(nowrap);
+      inflater.setInput(buf, pos, lim - pos);
+      pos = lim;
+    }
+
+    /**
+     * Reads from the underlying stream until at least {@code n} bytes are buffered, and returns whether they are.
+     */
+    private boolean fill(final int n) throws IOException {
+      if (pos > 0) {
+        System.arraycopy(buf, pos, buf, 0, lim -= pos);
+        pos = 0;
+      }
+
+      while (lim < n) { // [X]
+        final int count = in.read(buf, lim, buf.length - lim);
+        if (count == -1)
+          return false;
+
+        encodedBytes.add(count);
+        lim += count;
+      }
+
+      return true;
+    }
+
+    private int readByte() throws IOException {
+      if (pos == lim && !fill(1))
+        throw new EOFException("Unexpected end of gzip stream");
+
+      return buf[pos++] & 0xff;
+    }
+
+    private int readShort() throws IOException {
+      return readByte() | (readByte() << 8);
+    }
+
+    private long readInt() throws IOException {
+      return readShort() | ((long)readShort() << 16);
+    }
+
+    private void readHeader() throws IOException {
+      if (readShort() != 0x8b1f)
+        throw new ZipException("Not in gzip format");
+
+      if (readByte() != 8)
+        throw new ZipException("Unsupported compression method");
+
+      final int flags = readByte();
+      for (int i = 0; i < 6; ++i) // [N] MTIME, XFL and OS
+        readByte();
+
+      if ((flags & 4) != 0) // FEXTRA
+        for (int i = readShort(); i > 0; --i) // [N]
+          readByte();
+
+      if ((flags & 8) != 0) // FNAME
+        while (readByte() != 0); // [X]
+
+      if ((flags & 16) != 0) // FCOMMENT
+        while (readByte() != 0); // [X]
+
+      if ((flags & 2) != 0) // FHCRC
+        readShort();
+    }
+
+    /**
+     * Verifies the trailer of the current gzip member, and returns whether another member follows it.
+     */
+    private boolean readTrailer() throws IOException {
+      pos = lim - inflater.getRemaining();
+      if (readInt() != crc.getValue())
+        throw new ZipException("Corrupt gzip trailer (CRC)");
+
+      if (readInt() != (inflater.getBytesWritten() & 0xffffffffL))
+        throw new ZipException("Corrupt gzip trailer (ISIZE)");
+
+      if (pos == lim && !fill(1))
+        return false;
+
+      try {
+        readHeader();
+      }
+      catch (final EOFException | ZipException e) {
+        // Trailing data that is not another gzip member is ignored, as by java.util.zip.GZIPInputStream
+        return false;
+      }
+
+      inflater.reset();
+      inflater.setInput(buf, pos, lim - pos);
+      pos = lim;
+      crc.reset();
+      return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      if (closed)
+        throw new IOException("Stream closed");
+
+      if (eof)
+        return -1;
+
+      if (len == 0)
+        return 0;
+
+      while (true) { // [X]
+        final int n;
+        try {
+          n = inflater.inflate(b, off, len);
+        }
+        catch (final DataFormatException e) {
+          final String message = e.getMessage();
+          throw new ZipException(message != null ? message : "Invalid " + (gzip ? "gzip" : "deflate") + " data format");
+        }
+
+        if (n > 0) {
+          if (gzip)
+            crc.update(b, off, n);
+
+          decodedBytes.add(n);
+          return n;
+        }
+
+        if (inflater.finished()) {
+          if (!gzip || !readTrailer()) {
+            eof = true;
+            return -1;
+          }
+        }
+        else if (inflater.needsDictionary()) {
+          throw new ZipException("Preset dictionaries are not supported");
+        }
+        else if (inflater.needsInput()) {
+          pos = lim = 0;
+          if (!fill(1))
+            throw new EOFException("Unexpected end of " + (gzip ? "gzip" : "deflate") + " stream");
+
+          inflater.setInput(buf, 0, lim);
+          pos = lim;
+        }
+      }
+    }
+
+    @Override
+    public int available() throws IOException {
+      if (closed)
+        throw new IOException("Stream closed");
+
+      return eof ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed)
+        return;
+
+      closed = true;
+      if (inflater != null) {
+        offer(inflater, nowrap);
+        inflater = null;
+      }
+
+      in.close();
+    }
+  }
+
+  private final ArrayBlockingQueue<Inflater> nowrapInflaters;
+  private final ArrayBlockingQueue<Inflater> zlibInflaters;
+  private final LongAdder responses = new LongAdder();
+  private final LongAdder encodedResponses = new LongAdder();
+  private final LongAdder encodedBytes = new LongAdder();
+  private final LongAdder decodedBytes = new LongAdder();
+
+  /**
+   * Creates a new {@link ContentDecoder} that pools as many {@link Inflater}s of each kind as there are available processors.
+   */
+  public ContentDecoder() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new {@link ContentDecoder} that pools up to the provided number of {@link Inflater}s of each kind ({@code gzip} or raw
+   * {@code deflate}, and {@code zlib}).
+   *
+   * @param maxPooled The maximum number of {@link Inflater}s of each kind that are pooled.
+   * @throws IllegalArgumentException If {@code maxPooled} is not positive.
+   */
+  public ContentDecoder(final int maxPooled) {
+    assertPositive(maxPooled);
+    this.nowrapInflaters = new ArrayBlockingQueue<>(maxPooled);
+    this.zlibInflaters = new ArrayBlockingQueue<>(maxPooled);
+  }
+
+  private Inflater poll(final boolean nowrap) {
+    final Inflater inflater = (nowrap ? nowrapInflaters : zlibInflaters).poll();
+    return inflater != null ? inflater : new Inflater(nowrap);
+  }
+
+  private void offer(final Inflater inflater, final boolean nowrap) {
+    inflater.reset();
+    if (!(nowrap ? nowrapInflaters : zlibInflaters).offer(inflater))
+      inflater.end();
+  }
+
+  /**
+   * Advertises the {@code gzip} and {@code deflate} content codings in the {@code Accept-Encoding} header of the request of the
+   * provided {@link URLConnection}, which must not yet be connected.
+   *
+   * @param connection The {@link URLConnection}.
+   * @throws IllegalStateException If {@code connection} is already connected.
+   * @throws NullPointerException If {@code connection} is null.
+   */
+  public void setAcceptEncoding(final URLConnection connection) {
+    connection.setRequestProperty("Accept-Encoding", ACCEPT_ENCODING);
+  }
+
+  /**
+   * Returns the {@link InputStream} of the response of the provided {@link URLConnection}, which is decoded if the response is
+   * encoded with the {@code gzip} or {@code deflate} content coding. The {@link Inflater} of a decoded {@link InputStream} is returned
+   * to the pool when it is closed, so it is highly recommended to close the obtained {@link InputStream} after processing.
+   *
+   * @param connection The {@link URLConnection}.
+   * @return The {@link InputStream} of the response of the provided {@link URLConnection}, which is decoded if the response is
+   *         encoded with the {@code gzip} or {@code deflate} content coding.
+   * @throws IOException If an I/O error has occurred, or if the header of an encoded response is invalid.
+   * @throws NullPointerException If {@code connection} is null.
+   */
+  public InputStream getInputStream(final URLConnection connection) throws IOException {
+    final InputStream in = connection.getInputStream();
+    responses.increment();
+    final String encoding = connection.getContentEncoding();
+    if (encoding == null)
+      return in;
+
+    final boolean gzip;
+    final String coding = encoding.trim();
+    if ("gzip".equalsIgnoreCase(coding) || "x-gzip".equalsIgnoreCase(coding))
+      gzip = true;
+    else if ("deflate".equalsIgnoreCase(coding))
+      gzip = false;
+    else
+      return in;
+
+    encodedResponses.increment();
+    try {
+      return new DecodedInputStream(in, gzip);
+    }
+    catch (final IOException | RuntimeException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the number of responses of which the {@link InputStream} was obtained with {@link #getInputStream(URLConnection)}.
+   *
+   * @return The number of responses of which the {@link InputStream} was obtained with {@link #getInputStream(URLConnection)}.
+   */
+  public long getResponseCount() {
+    return responses.sum();
+  }
+
+  /**
+   * Returns the number of responses that were decoded.
+   *
+   * @return The number of responses that were decoded.
+   */
+  public long getEncodedResponseCount() {
+    return encodedResponses.sum();
+  }
+
+  /**
+   * Returns the number of encoded bytes that were received in the bodies of the responses that were decoded.
+   *
+   * @return The number of encoded bytes that were received in the bodies of the responses that were decoded.
+   */
+  public long getEncodedByteCount() {
+    return encodedBytes.sum();
+  }
+
+  /**
+   * Returns the number of bytes that were decoded from the bodies of the responses that were decoded.
+   *
+   * @return The number of bytes that were decoded from the bodies of the responses that were decoded.
+   */
+  public long getDecodedByteCount() {
+    return decodedBytes.sum();
+  }
+
+  /**
+   * Returns the number of bytes that were saved in transfer by the responses that were decoded, which is the number of decoded bytes
+   * less the number of encoded bytes.
+   *
+   * @return The number of bytes that were saved in transfer by the responses that were decoded.
+   */
+  public long getSavedByteCount() {
+    return getDecodedByteCount() - getEncodedByteCount();
+  }
+
+  @Override
+  public String toString() {
+    return "ContentDecoder[responses=" + getResponseCount() + ", encoded=" + getEncodedResponseCount() + ", encodedBytes=" + getEncodedByteCount() + ", decodedBytes=" + getDecodedByteCount() + "]";
+  }
+}
@@ -16,6 +16,8 @@
 
 package org.libj.net;
 
+import static org.libj.lang.Assertions.*;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -28,6 +30,8 @@ import java.net.URLConnection;
 import java.nio.file.CopyOption;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -140,11 +144,132 @@ public final class Downloads {
    * @throws NullPointerException If {@code fromUrl}, {@code toFile}, or {@code options} is null.
    * @throws IllegalArgumentException If the {@code connectTimeout} or {@code readTimeout} parameter is negative.
    */
-  public static HttpURLConnection downloadFile(final URL fromUrl, final File toFile, final int connectTimeout, final int readTimeout, final boolean followRedirects, CopyOption ... options) throws IOException {
-    final HttpURLConnection connection = (HttpURLConnection)(followRedirects ? URLConnections.checkFollowRedirect(fromUrl.openConnection(), (final HttpURLConnection c) -> beforeDownloadFile(c, connectTimeout, readTimeout, toFile)) : fromUrl.openConnection());
+  public static HttpURLConnection downloadFile(final URL fromUrl, final File toFile, final int connectTimeout, final int readTimeout, final boolean followRedirects, final CopyOption ... options) throws IOException {
+    return downloadFile(fromUrl, toFile, connectTimeout, readTimeout, followRedirects, null, null, false, null, options);
+  }
+
+  /**
+   * Downloads a file from the specified {@link URL} to the provided {@link File} (with {@code followRedirects} turned on), consulting
+   * the provided {@link RedirectCache} to go straight to the target of a permanent redirect that was previously followed. If the
+   * provided {@code file} exists, its lastModified timestamp is used to specify the {@code If-Modified-Since} header in the GET
+   * request. Content is not downloaded if the file at the specified {@link URL} is not modified.
+   *
+   * @param fromUrl The {@link URL} from which to download.
+   * @param toFile The destination {@link File}.
+   * @param connectTimeout Sets a specified timeout value, in milliseconds, to be used when opening a communications link to the
+   *          resource referenced by the {@link URLConnection} to {@code fromUrl}. If the timeout expires before the connection can be
+   *          established, a {@link java.net.SocketTimeoutException} is raised. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param readTimeout Sets a specified timeout value, in milliseconds, to be used when opening a communications link to the resource
+   *          referenced by the {@link URLConnection} to {@code fromUrl}. If the timeout expires before the connection can be
+   *          established, a {@link java.net.SocketTimeoutException} is raised. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param redirectCache The {@link RedirectCache} of permanent redirects, or {@code null}.
+   * @param options Options specifying how the download should be done.
+   * @return The <b>closed</b> {@link HttpURLConnection} that was used to download the file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code fromUrl}, {@code toFile}, or {@code options} is null.
+   * @throws IllegalArgumentException If the {@code connectTimeout} or {@code readTimeout} parameter is negative.
+   */
+  public static HttpURLConnection downloadFile(final URL fromUrl, final File toFile, final int connectTimeout, final int readTimeout, final RedirectCache redirectCache, final CopyOption ... options) throws IOException {
+    return downloadFile(fromUrl, toFile, connectTimeout, readTimeout, true, redirectCache, null, false, null, options);
+  }
+
+  /**
+   * Downloads a file from the specified {@link URL} to the provided {@link File} (with {@code followRedirects} turned on),
+   * negotiating the {@code gzip} and {@code deflate} content codings with the provided {@link ContentDecoder}. If the response is
+   * encoded, the file is stored decoded if {@code decode} is {@code true}, and otherwise it is stored as received, with the content
+   * coding of the returned {@link HttpURLConnection#getContentEncoding()}. If the provided {@code file} exists, its lastModified
+   * timestamp is used to specify the {@code If-Modified-Since} header in the GET request. Content is not downloaded if the file at the
+   * specified {@link URL} is not modified.
+   *
+   * @param fromUrl The {@link URL} from which to download.
+   * @param toFile The destination {@link File}.
+   * @param connectTimeout Sets a specified timeout value, in milliseconds, to be used when opening a communications link to the
+   *          resource referenced by the {@link URLConnection} to {@code fromUrl}. If the timeout expires before the connection can be
+   *          established, a {@link java.net.SocketTimeoutException} is raised. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param readTimeout Sets a specified timeout value, in milliseconds, to be used when opening a communications link to the resource
+   *          referenced by the {@link URLConnection} to {@code fromUrl}. If the timeout expires before the connection can be
+   *          established, a {@link java.net.SocketTimeoutException} is raised. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param decoder The {@link ContentDecoder} with which to negotiate and decode the content coding of the response.
+   * @param decode Whether an encoded response is to be stored decoded, or as received.
+   * @param options Options specifying how the download should be done.
+   * @return The <b>closed</b> {@link HttpURLConnection} that was used to download the file.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code fromUrl}, {@code toFile}, {@code decoder}, or {@code options} is null.
+   * @throws IllegalArgumentException If the {@code connectTimeout} or {@code readTimeout} parameter is negative.
+   */
+  public static HttpURLConnection downloadFile(final URL fromUrl, final File toFile, final int connectTimeout, final int readTimeout, final ContentDecoder decoder, final boolean decode, final CopyOption ... options) throws IOException {
+    return downloadFile(fromUrl, toFile, connectTimeout, readTimeout, true, null, assertNotNull(decoder), decode, null, options);
+  }
+
+  /**
+   * Downloads a file from the specified {@link URL} to the provided {@link File} (with {@code followRedirects} turned on)
+   * asynchronously on the default executor, which runs each download on a virtual thread on JDK 21 or later, or otherwise on a daemon
+   * thread of a cached thread pool. Cancelling the returned {@link CompletableFuture} aborts the download by disconnecting its
+   * connection. If the provided {@code file} exists, its lastModified timestamp is used to specify the {@code If-Modified-Since}
+   * header in the GET request. Content is not downloaded if the file at the specified {@link URL} is not modified.
+   *
+   * @param fromUrl The {@link URL} from which to download.
+   * @param toFile The destination {@link File}.
+   * @param options Options specifying how the download should be done.
+   * @return A {@link CompletableFuture} of the <b>closed</b> {@link HttpURLConnection} that was used to download the file.
+   * @throws NullPointerException If {@code fromUrl}, {@code toFile}, or {@code options} is null.
+   */
+  public static CompletableFuture<HttpURLConnection> downloadFileAsync(final URL fromUrl, final File toFile, final CopyOption ... options) {
+    return downloadFileAsync(fromUrl, toFile, 0, 0, null, 0, options);
+  }
+
+  /**
+   * Downloads a file from the specified {@link URL} to the provided {@link File} (with {@code followRedirects} turned on)
+   * asynchronously on the provided {@link Executor}. Cancelling the returned {@link CompletableFuture} aborts the download by
+   * disconnecting its connection. If the provided {@code file} exists, its lastModified timestamp is used to specify the
+   * {@code If-Modified-Since} header in the GET request. Content is not downloaded if the file at the specified {@link URL} is not
+   * modified.
+   *
+   * @param fromUrl The {@link URL} from which to download.
+   * @param toFile The destination {@link File}.
+   * @param connectTimeout Sets a specified timeout value, in milliseconds, to be used when opening a communications link to the
+   *          resource referenced by the {@link URLConnection} to {@code fromUrl}. If the timeout expires before the connection can be
+   *          established, a {@link java.net.SocketTimeoutException} is raised. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param readTimeout Sets a specified timeout value, in milliseconds, to be used when opening a communications link to the resource
+   *          referenced by the {@link URLConnection} to {@code fromUrl}. If the timeout expires before the connection can be
+   *          established, a {@link java.net.SocketTimeoutException} is raised. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param executor The {@link Executor} on which to download the file, or {@code null} for the default executor, which runs each
+   *          download on a virtual thread on JDK 21 or later, or otherwise on a daemon thread of a cached thread pool.
+   * @param timeout The deadline in milliseconds for the whole download, after which the returned {@link CompletableFuture} is
+   *          completed with a {@link java.util.concurrent.TimeoutException} and the download is aborted. A timeout of zero is
+   *          interpreted as an infinite timeout.
+   * @param options Options specifying how the download should be done.
+   * @return A {@link CompletableFuture} of the <b>closed</b> {@link HttpURLConnection} that was used to download the file.
+   * @throws NullPointerException If {@code fromUrl}, {@code toFile}, or {@code options} is null.
+   * @throws IllegalArgumentException If the {@code connectTimeout}, {@code readTimeout} or {@code timeout} parameter is negative.
+   */
+  public static CompletableFuture<HttpURLConnection> downloadFileAsync(final URL fromUrl, final File toFile, final int connectTimeout, final int readTimeout, final Executor executor, final long timeout, final CopyOption ... options) {
+    assertNotNull(fromUrl);
+    assertNotNull(toFile);
+    assertNotNull(options);
+    assertNotNegative(connectTimeout);
+    assertNotNegative(readTimeout);
+    return AsyncCall.run(executor, timeout, (final AsyncCall<HttpURLConnection> call) -> downloadFile(fromUrl, toFile, connectTimeout, readTimeout, true, null, null, false, call, options));
+  }
+
+  private static HttpURLConnection downloadFile(final URL fromUrl, final File toFile, final int connectTimeout, final int readTimeout, final boolean followRedirects, final RedirectCache redirectCache, final ContentDecoder decoder, final boolean decode, final AsyncCall<?> call, CopyOption ... options) throws IOException {
+    final HttpURLConnection connection = (HttpURLConnection)(followRedirects ? URLConnections.checkFollowRedirect(HttpTransports.openConnection(fromUrl), Integer.MAX_VALUE, (final HttpURLConnection c) -> {
+      beforeDownloadFile(c, connectTimeout, readTimeout, toFile);
+      if (decoder != null)
+        decoder.setAcceptEncoding(c);
+
+      if (call != null)
+        call.connect(c);
+    }, null, redirectCache) : HttpTransports.openConnection(fromUrl));
     try {
       if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-        try (final InputStream in = connection.getInputStream()) {
+        try (final InputStream in = decode ? decoder.getInputStream(connection) : connection.getInputStream()) {
           final int index = ArrayUtil.indexOf(options, StandardCopyOption.COPY_ATTRIBUTES);
           if (index > -1)
             options = ArrayUtil.splice(options, index, 1);
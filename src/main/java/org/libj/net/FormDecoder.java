@@ -0,0 +1,334 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A decoder of {@code application/x-www-form-urlencoded} data, which splits the data into parameters and decodes each name and
+ * value in a single pass, instead of parsing with {@link URIs#parseParameters(Map,String)} and then decoding each name and value
+ * with {@link URLs#decode(String,Charset)}.
+ * <p>
+ * The data is split into parameters in the same manner as by {@link URIs#parseParameters(Map,String)}, and the names and values are
+ * decoded as by {@link URLs#decode(String,Charset)}. The decoded parameters are written into a {@link Parameters} object, which can
+ * be reused for subsequent invocations of {@link #decode(String,Parameters)} (e.g. per thread), so that its arrays and scratch
+ * buffers are only allocated once.
+ * <p>
+ * To guard against hostile data, a {@link FormDecoder} enforces a maximum number of parameters, and a maximum length of each decoded
+ * name and value. These limits are checked while the data is scanned, so the memory used for decoding is bounded by the limits
+ * rather than by the length of the data. A {@link FormDecoder} is immutable, and is thus thread-safe.
+ */
+public class FormDecoder {
+  /** The default maximum number of parameters. */
+  public static final int DEFAULT_MAX_PARAMETERS = 1000;
+
+  /** The default maximum length of a decoded parameter name. */
+  public static final int DEFAULT_MAX_NAME_LENGTH = 1024;
+
+  /** The default maximum length of a decoded parameter value. */
+  public static final int DEFAULT_MAX_VALUE_LENGTH = 65536;
+
+  /**
+   * A reusable result of {@link FormDecoder#decode(String,Parameters)}, which holds the decoded names and values in the order they
+   * appear in the data. This class is not thread-safe.
+   */
+  public static final class Parameters {
+    private String[] names = new String[8];
+    private String[] values = new String[8];
+    private int size;
+    private char[] chars = new char[64];
+    private byte[] bytes = new byte[32];
+
+    /**
+     * Returns the number of parameters, including repeated names.
+     *
+     * @return The number of parameters, including repeated names.
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Returns the decoded name of the parameter at the provided index.
+     *
+     * @param index The index of the parameter, from {@code 0} to {@link #size()} (exclusive).
+     * @return The decoded name of the parameter at the provided index.
+     * @throws IndexOutOfBoundsException If {@code index} is negative, or not less than {@link #size()}.
+     */
+    public String getName(final int index) {
+      return names[checkIndex(index)];
+    }
+
+    /**
+     * Returns the decoded value of the parameter at the provided index, or {@code null} if the parameter does not have a value.
+     *
+     * @param index The index of the parameter, from {@code 0} to {@link #size()} (exclusive).
+     * @return The decoded value of the parameter at the provided index, or {@code null} if the parameter does not have a value.
+     * @throws IndexOutOfBoundsException If {@code index} is negative, or not less than {@link #size()}.
+     */
+    public String getValue(final int index) {
+      return values[checkIndex(index)];
+    }
+
+    /**
+     * Returns the decoded value of the first parameter with the provided name, or {@code null} if there is no such parameter, or if
+     * it does not have a value.
+     *
+     * @param name The decoded name of the parameter.
+     * @return The decoded value of the first parameter with the provided name, or {@code null} if there is no such parameter, or if
+     *         it does not have a value.
+     */
+    public String getFirst(final String name) {
+      for (int i = 0; i < size; ++i) // [A]
+        if (names[i].equals(name))
+          return values[i];
+
+      return null;
+    }
+
+    /**
+     * Adds the decoded parameters to the provided map, in the same form as {@link URIs#parseParameters(Map,String)}.
+     *
+     * @param <M> The type parameter of the map.
+     * @param map The map into which the decoded parameters are to be added.
+     * @return The provided map.
+     * @throws NullPointerException If {@code map} is null.
+     */
+    public <M extends Map<String,List<String>>> M toMap(final M map) {
+      Objects.requireNonNull(map);
+      for (int i = 0; i < size; ++i) { // [A]
+        List<String> values = map.get(names[i]);
+        if (values == null)
+          map.put(names[i], values = new ArrayList<>(2));
+
+        values.add(this.values[i]);
+      }
+
+      return map;
+    }
+
+    private int checkIndex(final int index) {
+      if (index < 0 || index >= size)
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+      return index;
+    }
+
+    private void clear() {
+      Arrays.fill(names, 0, size, null);
+      Arrays.fill(values, 0, size, null);
+      size = 0;
+    }
+
+    private void add(final String name, final String value) {
+      if (size == names.length) {
+        names = Arrays.copyOf(names, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+
+      names[size] = name;
+      values[size++] = value;
+    }
+
+    private char[] chars(final int capacity) {
+      return chars.length >= capacity ? chars : (chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2)));
+    }
+
+    private byte[] bytes(final int capacity) {
+      return bytes.length >= capacity ? bytes : (bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2)));
+    }
+  }
+
+  private final Charset charset;
+  private final boolean isUtf8;
+  private final int maxParameters;
+  private final int maxNameLength;
+  private final int maxValueLength;
+
+  /**
+   * Creates a new {@link FormDecoder} with the provided {@link Charset}, and the {@linkplain #DEFAULT_MAX_PARAMETERS default maximum
+   * number of parameters}, {@linkplain #DEFAULT_MAX_NAME_LENGTH default maximum name length}, and
+   * {@linkplain #DEFAULT_MAX_VALUE_LENGTH default maximum value length}.
+   *
+   * @param charset The {@link Charset} in which escaped octets are to be decoded.
+   * @throws NullPointerException If {@code charset} is null.
+   */
+  public FormDecoder(final Charset charset) {
+    this(charset, DEFAULT_MAX_PARAMETERS, DEFAULT_MAX_NAME_LENGTH, DEFAULT_MAX_VALUE_LENGTH);
+  }
+
+  /**
+   * Creates a new {@link FormDecoder} with the provided {@link Charset} and limits.
+   *
+   * @param charset The {@link Charset} in which escaped octets are to be decoded.
+   * @param maxParameters The maximum number of parameters, including repeated names.
+   * @param maxNameLength The maximum length of a decoded parameter name.
+   * @param maxValueLength The maximum length of a decoded parameter value.
+   * @throws NullPointerException If {@code charset} is null.
+   * @throws IllegalArgumentException If {@code maxParameters}, {@code maxNameLength} or {@code maxValueLength} is negative.
+   */
+  public FormDecoder(final Charset charset, final int maxParameters, final int maxNameLength, final int maxValueLength) {
+    this.charset = Objects.requireNonNull(charset);
+    this.isUtf8 = StandardCharsets.UTF_8.equals(charset);
+    if (maxParameters < 0)
+      throw new IllegalArgumentException("maxParameters (" + maxParameters + ") must be non-negative");
+
+    if (maxNameLength < 0)
+      throw new IllegalArgumentException("maxNameLength (" + maxNameLength + ") must be non-negative");
+
+    if (maxValueLength < 0)
+      throw new IllegalArgumentException("maxValueLength (" + maxValueLength + ") must be non-negative");
+
+    this.maxParameters = maxParameters;
+    this.maxNameLength = maxNameLength;
+    this.maxValueLength = maxValueLength;
+  }
+
+  /**
+   * Decodes the provided {@code application/x-www-form-urlencoded} data into the specified {@link Parameters}, replacing its prior
+   * contents.
+   *
+   * @param data The data to decode.
+   * @param parameters The {@link Parameters} into which the decoded parameters are to be written.
+   * @return The provided {@link Parameters}.
+   * @throws NullPointerException If {@code data} or {@code parameters} is null.
+   * @throws IllegalArgumentException If {@code data} contains an illegal escape sequence, or exceeds a limit of this
+   *           {@link FormDecoder}.
+   */
+  public Parameters decode(final String data, final Parameters parameters) {
+    return decode(data, 0, data.length(), parameters);
+  }
+
+  /**
+   * Decodes the {@code application/x-www-form-urlencoded} data in the provided {@link String} from index {@code start} (inclusive) to
+   * index {@code end} (exclusive) into the specified {@link Parameters}, replacing its prior contents.
+   *
+   * @param s The {@link String} containing the data to decode.
+   * @param start The start index of the data, inclusive.
+   * @param end The end index of the data, exclusive.
+   * @param parameters The {@link Parameters} into which the decoded parameters are to be written.
+   * @return The provided {@link Parameters}.
+   * @throws NullPointerException If {@code s} or {@code parameters} is null.
+   * @throws IndexOutOfBoundsException If {@code start} is negative, {@code end} is greater than the length of {@code s}, or
+   *           {@code start} is greater than {@code end}.
+   * @throws IllegalArgumentException If the data contains an illegal escape sequence, or exceeds a limit of this {@link FormDecoder}.
+   */
+  public Parameters decode(final String s, final int start, final int end, final Parameters parameters) {
+    if (start < 0 || end > s.length() || start > end)
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + s.length());
+
+    parameters.clear();
+    // The decoded chars of the current token are written to chars, whereby each '=' starts a new segment. Only the last two segments
+    // can become the name and value, so the earlier ones are discarded as soon as a new '=' is found
+    char[] chars = parameters.chars;
+    int n = 0;
+    int nameEnd = -1; // -1 if the current token does not (yet) have an '='
+    int limit = maxNameLength;
+    for (int i = start;;) { // [N]
+      final char ch = i < end ? s.charAt(i) : '&';
+      if (ch == '&') {
+        if (parameters.size == maxParameters)
+          throw new IllegalArgumentException("Number of parameters exceeds limit of " + maxParameters);
+
+        if (nameEnd == -1)
+          parameters.add(new String(chars, 0, n), null);
+        else
+          parameters.add(new String(chars, 0, nameEnd), new String(chars, nameEnd, n - nameEnd));
+
+        if (++i > end)
+          return parameters;
+
+        n = 0;
+        nameEnd = -1;
+        limit = maxNameLength;
+      }
+      else if (ch == '=') {
+        if (nameEnd != -1) {
+          // The value so far becomes the name
+          if (n - nameEnd > maxNameLength)
+            throw new IllegalArgumentException("Length of parameter name exceeds limit of " + maxNameLength);
+
+          System.arraycopy(chars, nameEnd, chars, 0, n -= nameEnd);
+        }
+
+        nameEnd = n;
+        limit = maxValueLength;
+        ++i;
+      }
+      else if (ch == '%') {
+        // Collect the run of consecutive escapes, because a multi-byte character spans several of them. A decoded char takes at most
+        // 4 bytes, so the run is bounded by the remaining length of the segment
+        final int maxBytes = (int)Math.min(Integer.MAX_VALUE, 4L * (limit - (n - Math.max(nameEnd, 0))) + 4);
+        byte[] bytes = parameters.bytes;
+        int b = 0;
+        do {
+          if (i + 2 >= end)
+            throw new IllegalArgumentException("Invalid URL encoding: Incomplete trailing escape (%) pattern");
+
+          if (b == maxBytes)
+            throw lengthExceeded(nameEnd);
+
+          if (b == bytes.length)
+            bytes = parameters.bytes(b + 1);
+
+          bytes[b++] = (byte)((URLs.digit16(s.charAt(i + 1)) << 4) | URLs.digit16(s.charAt(i + 2)));
+          i += 3;
+        }
+        while (i < end && s.charAt(i) == '%');
+
+        chars = parameters.chars(n + b);
+        final int m = isUtf8 ? URLs.decodeUtf8(bytes, b, chars, n) : -1;
+        if (m != -1) {
+          n = m;
+        }
+        else {
+          final CharBuffer decoded = charset.decode(ByteBuffer.wrap(bytes, 0, b));
+          final int remaining = decoded.remaining();
+          chars = parameters.chars(n + remaining);
+          decoded.get(chars, n, remaining);
+          n += remaining;
+        }
+
+        if (n - Math.max(nameEnd, 0) > limit)
+          throw lengthExceeded(nameEnd);
+      }
+      else {
+        if (n - Math.max(nameEnd, 0) == limit)
+          throw lengthExceeded(nameEnd);
+
+        if (n == chars.length)
+          chars = parameters.chars(n + 1);
+
+        chars[n++] = ch == '+' ? ' ' : ch;
+        ++i;
+      }
+    }
+  }
+
+  private IllegalArgumentException lengthExceeded(final int nameEnd) {
+    return new IllegalArgumentException(nameEnd == -1 ? "Length of parameter name exceeds limit of " + maxNameLength
+      : "Length of parameter value exceeds limit of " + maxValueLength);
+  }
+}
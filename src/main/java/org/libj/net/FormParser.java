@@ -0,0 +1,318 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+/**
+ * An incremental parser of {@code application/x-www-form-urlencoded} bodies, which consumes the body chunk by chunk, and emits each
+ * parameter to a {@link Handler} as soon as it is complete. Only the name and value of the current parameter are buffered, so a body
+ * of any length is parsed in memory that is bounded by the maximum name and value lengths. A parameter, or an escape sequence, may
+ * span any number of chunks.
+ * <p>
+ * The body is split into parameters in the same manner as by {@link FormDecoder}, whereby escaped octets are decoded in the
+ * {@link Charset} provided at construction. The {@link Handler} can stop the parsing (e.g. once the fields it wants have been found)
+ * by returning {@code false}, after which the rest of the body is not read.
+ * <p>
+ * A body can be parsed from a blocking {@link InputStream} with {@link #parse(InputStream)}, from a non-blocking
+ * {@link ServletInputStream} with {@link #parse(ServletInputStream,Consumer)}, or by feeding the chunks directly to
+ * {@link #write(byte[],int,int)} followed by {@link #finish()}. This class is not thread-safe.
+ */
+public class FormParser {
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * A handler of the parameters emitted by a {@link FormParser}.
+   */
+  @FunctionalInterface
+  public interface Handler {
+    /**
+     * Called for each parameter, in the order they appear in the body.
+     *
+     * @param name The decoded name of the parameter.
+     * @param value The decoded value of the parameter, or {@code null} if the parameter does not have a value.
+     * @return Whether the parsing is to continue.
+     */
+    boolean onParameter(String name, String value);
+  }
+
+  private final Charset charset;
+  private final int maxNameLength;
+  private final int maxValueLength;
+  private final Handler handler;
+
+  private byte[] name = new byte[64];
+  private byte[] value = new byte[64];
+  private int nameLength;
+  private int valueLength;
+  private boolean hasValue;
+  // 0 if not in an escape sequence, 1 after the '%', and 2 after the first hexadecimal digit
+  private int escape;
+  private int high;
+  private boolean stopped;
+
+  /**
+   * Creates a new {@link FormParser} with the provided {@link Charset}, {@link Handler}, and the
+   * {@linkplain FormDecoder#DEFAULT_MAX_NAME_LENGTH default maximum name length} and
+   * {@linkplain FormDecoder#DEFAULT_MAX_VALUE_LENGTH default maximum value length}.
+   *
+   * @param charset The {@link Charset} in which escaped octets are to be decoded.
+   * @param handler The {@link Handler} to which parameters are to be emitted.
+   * @throws NullPointerException If {@code charset} or {@code handler} is null.
+   */
+  public FormParser(final Charset charset, final Handler handler) {
+    this(charset, FormDecoder.DEFAULT_MAX_NAME_LENGTH, FormDecoder.DEFAULT_MAX_VALUE_LENGTH, handler);
+  }
+
+  /**
+   * Creates a new {@link FormParser} with the provided {@link Charset}, limits, and {@link Handler}.
+   *
+   * @param charset The {@link Charset} in which escaped octets are to be decoded.
+   * @param maxNameLength The maximum length of a parameter name, in decoded octets.
+   * @param maxValueLength The maximum length of a parameter value, in decoded octets.
+   * @param handler The {@link Handler} to which parameters are to be emitted.
+   * @throws NullPointerException If {@code charset} or {@code handler} is null.
+   * @throws IllegalArgumentException If {@code maxNameLength} or {@code maxValueLength} is negative.
+   */
+  public FormParser(final Charset charset, final int maxNameLength, final int maxValueLength, final Handler handler) {
+    this.charset = Objects.requireNonNull(charset);
+    this.handler = Objects.requireNonNull(handler);
+    if (maxNameLength < 0)
+      throw new IllegalArgumentException("maxNameLength (" + maxNameLength + ") must be non-negative");
+
+    if (maxValueLength < 0)
+      throw new IllegalArgumentException("maxValueLength (" + maxValueLength + ") must be non-negative");
+
+    this.maxNameLength = maxNameLength;
+    this.maxValueLength = maxValueLength;
+  }
+
+  /**
+   * Parses the body in the provided {@link InputStream} until its end, or until the {@link Handler} stops the parsing. The
+   * {@link InputStream} is not closed.
+   *
+   * @param in The {@link InputStream} of the body.
+   * @return Whether the entire body was parsed, or {@code false} if the {@link Handler} stopped the parsing.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code in} is null.
+   * @throws IllegalArgumentException If the body contains an illegal escape sequence, or exceeds a limit of this {@link FormParser}.
+   */
+  public boolean parse(final InputStream in) throws IOException {
+    final byte[] buf = new byte[BUFFER_SIZE];
+    for (int n; (n = in.read(buf)) != -1;) // [X]
+      if (!write(buf, 0, n))
+        break;
+
+    return finish();
+  }
+
+  /**
+   * Parses the body in the provided {@link ServletInputStream} without blocking, by setting a {@link ReadListener} that parses each
+   * chunk as it becomes available. The {@code onComplete} callback is invoked once when the entire body is parsed, or when the
+   * {@link Handler} stops the parsing (with {@code null}), or when an error has occurred (with the error).
+   *
+   * @param in The {@link ServletInputStream} of the body.
+   * @param onComplete The callback to be invoked with {@code null} upon completion, or with the error that has occurred.
+   * @throws NullPointerException If {@code in} or {@code onComplete} is null.
+   * @throws IllegalStateException If the request is not in asynchronous mode, or if a {@link ReadListener} is already set.
+   */
+  public void parse(final ServletInputStream in, final Consumer<Throwable> onComplete) {
+    Objects.requireNonNull(onComplete);
+    in.setReadListener(new ReadListener() {
+      private final byte[] buf = new byte[BUFFER_SIZE];
+      private boolean done;
+
+      private void complete(final Throwable t) {
+        if (!done) {
+          done = true;
+          onComplete.accept(t);
+        }
+      }
+
+      @Override
+      public void onDataAvailable() throws IOException {
+        try {
+          for (int n; !done && in.isReady() && (n = in.read(buf)) != -1;) // [X]
+            if (!write(buf, 0, n))
+              onAllDataRead();
+        }
+        catch (final IllegalArgumentException e) {
+          complete(e);
+        }
+      }
+
+      @Override
+      public void onAllDataRead() {
+        if (!done) {
+          try {
+            finish();
+            complete(null);
+          }
+          catch (final IllegalArgumentException e) {
+            complete(e);
+          }
+        }
+      }
+
+      @Override
+      public void onError(final Throwable t) {
+        complete(t);
+      }
+    });
+  }
+
+  /**
+   * Parses the provided chunk of the body, emitting each parameter that it completes.
+   *
+   * @param b The array containing the chunk.
+   * @param off The start offset of the chunk in {@code b}.
+   * @param len The length of the chunk.
+   * @return Whether the parsing is to continue, or {@code false} if the {@link Handler} has stopped the parsing, in which case
+   *         further chunks are ignored.
+   * @throws NullPointerException If {@code b} is null.
+   * @throws IndexOutOfBoundsException If {@code off} or {@code len} is negative, or {@code off + len} is greater than the length of
+   *           {@code b}.
+   * @throws IllegalArgumentException If the chunk contains an illegal escape sequence, or exceeds a limit of this {@link FormParser},
+   *           in which case this {@link FormParser} is reset to parse another body.
+   */
+  public boolean write(final byte[] b, final int off, final int len) {
+    if (off < 0 || len < 0 || off + len > b.length)
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + b.length);
+
+    if (stopped)
+      return false;
+
+    try {
+      for (int i = off, end = off + len; i < end; ++i) { // [A]
+        final byte ch = b[i];
+        if (escape != 0) {
+          final int digit = ch >= 0 ? URLs.HEX_DIGITS[ch] : -1;
+          if (digit == -1)
+            throw new IllegalArgumentException("Invalid URL encoding: not a valid digit (radix 16): " + (ch & 0xff));
+
+          if (escape == 1) {
+            high = digit;
+            escape = 2;
+          }
+          else {
+            append((byte)(high << 4 | digit));
+            escape = 0;
+          }
+        }
+        else if (ch == '&') {
+          if (!emit())
+            return false;
+        }
+        else if (ch == '=') {
+          if (hasValue) {
+            // The value so far becomes the name
+            if (valueLength > maxNameLength)
+              throw new IllegalArgumentException("Length of parameter name exceeds limit of " + maxNameLength);
+
+            final byte[] tmp = name;
+            name = value;
+            value = tmp;
+            nameLength = valueLength;
+            valueLength = 0;
+          }
+
+          hasValue = true;
+        }
+        else if (ch == '%') {
+          escape = 1;
+        }
+        else {
+          append(ch == '+' ? (byte)' ' : ch);
+        }
+      }
+    }
+    catch (final IllegalArgumentException e) {
+      reset();
+      throw e;
+    }
+
+    return true;
+  }
+
+  /**
+   * Signals the end of the body, and emits its last parameter. After this method returns, this {@link FormParser} can be used to
+   * parse another body.
+   *
+   * @return Whether the entire body was parsed, or {@code false} if the {@link Handler} stopped the parsing.
+   * @throws IllegalArgumentException If the body ends with an incomplete escape sequence.
+   */
+  public boolean finish() {
+    try {
+      if (stopped)
+        return false;
+
+      if (escape != 0)
+        throw new IllegalArgumentException("Invalid URL encoding: Incomplete trailing escape (%) pattern");
+
+      return emit();
+    }
+    finally {
+      reset();
+    }
+  }
+
+  private void reset() {
+    nameLength = 0;
+    valueLength = 0;
+    hasValue = false;
+    escape = 0;
+    stopped = false;
+  }
+
+  private void append(final byte ch) {
+    if (hasValue) {
+      if (valueLength == maxValueLength)
+        throw new IllegalArgumentException("Length of parameter value exceeds limit of " + maxValueLength);
+
+      if (valueLength == value.length)
+        value = Arrays.copyOf(value, Math.min(valueLength * 2, maxValueLength));
+
+      value[valueLength++] = ch;
+    }
+    else {
+      if (nameLength == maxNameLength)
+        throw new IllegalArgumentException("Length of parameter name exceeds limit of " + maxNameLength);
+
+      if (nameLength == name.length)
+        name = Arrays.copyOf(name, Math.min(nameLength * 2, maxNameLength));
+
+      name[nameLength++] = ch;
+    }
+  }
+
+  private boolean emit() {
+    final String n = new String(name, 0, nameLength, charset);
+    final String v = hasValue ? new String(value, 0, valueLength, charset) : null;
+    nameLength = 0;
+    valueLength = 0;
+    hasValue = false;
+    return !(stopped = !handler.onParameter(n, v));
+  }
+}
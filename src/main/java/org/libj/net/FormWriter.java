@@ -0,0 +1,204 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A writer of {@code application/x-www-form-urlencoded} bodies, which encodes each parameter name and value directly to an
+ * {@link OutputStream} in a specified {@link Charset}, without creating the body as a {@link String}. The names and values are
+ * encoded as by {@link URLs#encode(String,Charset)}, and the encoded form (which is entirely ASCII) is buffered in a small byte
+ * array before being written to the underlying {@link OutputStream}.
+ * <p>
+ * The {@link #length(Map,Charset)} method computes the length of the encoded body without creating it, so that it can be streamed
+ * with a fixed length (e.g. with {@link java.net.HttpURLConnection#setFixedLengthStreamingMode(long)}).
+ */
+public class FormWriter implements Closeable, Flushable {
+  private static final int BUFFER_SIZE = 8192;
+
+  /** An {@link Appendable} of ASCII characters, which either counts them, or buffers them as bytes for an {@link OutputStream}. */
+  private static final class Sink implements Appendable {
+    private final OutputStream out;
+    private final byte[] buf;
+    private int count;
+    private long length;
+
+    private Sink(final OutputStream out) {
+      this.out = out;
+      this.buf = out == null ? null : new byte[BUFFER_SIZE];
+    }
+
+    @Override
+    public Sink append(final char c) throws IOException {
+      ++length;
+      if (out != null) {
+        if (count == buf.length)
+          flushBuffer();
+
+        buf[count++] = (byte)c;
+      }
+
+      return this;
+    }
+
+    @Override
+    public Sink append(final CharSequence csq) throws IOException {
+      return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Sink append(final CharSequence csq, final int start, final int end) throws IOException {
+      if (out == null) {
+        length += end - start;
+      }
+      else {
+        for (int i = start; i < end; ++i) // [N]
+          append(csq.charAt(i));
+      }
+
+      return this;
+    }
+
+    private void flushBuffer() throws IOException {
+      if (count > 0) {
+        out.write(buf, 0, count);
+        count = 0;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of bytes of the {@code application/x-www-form-urlencoded} body of the provided parameters encoded in the
+   * specified {@link Charset}, as would be written by {@link #write(Map)}.
+   *
+   * @param parameters The parameters, or {@code null} for an empty body.
+   * @param charset The {@link Charset} in which the parameter names and values are to be encoded.
+   * @return The number of bytes of the {@code application/x-www-form-urlencoded} body of the provided parameters.
+   * @throws NullPointerException If {@code charset} is null, or if a parameter name or value is null.
+   */
+  public static long length(final Map<String,String[]> parameters, final Charset charset) {
+    final FormWriter writer = new FormWriter(new Sink(null), charset);
+    try {
+      writer.write(parameters);
+    }
+    catch (final IOException e) {
+      // Not thrown when counting
+      throw new IllegalStateException(e);
+    }
+
+    return writer.sink.length;
+  }
+
+  private final Sink sink;
+  private final Charset charset;
+  private int count;
+
+  private FormWriter(final Sink sink, final Charset charset) {
+    this.sink = sink;
+    this.charset = Objects.requireNonNull(charset);
+  }
+
+  /**
+   * Creates a new {@link FormWriter} that writes to the provided {@link OutputStream}.
+   *
+   * @param out The {@link OutputStream} to which the encoded body is to be written.
+   * @param charset The {@link Charset} in which the parameter names and values are to be encoded.
+   * @throws NullPointerException If {@code out} or {@code charset} is null.
+   */
+  public FormWriter(final OutputStream out, final Charset charset) {
+    this(new Sink(Objects.requireNonNull(out)), charset);
+  }
+
+  /**
+   * Writes the provided parameter name and value, preceded by {@code '&'} if this is not the first parameter written.
+   *
+   * @param name The parameter name.
+   * @param value The parameter value.
+   * @return This {@link FormWriter}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code name} or {@code value} is null.
+   */
+  public FormWriter write(final String name, final String value) throws IOException {
+    if (count++ > 0)
+      sink.append('&');
+
+    PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, name, charset, sink).append('=');
+    PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, value, charset, sink);
+    return this;
+  }
+
+  /**
+   * Writes the provided parameters, whereby each value of a parameter is written as a separate name and value pair. The written body
+   * is the same as that returned by {@link HTTP#createQuery(Map,String)}.
+   *
+   * @param parameters The parameters, or {@code null} to write nothing.
+   * @return This {@link FormWriter}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If a parameter name or value is null.
+   */
+  public FormWriter write(final Map<String,String[]> parameters) throws IOException {
+    if (parameters != null) {
+      for (final Map.Entry<String,String[]> entry : parameters.entrySet()) { // [S]
+        final String name = entry.getKey();
+        final String[] values = entry.getValue();
+        if (values.length == 0) {
+          // A parameter without values contributes only its '&' separator, as does HTTP.createQuery(Map,String)
+          if (count++ > 0)
+            sink.append('&');
+        }
+        else {
+          for (final String value : values) // [A]
+            write(name, value);
+        }
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Writes the buffered bytes to the underlying {@link OutputStream}, and flushes it.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void flush() throws IOException {
+    sink.flushBuffer();
+    sink.out.flush();
+  }
+
+  /**
+   * Writes the buffered bytes to the underlying {@link OutputStream}, and closes it.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      sink.flushBuffer();
+    }
+    finally {
+      sink.out.close();
+    }
+  }
+}
@@ -16,18 +16,24 @@
 
 package org.libj.net;
 
+import static org.libj.lang.Assertions.*;
+
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
-import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.libj.util.function.ThrowingConsumer;
 
 /**
  * Utility functions pertaining to the {@link HTTP} protocol.
@@ -77,7 +83,7 @@ public final class HTTP {
    * @throws UnsupportedEncodingException If the provided charset is not supported.
    */
   public static InputStream getAsStream(final String url, final Map<String,String[]> parameters, final String charset) throws IOException, UnsupportedEncodingException {
-    return URLConnections.checkFollowRedirect(get(url, parameters, charset).openConnection(), (final HttpURLConnection c) -> c.setUseCaches(false)).getInputStream();
+    return URLConnections.checkFollowRedirect(HttpTransports.openConnection(get(url, parameters, charset)), (final HttpURLConnection c) -> c.setUseCaches(false)).getInputStream();
   }
 
   /**
@@ -90,9 +96,81 @@ public final class HTTP {
    * @throws IOException If an I/O error has occurred.
    * @throws NullPointerException If {@code url} is null.
    * @throws UnsupportedEncodingException If the provided charset is not supported.
+   * @see RequestCoalescer
+   * @see HttpCache
    */
   public static InputStream getAsStream(final URL url) throws IOException, UnsupportedEncodingException {
-    return URLConnections.checkFollowRedirect(url.openConnection(), (final HttpURLConnection c) -> c.setUseCaches(false)).getInputStream();
+    return getAsStream(url, null);
+  }
+
+  /**
+   * Invoke a GET request on the specified {@link URL}, consulting the provided {@link RedirectCache} to go straight to the target of
+   * a permanent redirect that was previously followed. It is highly recommended to close the obtained {@link InputStream} after
+   * processing.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param redirectCache The {@link RedirectCache} of permanent redirects, or {@code null}.
+   * @return The result of the GET request as an InputStream.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static InputStream getAsStream(final URL url, final RedirectCache redirectCache) throws IOException {
+    return URLConnections.checkFollowRedirect(HttpTransports.openConnection(url), Integer.MAX_VALUE, (final HttpURLConnection c) -> c.setUseCaches(false), null, redirectCache).getInputStream();
+  }
+
+  /**
+   * Invoke a GET request on the specified {@link URL} with a permit of the provided {@link HttpRouteLimiter}, consulting the provided
+   * {@link RedirectCache} to go straight to the target of a permanent redirect that was previously followed. The permit is released
+   * when the obtained {@link InputStream} is read to its end or is closed, so it is highly recommended to close the obtained
+   * {@link InputStream} after processing.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param redirectCache The {@link RedirectCache} of permanent redirects, or {@code null}.
+   * @param limiter The {@link HttpRouteLimiter} of which to acquire a permit, or {@code null}.
+   * @return The result of the GET request as an InputStream.
+   * @throws IOException If an I/O error has occurred, or if no permit is released by the limiter within its timeout.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static InputStream getAsStream(final URL url, final RedirectCache redirectCache, final HttpRouteLimiter limiter) throws IOException {
+    return getAsStream(url, redirectCache, limiter, null);
+  }
+
+  /**
+   * Invoke a GET request on the specified {@link URL} with a permit of the provided {@link HttpRouteLimiter}, consulting the provided
+   * {@link RedirectCache} to go straight to the target of a permanent redirect that was previously followed, and negotiating the
+   * {@code gzip} and {@code deflate} content codings with the provided {@link ContentDecoder}, which decodes the obtained
+   * {@link InputStream} if the response is encoded. It is highly recommended to close the obtained {@link InputStream} after
+   * processing, which releases its permit and {@link java.util.zip.Inflater}.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param redirectCache The {@link RedirectCache} of permanent redirects, or {@code null}.
+   * @param limiter The {@link HttpRouteLimiter} of which to acquire a permit, or {@code null}.
+   * @param decoder The {@link ContentDecoder} with which to negotiate and decode the content coding of the response, or
+   *          {@code null}.
+   * @return The result of the GET request as an InputStream.
+   * @throws IOException If an I/O error has occurred, or if no permit is released by the limiter within its timeout.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static InputStream getAsStream(final URL url, final RedirectCache redirectCache, final HttpRouteLimiter limiter, final ContentDecoder decoder) throws IOException {
+    if (limiter == null)
+      return getInputStream(get(url, redirectCache, decoder, null), decoder);
+
+    return limiter.getInputStream((final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) -> getInputStream(get(url, redirectCache, decoder, beforeConnect), decoder));
+  }
+
+  private static URLConnection get(final URL url, final RedirectCache redirectCache, final ContentDecoder decoder, final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) throws IOException {
+    return URLConnections.checkFollowRedirect(HttpTransports.openConnection(url), Integer.MAX_VALUE, (final HttpURLConnection c) -> {
+      c.setUseCaches(false);
+      if (decoder != null)
+        decoder.setAcceptEncoding(c);
+
+      if (beforeConnect != null)
+        beforeConnect.accept(c);
+    }, null, redirectCache);
+  }
+
+  private static InputStream getInputStream(final URLConnection connection, final ContentDecoder decoder) throws IOException {
+    return decoder != null ? decoder.getInputStream(connection) : connection.getInputStream();
   }
 
   /**
@@ -112,6 +190,36 @@ public final class HTTP {
     return new URL(url + "?" + createQuery(parameters, charset));
   }
 
+  /**
+   * Create an {@link URL} for a GET request of the provided {@link QueryTemplate} with the specified values.
+   *
+   * @param template The {@link QueryTemplate} of the URL and the names of its query parameters.
+   * @param values The values of the query parameters, in the order of the names of the {@link QueryTemplate}.
+   * @return An {@link URL} for a GET request of the provided {@link QueryTemplate} with the specified values.
+   * @throws MalformedURLException If the resulting URL is invalid.
+   * @throws NullPointerException If {@code template} or {@code values} is null.
+   * @throws IllegalArgumentException If the number of values is not equal to {@link QueryTemplate#size()}.
+   */
+  public static URL get(final QueryTemplate template, final String ... values) throws MalformedURLException {
+    return template.toURL(values);
+  }
+
+  /**
+   * Invoke a GET request of the provided {@link QueryTemplate} with the specified values. It is highly recommended to close the
+   * obtained {@link InputStream} after processing.
+   *
+   * @param template The {@link QueryTemplate} of the URL and the names of its query parameters.
+   * @param values The values of the query parameters, in the order of the names of the {@link QueryTemplate}.
+   * @return The result of the GET request as an InputStream.
+   * @throws MalformedURLException If the resulting URL is invalid.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code template} or {@code values} is null.
+   * @throws IllegalArgumentException If the number of values is not equal to {@link QueryTemplate#size()}.
+   */
+  public static InputStream getAsStream(final QueryTemplate template, final String ... values) throws IOException {
+    return getAsStream(template.toURL(values));
+  }
+
   /**
    * Invoke a POST request on the specified {@link URL} with the provided parameter map which will be encoded as UTF-8. It is highly
    * recommended to close the obtained {@link InputStream} after processing.
@@ -152,17 +260,118 @@ public final class HTTP {
    * @param properties The request properties to be processed as header properties.
    * @param cookies The cookies to be injected into the header.
    * @return The result of the POST request as an InputStream.
+   * @implNote The parameters are encoded directly to the connection's {@link java.io.OutputStream} by a {@link FormWriter}. For an
+   *           {@link HttpURLConnection}, the exact length of the body is computed beforehand, and the request is streamed in
+   *           {@linkplain HttpURLConnection#setFixedLengthStreamingMode(long) fixed-length streaming mode}, so the body is never held
+   *           in memory.
    * @throws MalformedURLException If the specified {@link URL} is invalid.
    * @throws IOException If an I/O error has occurred.
    * @throws NullPointerException If {@code url} is null.
    */
   public static InputStream postAsStream(final URL url, final Map<String,String[]> parameters, final Map<String,String> properties, final List<String> cookies) throws IOException {
+    return post(url, parameters, properties, cookies, null).getInputStream();
+  }
+
+  /**
+   * Invoke a POST request on the specified {@link URL} with the provided parameter map which will be encoded as UTF-8, with a permit
+   * of the provided {@link HttpRouteLimiter}. The permit is released when the obtained {@link InputStream} is read to its end or is
+   * closed, so it is highly recommended to close the obtained {@link InputStream} after processing.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param parameters The parameters to be processed as query parameters.
+   * @param properties The request properties to be processed as header properties.
+   * @param cookies The cookies to be injected into the header.
+   * @param limiter The {@link HttpRouteLimiter} of which to acquire a permit, or {@code null}.
+   * @return The result of the POST request as an InputStream.
+   * @throws IOException If an I/O error has occurred, or if no permit is released by the limiter within its timeout.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static InputStream postAsStream(final URL url, final Map<String,String[]> parameters, final Map<String,String> properties, final List<String> cookies, final HttpRouteLimiter limiter) throws IOException {
+    if (limiter == null)
+      return postAsStream(url, parameters, properties, cookies);
+
+    return limiter.getInputStream((final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) -> post(url, parameters, properties, cookies, beforeConnect).getInputStream());
+  }
+
+  /**
+   * Invoke a GET request on the specified {@link URL} asynchronously on the default executor, which runs each request on a virtual
+   * thread on JDK 21 or later, or otherwise on a daemon thread of a cached thread pool. Cancelling the returned
+   * {@link CompletableFuture} aborts the request by disconnecting its connection.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @return A {@link CompletableFuture} of the body of the response of the GET request.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static CompletableFuture<byte[]> getAsync(final URL url) {
+    return getAsync(url, null, 0);
+  }
+
+  /**
+   * Invoke a GET request on the specified {@link URL} asynchronously on the provided {@link Executor}. Cancelling the returned
+   * {@link CompletableFuture} aborts the request by disconnecting its connection.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param executor The {@link Executor} on which to invoke the request, or {@code null} for the default executor, which runs each
+   *          request on a virtual thread on JDK 21 or later, or otherwise on a daemon thread of a cached thread pool.
+   * @param timeout The deadline in milliseconds for the whole exchange, after which the returned {@link CompletableFuture} is
+   *          completed with a {@link java.util.concurrent.TimeoutException} and the request is aborted. A timeout of zero is
+   *          interpreted as an infinite timeout.
+   * @return A {@link CompletableFuture} of the body of the response of the GET request.
+   * @throws NullPointerException If {@code url} is null.
+   * @throws IllegalArgumentException If {@code timeout} is negative.
+   */
+  public static CompletableFuture<byte[]> getAsync(final URL url, final Executor executor, final long timeout) {
+    assertNotNull(url);
+    return AsyncCall.run(executor, timeout, (final AsyncCall<byte[]> call) -> AsyncCall.readAll(URLConnections.checkFollowRedirect(HttpTransports.openConnection(url), (final HttpURLConnection c) -> {
+      c.setUseCaches(false);
+      call.connect(c);
+    }).getInputStream()));
+  }
+
+  /**
+   * Invoke a POST request on the specified {@link URL} with the provided parameter map which will be encoded as UTF-8, asynchronously
+   * on the default executor, which runs each request on a virtual thread on JDK 21 or later, or otherwise on a daemon thread of a
+   * cached thread pool. Cancelling the returned {@link CompletableFuture} aborts the request by disconnecting its connection.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param parameters The parameters to be processed as query parameters.
+   * @return A {@link CompletableFuture} of the body of the response of the POST request.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static CompletableFuture<byte[]> postAsync(final URL url, final Map<String,String[]> parameters) {
+    return postAsync(url, parameters, null, null, null, 0);
+  }
+
+  /**
+   * Invoke a POST request on the specified {@link URL} with the provided parameter map which will be encoded as UTF-8, asynchronously
+   * on the provided {@link Executor}. Cancelling the returned {@link CompletableFuture} aborts the request by disconnecting its
+   * connection.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @param parameters The parameters to be processed as query parameters.
+   * @param properties The request properties to be processed as header properties.
+   * @param cookies The cookies to be injected into the header.
+   * @param executor The {@link Executor} on which to invoke the request, or {@code null} for the default executor, which runs each
+   *          request on a virtual thread on JDK 21 or later, or otherwise on a daemon thread of a cached thread pool.
+   * @param timeout The deadline in milliseconds for the whole exchange, after which the returned {@link CompletableFuture} is
+   *          completed with a {@link java.util.concurrent.TimeoutException} and the request is aborted. A timeout of zero is
+   *          interpreted as an infinite timeout.
+   * @return A {@link CompletableFuture} of the body of the response of the POST request.
+   * @throws NullPointerException If {@code url} is null.
+   * @throws IllegalArgumentException If {@code timeout} is negative.
+   */
+  public static CompletableFuture<byte[]> postAsync(final URL url, final Map<String,String[]> parameters, final Map<String,String> properties, final List<String> cookies, final Executor executor, final long timeout) {
+    assertNotNull(url);
+    return AsyncCall.run(executor, timeout, (final AsyncCall<byte[]> call) -> AsyncCall.readAll(post(url, parameters, properties, cookies, call::connect).getInputStream()));
+  }
+
+  private static URLConnection post(final URL url, final Map<String,String[]> parameters, final Map<String,String> properties, final List<String> cookies, final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) throws IOException {
     String charset = properties != null ? properties.get("accept-charset") : null;
     if (charset == null)
       charset = "UTF-8";
 
-    final String query = createQuery(parameters, charset);
-    final URLConnection urlConnection = url.openConnection();
+    final Charset cs = URLs.forName(charset);
+    final URLConnection urlConnection = HttpTransports.openConnection(url);
     urlConnection.setUseCaches(false);
     urlConnection.setDoOutput(true); // Triggers POST
     // urlConnection.setRequestProperty("content-type", "application/x-www-form-urlencoded");
@@ -175,11 +384,18 @@ public final class HTTP {
       urlConnection.setRequestProperty(cookie.getKey(), cookie.getValue());
     }
 
-    try (final OutputStreamWriter writer = new OutputStreamWriter(urlConnection.getOutputStream())) {
-      writer.write(query);
+    if (urlConnection instanceof HttpURLConnection) {
+      final HttpURLConnection httpURLConnection = (HttpURLConnection)urlConnection;
+      httpURLConnection.setFixedLengthStreamingMode(FormWriter.length(parameters, cs));
+      if (beforeConnect != null)
+        beforeConnect.accept(httpURLConnection);
+    }
+
+    try (final FormWriter writer = new FormWriter(urlConnection.getOutputStream(), cs)) {
+      writer.write(parameters);
     }
 
-    return urlConnection.getInputStream();
+    return urlConnection;
   }
 
   /**
@@ -190,37 +406,50 @@ public final class HTTP {
    * @return The parameter map as query string.
    * @throws NullPointerException If {@code charset} is null.
    * @throws UnsupportedEncodingException If the provided charset is not supported.
+   * @see QueryTemplate
    */
   public static String createQuery(final Map<String,String[]> parameters, final String charset) throws UnsupportedEncodingException {
     if (parameters == null || parameters.size() == 0)
       return "";
 
+    final Charset cs = URLs.forName(charset);
     final StringBuilder builder = new StringBuilder();
-    final Iterator<Map.Entry<String,String[]>> iterator = parameters.entrySet().iterator();
-    final StringBuilder temp = new StringBuilder();
-    for (int i = 0; iterator.hasNext(); ++i) { // [I]
-      final Map.Entry<String,String[]> entry = iterator.next();
-      final String name = entry.getKey();
-      final String[] values = entry.getValue();
-      if (i > 0)
-        builder.append('&');
-
-      for (int j = 0, j$ = values.length; j < j$; ++j) { // [A]
-        if (j > 0)
-          temp.append('&');
-
-        temp.append(URLEncoder.encode(name, charset));
-        temp.append('=');
-        temp.append(URLEncoder.encode(values[j], charset));
+    try {
+      // A ParameterMap is iterated over its flat arrays, without creating an entry or trimmed array for each name
+      final ParameterMap map = ParameterMap.of(parameters);
+      if (map != null) {
+        for (int i = 0, i$ = map.size(); i < i$; ++i) // [N]
+          appendParameter(builder, i, map.nameAt(i), map.valuesAt(i), map.countAt(i), cs);
       }
-
-      builder.append(temp);
-      temp.setLength(0);
+      else {
+        final Iterator<Map.Entry<String,String[]>> iterator = parameters.entrySet().iterator();
+        for (int i = 0; iterator.hasNext(); ++i) { // [I]
+          final Map.Entry<String,String[]> entry = iterator.next();
+          final String[] values = entry.getValue();
+          appendParameter(builder, i, entry.getKey(), values, values.length, cs);
+        }
+      }
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
 
     return builder.toString();
   }
 
+  private static void appendParameter(final StringBuilder builder, final int index, final String name, final String[] values, final int count, final Charset charset) throws IOException {
+    if (index > 0)
+      builder.append('&');
+
+    for (int j = 0; j < count; ++j) { // [A]
+      if (j > 0)
+        builder.append('&');
+
+      PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, name, charset, builder).append('=');
+      PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, values[j], charset, builder);
+    }
+  }
+
   private HTTP() {
   }
 }
\ No newline at end of file
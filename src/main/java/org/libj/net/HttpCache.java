@@ -0,0 +1,930 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A private HTTP cache (RFC 7234) of responses to GET requests, which are stored in a directory on the local filesystem. The cache
+ * is an {@link HttpTransport} that opens its connections over another {@link HttpTransport}, so that it is used by
+ * {@link HTTP#getAsStream(URL)}, {@link HTTP#getAsync(URL)}, {@link Downloads} and by each redirect followed by
+ * {@link URLConnections#checkFollowRedirect(URLConnection)} once it is
+ * {@linkplain HttpTransports#setDefault(HttpTransport) set as the default}:
+ *
+ * <pre>
+ * {@code
+ * HttpTransports.setDefault(new HttpCache(new File("cache"), 100 * 1024 * 1024));
+ * }
+ * </pre>
+ *
+ * A fresh response is served from the cache without a request. A stale response is revalidated with a conditional request of its
+ * {@code ETag} ({@code If-None-Match}) and {@code Last-Modified} ({@code If-Modified-Since}), and is served from the cache (with its
+ * headers updated) if the server responds with {@code 304 Not Modified}. The freshness of a response is given by the
+ * {@code max-age} directive of its {@code Cache-Control} header, or by its {@code Expires} header, or otherwise heuristically by 10%
+ * of the time since its {@code Last-Modified} date (of at most a day). A response with {@code Cache-Control: no-cache} is stored, but
+ * is revalidated on each request, and a response with {@code Cache-Control: no-store} or {@code Vary: *} is not stored. Requests
+ * with the {@code Cache-Control} directives {@code no-store}, {@code no-cache} and {@code max-age} are honored, and the responses
+ * are matched with the request headers named by their {@code Vary} header.
+ * <p>
+ * The cache is consulted regardless of {@link URLConnection#getUseCaches()}, which pertains to the {@link java.net.ResponseCache}
+ * of the JDK. Requests other than GET, and requests with their own conditional or {@code Range} headers, are sent over the other
+ * {@link HttpTransport} without being cached, and requests with methods other than GET and HEAD invalidate the response of their
+ * {@link URL}.
+ * <p>
+ * The total length of the stored bodies is limited to a maximum length, beyond which the least recently used responses are evicted.
+ * A body is written to a temporary file as it is read by the caller, and is stored only once it is read to its end. The index of
+ * the cache is rewritten in the background after a response is stored, updated or removed, by a single writer that coalesces the
+ * changes that are made while it writes, to a temporary file that atomically replaces it, so that the cache is restored to a
+ * consistent state (as of its last written index, or its last {@link #flush()}) when it is created after a crash, in which bodies
+ * that are missing or incomplete are dropped, and the body and temporary files of the cache that are not in the index are deleted
+ * (other files in the directory are left as they are). A directory must not be used by more than one {@link HttpCache} at a time.
+ */
+public final class HttpCache implements HttpTransport {
+  private static final int MAGIC = 0x48436332;
+  private static final String INDEX = "index";
+  private static final String BODY = ".body";
+  private static final String TEMP = ".tmp";
+  private static final long MAX_HEURISTIC_LIFETIME = 24 * 60 * 60 * 1000L;
+
+  /** The headers that pertain to a single connection, which are not stored (RFC 7230, Section 6.1). */
+  private static final Set<String> hopByHopHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  static {
+    Collections.addAll(hopByHopHeaders, "Connection", "Keep-Alive", "Proxy-Authenticate", "Proxy-Authorization", "Proxy-Connection", "TE", "Trailer", "Transfer-Encoding", "Upgrade");
+  }
+
+  /** A stored response, which is immutable. */
+  static final class Entry {
+    private final String key;
+    private final long id;
+    private final long length;
+    private final long requestTime;
+    private final long responseTime;
+    private final int status;
+    private final List<Map.Entry<String,String>> headers;
+    private final List<Map.Entry<String,String>> vary;
+
+    Entry(final String key, final long id, final long length, final long requestTime, final long responseTime, final int status, final List<Map.Entry<String,String>> headers, final List<Map.Entry<String,String>> vary) {
+      this.key = key;
+      this.id = id;
+      this.length = length;
+      this.requestTime = requestTime;
+      this.responseTime = responseTime;
+      this.status = status;
+      this.headers = headers;
+      this.vary = vary;
+    }
+
+    int getStatus() {
+      return status;
+    }
+
+    /**
+     * Returns the header fields of the response, of which the first is the status line with a {@code null} key.
+     */
+    List<Map.Entry<String,String>> getHeaders() {
+      return headers;
+    }
+
+    /**
+     * Returns the last value of the header field with the provided name, or {@code null} if there is none.
+     */
+    String getHeader(final String name) {
+      for (int i = headers.size() - 1; i > 0; --i) { // [RA]
+        final Map.Entry<String,String> header = headers.get(i);
+        if (name.equalsIgnoreCase(header.getKey()))
+          return header.getValue();
+      }
+
+      return null;
+    }
+
+    /**
+     * Returns whether the provided request headers match the request headers that are named by the {@code Vary} header of this
+     * response (RFC 7234, Section 4.1).
+     */
+    boolean matches(final Map<String,List<String>> requestHeaders) {
+      for (final Map.Entry<String,String> header : vary) // [L]
+        if (!Objects.equals(header.getValue(), joinValues(requestHeaders.get(header.getKey()))))
+          return false;
+
+      return true;
+    }
+
+    /**
+     * Returns whether this response may be served without revalidation at the provided time, for a request with the provided
+     * {@code Cache-Control} header.
+     */
+    boolean isFresh(final String requestCacheControl, final long now) {
+      final String cacheControl = joinHeaders(headers, "Cache-Control");
+      if (getDirective(cacheControl, "no-cache") != null)
+        return false;
+
+      final long date = getDate(getHeader("Date"), responseTime);
+      final long age = getCurrentAge(date, getHeader("Age"), requestTime, responseTime, now);
+      final String maxAge = getDirective(requestCacheControl, "max-age");
+      if (maxAge != null && age > parseSeconds(maxAge))
+        return false;
+
+      return getFreshnessLifetime(cacheControl, date, getHeader("Expires"), getHeader("Last-Modified")) > age;
+    }
+  }
+
+  /**
+   * Returns the value of the provided directive of the provided {@code Cache-Control} header, which is empty if the directive has no
+   * value, or {@code null} if the directive is absent.
+   */
+  static String getDirective(final String cacheControl, final String name) {
+    if (cacheControl == null)
+      return null;
+
+    for (int i = 0, len = cacheControl.length(); i < len;) { // [N]
+      int end = cacheControl.indexOf(',', i);
+      if (end == -1)
+        end = len;
+
+      final String directive = cacheControl.substring(i, end).trim();
+      i = end + 1;
+      final int eq = directive.indexOf('=');
+      if ((eq == -1 ? directive : directive.substring(0, eq).trim()).equalsIgnoreCase(name))
+        return eq == -1 ? "" : directive.substring(eq + 1).replace("\"", "").trim();
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the provided number of seconds in milliseconds, or {@code 0} if it is not a number.
+   */
+  private static long parseSeconds(final String seconds) {
+    try {
+      final long value = Long.parseLong(seconds.trim());
+      return value <= 0 ? 0 : value >= Long.MAX_VALUE / 1000 ? Long.MAX_VALUE : value * 1000;
+    }
+    catch (final NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the time in milliseconds since the epoch of the provided HTTP date, or the provided default value if the date is absent
+   * or is invalid.
+   */
+  static long getDate(final String date, final long defaultValue) {
+    if (date == null)
+      return defaultValue;
+
+    try {
+      return ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+    catch (final DateTimeParseException e) {
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Returns the freshness lifetime in milliseconds of a response with the provided headers (RFC 7234, Section 4.2.1).
+   */
+  static long getFreshnessLifetime(final String cacheControl, final long date, final String expires, final String lastModified) {
+    final String maxAge = getDirective(cacheControl, "max-age");
+    if (maxAge != null)
+      return parseSeconds(maxAge);
+
+    if (expires != null) {
+      // An invalid date (such as "0") represents a time in the past
+      final long time = getDate(expires, Long.MIN_VALUE);
+      return time == Long.MIN_VALUE ? 0 : Math.max(0, time - date);
+    }
+
+    final long time = getDate(lastModified, Long.MIN_VALUE);
+    return time == Long.MIN_VALUE || time > date ? 0 : Math.min((date - time) / 10, MAX_HEURISTIC_LIFETIME);
+  }
+
+  /**
+   * Returns the current age in milliseconds of a response with the provided {@code Date} and {@code Age} headers, which was
+   * requested and received at the provided times (RFC 7234, Section 4.2.3).
+   */
+  static long getCurrentAge(final long date, final String age, final long requestTime, final long responseTime, final long now) {
+    final long apparentAge = Math.max(0, responseTime - date);
+    final long correctedAge = (age != null ? parseSeconds(age) : 0) + (responseTime - requestTime);
+    return Math.max(apparentAge, correctedAge) + (now - responseTime);
+  }
+
+  /**
+   * Returns the values of the header fields with the provided name joined by commas, or {@code null} if there are none.
+   */
+  static String joinHeaders(final List<Map.Entry<String,String>> headers, final String name) {
+    StringBuilder builder = null;
+    String value = null;
+    for (int i = 1, i$ = headers.size(); i < i$; ++i) { // [RA]
+      final Map.Entry<String,String> header = headers.get(i);
+      if (name.equalsIgnoreCase(header.getKey())) {
+        if (value == null)
+          value = header.getValue();
+        else
+          (builder != null ? builder : (builder = new StringBuilder(value))).append(", ").append(header.getValue());
+      }
+    }
+
+    return builder != null ? builder.toString() : value;
+  }
+
+  private static String joinValues(final List<String> values) {
+    return values == null || values.isEmpty() ? null : String.join(", ", values);
+  }
+
+  /**
+   * Returns the names and values of the provided request headers that are named by the provided {@code Vary} header, or
+   * {@code null} if the response varies by {@code *}, and cannot be matched.
+   */
+  static List<Map.Entry<String,String>> getVary(final String vary, final Map<String,List<String>> requestHeaders) {
+    if (vary == null)
+      return Collections.emptyList();
+
+    final List<Map.Entry<String,String>> headers = new ArrayList<>();
+    for (final String name : vary.split(",")) { // [A]
+      final String trimmed = name.trim();
+      if ("*".equals(trimmed))
+        return null;
+
+      if (trimmed.length() > 0)
+        headers.add(new AbstractMap.SimpleImmutableEntry<>(trimmed, joinValues(requestHeaders.get(trimmed))));
+    }
+
+    return headers;
+  }
+
+  /**
+   * Returns whether a response with the provided status code may be stored without explicit freshness (RFC 7231, Section 6.1), of
+   * which those with a status of 200, 203, 300, 301, 308, 404 and 410 are stored by this cache.
+   */
+  static boolean isCacheable(final int status) {
+    return status == 200 || status == 203 || status == 300 || status == 301 || status == 308 || status == 404 || status == 410;
+  }
+
+  /**
+   * Returns the header fields of the provided response without the hop-by-hop header fields, of which the first is the status line
+   * with a {@code null} key.
+   */
+  static List<Map.Entry<String,String>> getEndToEndHeaders(final URLConnection connection) {
+    final List<Map.Entry<String,String>> headers = new ArrayList<>();
+    headers.add(new AbstractMap.SimpleImmutableEntry<>(null, connection.getHeaderField(0)));
+    for (int i = 1; true; ++i) { // [N]
+      final String value = connection.getHeaderField(i);
+      if (value == null)
+        break;
+
+      final String key = connection.getHeaderFieldKey(i);
+      if (key != null && !hopByHopHeaders.contains(key))
+        headers.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+    }
+
+    return headers;
+  }
+
+  private final File directory;
+  private final long maxLength;
+  private final HttpTransport transport;
+  private final LinkedHashMap<String,Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long length;
+  private long nextId;
+  private boolean dirty;
+  private final Object indexLock = new Object();
+  private final AtomicBoolean flushing = new AtomicBoolean();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder revalidations = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a new {@link HttpCache} in the provided directory, which opens its connections with {@link HttpTransports#URL_CONNECTION}.
+   * The responses that were stored in the directory are restored.
+   *
+   * @param directory The directory in which the responses are stored, which is created if it does not exist.
+   * @param maxLength The maximum total length of the bodies of the stored responses.
+   * @throws IOException If an I/O error has occurred creating the directory, or writing its index.
+   * @throws NullPointerException If {@code directory} is null.
+   * @throws IllegalArgumentException If {@code maxLength} is not positive.
+   */
+  public HttpCache(final File directory, final long maxLength) throws IOException {
+    this(directory, maxLength, HttpTransports.URL_CONNECTION);
+  }
+
+  /**
+   * Creates a new {@link HttpCache} in the provided directory, which opens its connections over the provided {@link HttpTransport}.
+   * The responses that were stored in the directory are restored.
+   *
+   * @param directory The directory in which the responses are stored, which is created if it does not exist.
+   * @param maxLength The maximum total length of the bodies of the stored responses.
+   * @param transport The {@link HttpTransport} over which connections are opened.
+   * @throws IOException If an I/O error has occurred creating the directory, or writing its index.
+   * @throws NullPointerException If {@code directory} or {@code transport} is null.
+   * @throws IllegalArgumentException If {@code maxLength} is not positive.
+   */
+  public HttpCache(final File directory, final long maxLength, final HttpTransport transport) throws IOException {
+    this.directory = Files.createDirectories(directory.toPath()).toFile();
+    this.maxLength = assertPositive(maxLength);
+    this.transport = assertNotNull(transport);
+    load();
+  }
+
+  /**
+   * Returns a new {@link URLConnection} to the provided {@link URL}, which is an {@link java.net.HttpURLConnection} that consults
+   * this cache if the protocol of the {@link URL} is {@code http} or {@code https}.
+   *
+   * @param url The {@link URL}.
+   * @return A new {@link URLConnection} to the provided {@link URL}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  @Override
+  public URLConnection openConnection(final URL url) throws IOException {
+    final String protocol = url.getProtocol();
+    return "http".equals(protocol) || "https".equals(protocol) ? new HttpCacheURLConnection(url, this, transport) : transport.openConnection(url);
+  }
+
+  private File getBody(final long id) {
+    return new File(directory, id + BODY);
+  }
+
+  /**
+   * Returns the stored response of the provided key, or {@code null} if there is none.
+   */
+  synchronized Entry get(final String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Returns a new {@link InputStream} of the body of the provided stored response, or {@code null} if it has been removed.
+   */
+  synchronized InputStream open(final Entry entry) {
+    if (entries.get(entry.key) != entry)
+      return null;
+
+    try {
+      return new FileInputStream(getBody(entry.id));
+    }
+    catch (final FileNotFoundException e) {
+      remove(entry.key);
+      return null;
+    }
+  }
+
+  /**
+   * Updates the provided stored response with the header fields of a {@code 304 Not Modified} response (RFC 7234, Section 4.3.4),
+   * and returns the updated response.
+   */
+  Entry update(final Entry entry, final List<Map.Entry<String,String>> notModified, final long requestTime, final long responseTime) {
+    final Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    for (int i = 1, i$ = notModified.size(); i < i$; ++i) // [RA]
+      names.add(notModified.get(i).getKey());
+
+    names.remove("Content-Length");
+    final List<Map.Entry<String,String>> headers = new ArrayList<>(entry.headers.size());
+    for (final Map.Entry<String,String> header : entry.headers) // [L]
+      if (header.getKey() == null || !names.contains(header.getKey()))
+        headers.add(header);
+
+    for (int i = 1, i$ = notModified.size(); i < i$; ++i) { // [RA]
+      final Map.Entry<String,String> header = notModified.get(i);
+      if (names.contains(header.getKey()))
+        headers.add(header);
+    }
+
+    final Entry updated = new Entry(entry.key, entry.id, entry.length, requestTime, responseTime, entry.status, headers, entry.vary);
+    synchronized (this) {
+      if (entries.get(entry.key) == entry) {
+        entries.put(entry.key, updated);
+        changed();
+      }
+    }
+
+    return updated;
+  }
+
+  /**
+   * Returns an {@link InputStream} that reads the provided {@link InputStream} of the body of the provided response, and stores the
+   * response once the body is read to its end, unless it is longer than the maximum length.
+   */
+  InputStream put(final Entry entry, final InputStream in) {
+    final long id;
+    synchronized (this) {
+      id = nextId++;
+    }
+
+    final File temp = new File(directory, id + TEMP);
+    final FileOutputStream fos;
+    try {
+      fos = new FileOutputStream(temp);
+    }
+    catch (final IOException e) {
+      return in;
+    }
+
+    return new FilterInputStream(in) {
+      private final byte[] one = new byte[1];
+      private OutputStream tee = new BufferedOutputStream(fos);
+      private long count;
+
+      private void write(final byte[] b, final int off, final int len) {
+        if (tee == null)
+          return;
+
+        if ((count += len) > maxLength) {
+          abort();
+          return;
+        }
+
+        try {
+          tee.write(b, off, len);
+        }
+        catch (final IOException e) {
+          abort();
+        }
+      }
+
+      private void commit() {
+        if (tee == null)
+          return;
+
+        try {
+          // The body is synced before it is moved, so that a committed body is never shorter than its entry after a crash
+          tee.flush();
+          fos.getFD().sync();
+          tee.close();
+          tee = null;
+          move(temp, getBody(id));
+          HttpCache.this.commit(new Entry(entry.key, id, count, entry.requestTime, entry.responseTime, entry.status, entry.headers, entry.vary));
+        }
+        catch (final IOException e) {
+          abort();
+        }
+      }
+
+      private void abort() {
+        if (tee != null) {
+          try {
+            tee.close();
+          }
+          catch (final IOException e) {
+          }
+
+          tee = null;
+        }
+
+        temp.delete();
+      }
+
+      @Override
+      public int read() throws IOException {
+        final int b = super.read();
+        if (b == -1) {
+          commit();
+        }
+        else {
+          one[0] = (byte)b;
+          write(one, 0, 1);
+        }
+
+        return b;
+      }
+
+      @Override
+      public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int n = super.read(b, off, len);
+        if (n == -1)
+          commit();
+        else
+          write(b, off, n);
+
+        return n;
+      }
+
+      @Override
+      public long skip(final long n) throws IOException {
+        abort();
+        return super.skip(n);
+      }
+
+      @Override
+      public boolean markSupported() {
+        return false;
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        }
+        finally {
+          if (tee != null)
+            abort();
+        }
+      }
+    };
+  }
+
+  private static void move(final File source, final File target) throws IOException {
+    try {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    catch (final AtomicMoveNotSupportedException e) {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private synchronized void commit(final Entry entry) {
+    final Entry replaced = entries.put(entry.key, entry);
+    if (replaced != null) {
+      length -= replaced.length;
+      getBody(replaced.id).delete();
+    }
+
+    length += entry.length;
+    evict();
+    changed();
+  }
+
+  /**
+   * Evicts the least recently used responses until the total length of the stored bodies does not exceed the maximum length.
+   */
+  private void evict() {
+    for (final Iterator<Entry> iterator = entries.values().iterator(); length > maxLength && iterator.hasNext();) { // [I]
+      final Entry eldest = iterator.next();
+      iterator.remove();
+      length -= eldest.length;
+      getBody(eldest.id).delete();
+      evictions.increment();
+    }
+  }
+
+  private boolean remove(final String key) {
+    final Entry entry = entries.remove(key);
+    if (entry == null)
+      return false;
+
+    length -= entry.length;
+    getBody(entry.id).delete();
+    changed();
+    return true;
+  }
+
+  /**
+   * Removes the stored response of the provided {@link URL} from this cache.
+   *
+   * @param url The {@link URL}.
+   * @return {@code true} if a response of the provided {@link URL} was stored in this cache, otherwise {@code false}.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public synchronized boolean invalidate(final URL url) {
+    return remove(url.toString());
+  }
+
+  /**
+   * Removes all stored responses from this cache.
+   */
+  public synchronized void clear() {
+    for (final Entry entry : entries.values()) // [C]
+      getBody(entry.id).delete();
+
+    entries.clear();
+    length = 0;
+    changed();
+  }
+
+  /**
+   * Writes the provided string as its length in UTF-8 bytes followed by the bytes, or as {@code -1} if it is null. Unlike
+   * {@link DataOutputStream#writeUTF(String)}, the length of the string is not limited to 65535 bytes.
+   */
+  private static void writeString(final DataOutputStream out, final String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    }
+    else {
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static String readString(final DataInputStream in) throws IOException {
+    final int length = in.readInt();
+    if (length == -1)
+      return null;
+
+    if (length < 0)
+      throw new IOException("Invalid string length: " + length);
+
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeHeaders(final DataOutputStream out, final List<Map.Entry<String,String>> headers) throws IOException {
+    out.writeInt(headers.size());
+    for (final Map.Entry<String,String> header : headers) { // [L]
+      writeString(out, header.getKey());
+      writeString(out, header.getValue());
+    }
+  }
+
+  private static List<Map.Entry<String,String>> readHeaders(final DataInputStream in) throws IOException {
+    final int size = in.readInt();
+    final List<Map.Entry<String,String>> headers = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) // [N]
+      headers.add(new AbstractMap.SimpleImmutableEntry<>(readString(in), readString(in)));
+
+    return headers;
+  }
+
+  /**
+   * Marks the index as changed, and schedules it to be written by a single writer on {@link AsyncCall#DEFAULT_EXECUTOR}, unless a
+   * write is already scheduled or in progress, which then also writes this change. The index is therefore never written while the
+   * cache is locked, and the changes that are made while it is written are coalesced into its next write.
+   */
+  private void changed() {
+    dirty = true;
+    if (flushing.compareAndSet(false, true))
+      AsyncCall.DEFAULT_EXECUTOR.execute(this::flushInBackground);
+  }
+
+  private synchronized boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Returns a snapshot of the stored responses in the order from the least to the most recently used, or {@code null} if the index
+   * has not changed since it was last written.
+   */
+  private synchronized ArrayList<Entry> snapshot() {
+    if (!dirty)
+      return null;
+
+    dirty = false;
+    return new ArrayList<>(entries.values());
+  }
+
+  private void flushInBackground() {
+    do {
+      try {
+        flush();
+      }
+      catch (final IOException e) {
+        // The index is written again with the next change, or by the next flush()
+        return;
+      }
+      finally {
+        flushing.set(false);
+      }
+    }
+    while (isDirty() && flushing.compareAndSet(false, true));
+  }
+
+  /**
+   * Writes the index of this cache, if it has changed since it was last written. The index is otherwise written in the background
+   * shortly after each change, so this method needs only to be called to ensure that the changes are persisted, such as before the
+   * process exits, as the responses that are stored after the index was last written are dropped when the cache is restored.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  public void flush() throws IOException {
+    // The snapshot is taken while the index is locked, so that a snapshot of an earlier flush() is written before this one returns
+    synchronized (indexLock) {
+      for (ArrayList<Entry> snapshot; (snapshot = snapshot()) != null;) { // [X]
+        try {
+          writeIndex(snapshot);
+        }
+        catch (final IOException e) {
+          synchronized (this) {
+            dirty = true;
+          }
+
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the provided snapshot of the stored responses to a temporary file that is synced, and that then atomically replaces the
+   * index.
+   */
+  private void writeIndex(final ArrayList<Entry> snapshot) throws IOException {
+    final File temp = new File(directory, INDEX + TEMP);
+    try {
+      try (final FileOutputStream fos = new FileOutputStream(temp)) {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+        out.writeInt(MAGIC);
+        out.writeInt(snapshot.size());
+        for (int i = 0, i$ = snapshot.size(); i < i$; ++i) { // [RA]
+          final Entry entry = snapshot.get(i);
+          writeString(out, entry.key);
+          out.writeLong(entry.id);
+          out.writeLong(entry.length);
+          out.writeLong(entry.requestTime);
+          out.writeLong(entry.responseTime);
+          out.writeInt(entry.status);
+          writeHeaders(out, entry.headers);
+          writeHeaders(out, entry.vary);
+        }
+
+        out.flush();
+        fos.getFD().sync();
+      }
+
+      move(temp, new File(directory, INDEX));
+    }
+    catch (final IOException e) {
+      temp.delete();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns whether a file with the provided name is created by the cache, which is a body or temporary file named by its id
+   * ({@code <id>.body} or {@code <id>.tmp}), or the temporary file of the index.
+   */
+  private static boolean isOwned(final String name) {
+    if ((INDEX + TEMP).equals(name))
+      return true;
+
+    final int end = name.endsWith(BODY) ? name.length() - BODY.length() : name.endsWith(TEMP) ? name.length() - TEMP.length() : -1;
+    if (end <= 0)
+      return false;
+
+    for (int i = 0; i < end; ++i) // [N]
+      if (name.charAt(i) < '0' || '9' < name.charAt(i))
+        return false;
+
+    return true;
+  }
+
+  private void load() throws IOException {
+    final File index = new File(directory, INDEX);
+    if (index.exists()) {
+      try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+        if (in.readInt() != MAGIC)
+          throw new IOException("Invalid index: " + index);
+
+        for (int i = 0, i$ = in.readInt(); i < i$; ++i) { // [N]
+          final Entry entry = new Entry(readString(in), in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readInt(), readHeaders(in), readHeaders(in));
+          nextId = Math.max(nextId, entry.id + 1);
+          final File body = getBody(entry.id);
+          if (body.isFile() && body.length() == entry.length) {
+            entries.put(entry.key, entry);
+            length += entry.length;
+          }
+        }
+      }
+      catch (final IOException e) {
+        entries.clear();
+        length = 0;
+      }
+    }
+
+    final Set<String> bodies = new HashSet<>();
+    for (final Entry entry : entries.values()) // [C]
+      bodies.add(entry.id + BODY);
+
+    // Only the files that are created by the cache are deleted, as the directory may be shared with other files
+    final File[] files = directory.listFiles();
+    if (files != null)
+      for (final File file : files) // [A]
+        if (isOwned(file.getName()) && !bodies.contains(file.getName()))
+          file.delete();
+
+    evict();
+    dirty = true;
+    flush();
+  }
+
+  /**
+   * Returns the number of responses stored in this cache.
+   *
+   * @return The number of responses stored in this cache.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the total length of the bodies of the responses stored in this cache.
+   *
+   * @return The total length of the bodies of the responses stored in this cache.
+   */
+  public synchronized long getLength() {
+    return length;
+  }
+
+  /**
+   * Returns the maximum total length of the bodies of the responses stored in this cache.
+   *
+   * @return The maximum total length of the bodies of the responses stored in this cache.
+   */
+  public long getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Returns the number of requests that were served from this cache without a request to the server.
+   *
+   * @return The number of requests that were served from this cache without a request to the server.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of cacheable requests that were sent to the server, and were not served from this cache.
+   *
+   * @return The number of cacheable requests that were sent to the server, and were not served from this cache.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of conditional requests of stale responses that were served from this cache after the server responded with
+   * {@code 304 Not Modified}.
+   *
+   * @return The number of stale responses that were revalidated.
+   */
+  public long getRevalidationCount() {
+    return revalidations.sum();
+  }
+
+  /**
+   * Returns the number of responses that were evicted to limit the total length of the stored bodies.
+   *
+   * @return The number of responses that were evicted to limit the total length of the stored bodies.
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void revalidated() {
+    revalidations.increment();
+  }
+
+  @Override
+  public String toString() {
+    return "HttpCache[directory=" + directory + ", size=" + size() + ", length=" + getLength() + ", maxLength=" + maxLength + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", revalidations=" + getRevalidationCount() + ", evictions=" + getEvictionCount() + "]";
+  }
+}
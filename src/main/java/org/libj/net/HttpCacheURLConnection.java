@@ -0,0 +1,434 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An {@link HttpURLConnection} that serves its response from an {@link HttpCache} if it is fresh, and otherwise sends its request
+ * over another {@link HttpTransport} when its response is first accessed, with the validators of the stored response if it is stale.
+ *
+ * @see HttpCache
+ */
+final class HttpCacheURLConnection extends HttpURLConnection {
+  /** The request headers with which a request is not served from, or stored in, the cache. */
+  private static final String[] conditionalHeaders = {"If-Match", "If-None-Match", "If-Modified-Since", "If-Unmodified-Since", "If-Range", "Range"};
+
+  private final HttpCache cache;
+  private final HttpTransport transport;
+  private volatile HttpURLConnection delegate;
+  private HttpCache.Entry entry;
+  private HttpCache.Entry pending;
+  private InputStream body;
+  private boolean executed;
+  private IOException exception;
+  private volatile boolean disconnected;
+
+  HttpCacheURLConnection(final URL url, final HttpCache cache, final HttpTransport transport) {
+    super(url);
+    this.cache = cache;
+    this.transport = transport;
+  }
+
+  /**
+   * Does nothing, as the request is sent (or served from the cache) when its response is first accessed.
+   */
+  @Override
+  public void connect() throws IOException {
+    if (disconnected)
+      throw new IOException("Disconnected");
+  }
+
+  private Map<String,List<String>> getRequestHeaders() {
+    final Map<String,List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (final Map.Entry<String,List<String>> entry : getRequestProperties().entrySet()) // [S]
+      if (entry.getKey() != null)
+        headers.put(entry.getKey(), entry.getValue());
+
+    return headers;
+  }
+
+  private boolean isCacheable(final Map<String,List<String>> requestHeaders, final String cacheControl) {
+    if (!"GET".equals(method) || doOutput || ifModifiedSince != 0 || HttpCache.getDirective(cacheControl, "no-store") != null)
+      return false;
+
+    for (final String header : conditionalHeaders) // [A]
+      if (requestHeaders.containsKey(header))
+        return false;
+
+    return true;
+  }
+
+  private HttpURLConnection open(final Map<String,List<String>> requestHeaders) throws IOException {
+    final URLConnection connection = transport.openConnection(url);
+    if (!(connection instanceof HttpURLConnection))
+      throw new ProtocolException("Not an HTTP connection: " + url);
+
+    final HttpURLConnection delegate = (HttpURLConnection)connection;
+    delegate.setRequestMethod(method);
+    delegate.setDoInput(doInput);
+    delegate.setDoOutput(doOutput);
+    delegate.setUseCaches(useCaches);
+    delegate.setAllowUserInteraction(allowUserInteraction);
+    delegate.setIfModifiedSince(ifModifiedSince);
+    delegate.setConnectTimeout(getConnectTimeout());
+    delegate.setReadTimeout(getReadTimeout());
+    delegate.setInstanceFollowRedirects(instanceFollowRedirects);
+    if (fixedContentLengthLong != -1)
+      delegate.setFixedLengthStreamingMode(fixedContentLengthLong);
+    else if (fixedContentLength != -1)
+      delegate.setFixedLengthStreamingMode(fixedContentLength);
+    else if (chunkLength != -1)
+      delegate.setChunkedStreamingMode(chunkLength);
+
+    for (final Map.Entry<String,List<String>> entry : requestHeaders.entrySet()) // [S]
+      for (final String value : entry.getValue()) // [L]
+        delegate.addRequestProperty(entry.getKey(), value);
+
+    return delegate;
+  }
+
+  /**
+   * Opens the connection over which the request is sent, and disconnects it if this connection is disconnected concurrently.
+   */
+  private HttpURLConnection openDelegate(final Map<String,List<String>> requestHeaders) throws IOException {
+    final HttpURLConnection delegate = this.delegate = open(requestHeaders);
+    if (disconnected) {
+      delegate.disconnect();
+      throw new IOException("Disconnected");
+    }
+
+    return delegate;
+  }
+
+  @Override
+  public OutputStream getOutputStream() throws IOException {
+    if (!doOutput)
+      throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+
+    if (disconnected)
+      throw new IOException("Disconnected");
+
+    HttpURLConnection delegate = this.delegate;
+    if (delegate == null) {
+      if (executed)
+        throw new ProtocolException("Cannot write output after reading input.");
+
+      delegate = openDelegate(getRequestHeaders());
+      connected = true;
+    }
+
+    return delegate.getOutputStream();
+  }
+
+  private void execute() throws IOException {
+    if (!executed) {
+      executed = true;
+      try {
+        send();
+      }
+      catch (final IOException e) {
+        exception = e;
+      }
+    }
+
+    if (exception != null)
+      throw exception;
+  }
+
+  private boolean executeOrFalse() {
+    try {
+      execute();
+      return true;
+    }
+    catch (final IOException e) {
+      return false;
+    }
+  }
+
+  private void send() throws IOException {
+    if (disconnected)
+      throw new IOException("Disconnected");
+
+    if (delegate != null) {
+      sendUncached();
+      return;
+    }
+
+    final Map<String,List<String>> requestHeaders = getRequestHeaders();
+    final List<String> values = requestHeaders.get("Cache-Control");
+    final String cacheControl = values == null ? null : String.join(", ", values);
+    if (!isCacheable(requestHeaders, cacheControl)) {
+      openDelegate(requestHeaders);
+      connected = true;
+      sendUncached();
+      return;
+    }
+
+    connected = true;
+    final List<String> pragma = requestHeaders.get("Pragma");
+    final boolean noCache = HttpCache.getDirective(cacheControl, "no-cache") != null || pragma != null && HttpCache.getDirective(String.join(", ", pragma), "no-cache") != null;
+    HttpCache.Entry cached = cache.get(url.toString());
+    if (cached != null && !cached.matches(requestHeaders))
+      cached = null;
+
+    if (cached != null && !noCache && cached.isFresh(cacheControl, System.currentTimeMillis()) && (body = cache.open(cached)) != null) {
+      entry = cached;
+      responseCode = cached.getStatus();
+      cache.hit();
+      return;
+    }
+
+    HttpURLConnection delegate = openDelegate(requestHeaders);
+    if (cached != null) {
+      final String etag = cached.getHeader("ETag");
+      if (etag != null)
+        delegate.setRequestProperty("If-None-Match", etag);
+
+      final String lastModified = cached.getHeader("Last-Modified");
+      if (lastModified != null)
+        delegate.setRequestProperty("If-Modified-Since", lastModified);
+    }
+
+    long requestTime = System.currentTimeMillis();
+    int status = delegate.getResponseCode();
+    long responseTime = System.currentTimeMillis();
+    if (cached != null && status == HTTP_NOT_MODIFIED) {
+      final HttpCache.Entry updated = cache.update(cached, HttpCache.getEndToEndHeaders(delegate), requestTime, responseTime);
+      drain(delegate);
+      if ((body = cache.open(updated)) != null) {
+        entry = updated;
+        responseCode = updated.getStatus();
+        cache.revalidated();
+        return;
+      }
+
+      // The stored response was evicted during its revalidation, so it is requested again without its validators
+      delegate = openDelegate(requestHeaders);
+      requestTime = System.currentTimeMillis();
+      status = delegate.getResponseCode();
+      responseTime = System.currentTimeMillis();
+    }
+
+    responseCode = status;
+    cache.miss();
+    final List<Map.Entry<String,String>> headers = HttpCache.getEndToEndHeaders(delegate);
+    final String responseCacheControl = HttpCache.joinHeaders(headers, "Cache-Control");
+    if (HttpCache.getDirective(responseCacheControl, "no-store") != null) {
+      cache.invalidate(url);
+      return;
+    }
+
+    if (!HttpCache.isCacheable(status))
+      return;
+
+    final List<Map.Entry<String,String>> vary = HttpCache.getVary(HttpCache.joinHeaders(headers, "Vary"), requestHeaders);
+    if (vary == null)
+      return;
+
+    final HttpCache.Entry entry = new HttpCache.Entry(url.toString(), -1, 0, requestTime, responseTime, status, headers, vary);
+    final long date = HttpCache.getDate(entry.getHeader("Date"), responseTime);
+    if (HttpCache.getFreshnessLifetime(responseCacheControl, date, entry.getHeader("Expires"), entry.getHeader("Last-Modified")) > 0 || entry.getHeader("ETag") != null || entry.getHeader("Last-Modified") != null)
+      pending = entry;
+  }
+
+  private void sendUncached() throws IOException {
+    final HttpURLConnection delegate = this.delegate;
+    responseCode = delegate.getResponseCode();
+    final String method = delegate.getRequestMethod();
+    if (responseCode < 400 && !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method) && !"TRACE".equals(method))
+      cache.invalidate(url);
+  }
+
+  private static void drain(final HttpURLConnection connection) {
+    try (final InputStream in = connection.getInputStream()) {
+      final byte[] buf = new byte[256];
+      while (in.read(buf) != -1);
+    }
+    catch (final IOException e) {
+      connection.disconnect();
+    }
+  }
+
+  @Override
+  public int getResponseCode() throws IOException {
+    execute();
+    return responseCode;
+  }
+
+  @Override
+  public String getResponseMessage() throws IOException {
+    execute();
+    if (entry == null)
+      return delegate.getResponseMessage();
+
+    final String statusLine = entry.getHeaders().get(0).getValue();
+    if (statusLine == null)
+      return null;
+
+    final int space = statusLine.indexOf(' ');
+    final int end = space == -1 ? -1 : statusLine.indexOf(' ', space + 1);
+    return end == -1 ? null : statusLine.substring(end + 1).trim();
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    execute();
+    if (entry == null) {
+      final InputStream in = delegate.getInputStream();
+      if (pending == null)
+        return in;
+
+      final HttpCache.Entry pending = this.pending;
+      this.pending = null;
+      return body = cache.put(pending, in);
+    }
+
+    final int status = entry.getStatus();
+    if (status >= 400) {
+      // The stored body is reopened by getErrorStream() if it is requested
+      closeBody();
+      if (status == HTTP_NOT_FOUND || status == HTTP_GONE)
+        throw new FileNotFoundException(url.toString());
+
+      throw new IOException("Server returned HTTP response code: " + status + " for URL: " + url);
+    }
+
+    return body;
+  }
+
+  @Override
+  public InputStream getErrorStream() {
+    if (!executed || exception != null)
+      return null;
+
+    if (entry != null) {
+      if (entry.getStatus() < 400)
+        return null;
+
+      if (body == null)
+        body = cache.open(entry);
+
+      return body;
+    }
+
+    final InputStream in = delegate.getErrorStream();
+    if (in == null || pending == null)
+      return in;
+
+    final HttpCache.Entry pending = this.pending;
+    this.pending = null;
+    return body = cache.put(pending, in);
+  }
+
+  @Override
+  public String getHeaderField(final String name) {
+    if (!executeOrFalse())
+      return null;
+
+    return entry != null ? name == null ? null : entry.getHeader(name) : delegate.getHeaderField(name);
+  }
+
+  @Override
+  public String getHeaderFieldKey(final int n) {
+    if (!executeOrFalse())
+      return null;
+
+    if (entry == null)
+      return delegate.getHeaderFieldKey(n);
+
+    final List<Map.Entry<String,String>> headers = entry.getHeaders();
+    return n < 0 || n >= headers.size() ? null : headers.get(n).getKey();
+  }
+
+  @Override
+  public String getHeaderField(final int n) {
+    if (!executeOrFalse())
+      return null;
+
+    if (entry == null)
+      return delegate.getHeaderField(n);
+
+    final List<Map.Entry<String,String>> headers = entry.getHeaders();
+    return n < 0 || n >= headers.size() ? null : headers.get(n).getValue();
+  }
+
+  @Override
+  public Map<String,List<String>> getHeaderFields() {
+    if (!executeOrFalse())
+      return Collections.emptyMap();
+
+    if (entry == null)
+      return delegate.getHeaderFields();
+
+    final Map<String,List<String>> fields = new TreeMap<>((a, b) -> a == null ? b == null ? 0 : -1 : b == null ? 1 : a.compareToIgnoreCase(b));
+    for (final Map.Entry<String,String> header : entry.getHeaders()) // [L]
+      fields.computeIfAbsent(header.getKey(), (k) -> new ArrayList<>(1)).add(header.getValue());
+
+    final Map<String,List<String>> unmodifiable = new LinkedHashMap<>(fields.size());
+    for (final Map.Entry<String,List<String>> field : fields.entrySet()) // [S]
+      unmodifiable.put(field.getKey(), Collections.unmodifiableList(field.getValue()));
+
+    return Collections.unmodifiableMap(unmodifiable);
+  }
+
+  /**
+   * Closes the stored body of the response if it is served from the cache, and otherwise disconnects the connection over which the
+   * request was sent.
+   */
+  @Override
+  public void disconnect() {
+    disconnected = true;
+    final HttpURLConnection delegate = this.delegate;
+    if (delegate != null)
+      delegate.disconnect();
+
+    if (entry != null)
+      closeBody();
+  }
+
+  private void closeBody() {
+    final InputStream body = this.body;
+    if (body != null) {
+      this.body = null;
+      try {
+        body.close();
+      }
+      catch (final IOException e) {
+      }
+    }
+  }
+
+  @Override
+  public boolean usingProxy() {
+    final HttpURLConnection delegate = this.delegate;
+    return delegate != null && delegate.usingProxy();
+  }
+}
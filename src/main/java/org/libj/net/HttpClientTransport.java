@@ -0,0 +1,71 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.Executor;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * An {@link HttpTransport} backed by a {@code java.net.http.HttpClient}, which negotiates HTTP/2 with ALPN (falling back to
+ * HTTP/1.1), and multiplexes concurrent requests to an origin over the connections of a pool that is dedicated to each instance.
+ * <p>
+ * The {@code java.net.http} API requires JDK 11 or later, on which this class is loaded from the {@code META-INF/versions/11}
+ * directory of the multi-release jar. This is the implementation for earlier JDKs, on which {@link #isAvailable()} returns
+ * {@code false}, and the constructors throw {@link UnsupportedOperationException}.
+ */
+public final class HttpClientTransport implements HttpTransport {
+  /**
+   * Returns whether {@link HttpClientTransport} is available on this JDK.
+   *
+   * @return Whether {@link HttpClientTransport} is available on this JDK.
+   */
+  public static boolean isAvailable() {
+    return false;
+  }
+
+  /**
+   * Creates a new {@link HttpClientTransport} with a new {@code java.net.http.HttpClient} with the default configuration.
+   *
+   * @throws UnsupportedOperationException If the JDK is earlier than JDK 11.
+   */
+  public HttpClientTransport() {
+    this(0, null, null);
+  }
+
+  /**
+   * Creates a new {@link HttpClientTransport} with a new {@code java.net.http.HttpClient} with the provided configuration.
+   *
+   * @param connectTimeout The timeout in milliseconds to establish a connection. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param sslContext The {@link SSLContext} of {@code https} connections, or {@code null} for the default {@link SSLContext}.
+   * @param executor The {@link Executor} of the asynchronous tasks of the {@code java.net.http.HttpClient}, or {@code null} for its
+   *          default executor.
+   * @throws IllegalArgumentException If {@code connectTimeout} is negative.
+   * @throws UnsupportedOperationException If the JDK is earlier than JDK 11.
+   */
+  public HttpClientTransport(final int connectTimeout, final SSLContext sslContext, final Executor executor) {
+    throw new UnsupportedOperationException("java.net.http.HttpClient requires JDK 11 or later");
+  }
+
+  @Override
+  public URLConnection openConnection(final URL url) {
+    throw new UnsupportedOperationException("java.net.http.HttpClient requires JDK 11 or later");
+  }
+}
@@ -0,0 +1,314 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.libj.util.function.ThrowingConsumer;
+
+/**
+ * A limit of the number of concurrent exchanges with each route (the protocol, host and port of a {@link URL}) of the requests of
+ * the {@link HTTP} helpers that are provided with it, such as {@link HTTP#getAsStream(URL,RedirectCache,HttpRouteLimiter)}.
+ * <p>
+ * The sockets of an {@link HttpURLConnection} are owned by the keep-alive cache of the JDK, which opens a new socket to a route only
+ * if none of its idle sockets are free, and closes idle sockets by its own timeout. This limiter therefore does not own any sockets,
+ * but bounds the sockets that are open to each route by bounding the number of exchanges with it that are in flight: each request
+ * acquires one of at most {@code maxPerRoute} permits of its route, and holds it until the returned {@link InputStream} is read to
+ * its end or is closed. A request that finds its route saturated waits in a fair queue, and fails with a
+ * {@link SocketTimeoutException} if no permit is released within the timeout.
+ * <p>
+ * The permit of a request is moved to the route of each redirect that is followed by
+ * {@link URLConnections#checkFollowRedirect(java.net.URLConnection)}, so that it is held for the route of the connection over which
+ * the request is actually sent. Redirects that are followed by the {@link HttpURLConnection} itself (within the same protocol, if
+ * {@link HttpURLConnection#getInstanceFollowRedirects()} is {@code true}) are not seen by this limiter.
+ */
+public final class HttpRouteLimiter {
+  /**
+   * An exchange of a request that is limited by this limiter, which is invoked with the callback to be called for each
+   * {@link HttpURLConnection} before it is connected, and returns the {@link InputStream} of the response.
+   */
+  @FunctionalInterface
+  interface Exchange {
+    InputStream exchange(ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) throws IOException;
+  }
+
+  /**
+   * The permits of a route, of which at most {@link #maxPerRoute} are acquired at a time. A route is in {@link #routes} only while
+   * it has exchanges that hold or wait for its permits, so that the routes of past requests are not retained.
+   */
+  private final class Route {
+    private final String key;
+    private final Semaphore permits = new Semaphore(maxPerRoute, true);
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    /** The number of exchanges that hold or wait for a permit, which is only accessed in the remapping functions of {@link #routes}. */
+    private int users;
+
+    private Route(final String key) {
+      this.key = key;
+    }
+
+    private void acquire() throws IOException {
+      pending.incrementAndGet();
+      boolean acquired = false;
+      try {
+        if (timeout == 0) {
+          permits.acquire();
+        }
+        else if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+          timeouts.increment();
+          throw new SocketTimeoutException("Timed out after " + timeout + "ms waiting for a permit to " + key);
+        }
+
+        acquired = true;
+      }
+      catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for a permit to " + key);
+      }
+      finally {
+        pending.decrementAndGet();
+        if (!acquired)
+          exit(this);
+      }
+
+      active.incrementAndGet();
+    }
+
+    private void release() {
+      active.decrementAndGet();
+      permits.release();
+      exit(this);
+    }
+  }
+
+  /** The permit of an exchange, which is held for the route of its current connection, and is released once. */
+  private final class Permit {
+    private Route route;
+    private boolean released;
+
+    /**
+     * Moves this permit to the route of the provided {@link HttpURLConnection}, if it is not already held for it.
+     */
+    private void beforeConnect(final HttpURLConnection connection) throws IOException {
+      final String key = getRoute(connection.getURL());
+      final Route current;
+      synchronized (this) {
+        if (released)
+          throw new IOException("Permit was released");
+
+        if ((current = route) != null && current.key.equals(key))
+          return;
+
+        route = null;
+      }
+
+      // The exchange with the previous route is complete before the next hop is connected
+      if (current != null)
+        current.release();
+
+      final Route next = enter(key);
+      next.acquire();
+      synchronized (this) {
+        if (!released) {
+          route = next;
+          return;
+        }
+      }
+
+      next.release();
+    }
+
+    private void release() {
+      final Route route;
+      synchronized (this) {
+        if (released)
+          return;
+
+        released = true;
+        route = this.route;
+        this.route = null;
+      }
+
+      if (route != null)
+        route.release();
+    }
+  }
+
+  private static String getRoute(final URL url) {
+    final int port = url.getPort();
+    return url.getProtocol() + "://" + url.getHost().toLowerCase() + ":" + (port != -1 ? port : url.getDefaultPort());
+  }
+
+  private final ConcurrentHashMap<String,Route> routes = new ConcurrentHashMap<>();
+  private final int maxPerRoute;
+  private final long timeout;
+  private final LongAdder timeouts = new LongAdder();
+
+  /**
+   * Returns the {@link Route} with the provided key, which is created if it has no other exchanges, and is held by the calling
+   * exchange until it {@linkplain #exit(Route) exits} it.
+   */
+  private Route enter(final String key) {
+    return routes.compute(key, (final String k, Route route) -> {
+      if (route == null)
+        route = new Route(k);
+
+      ++route.users;
+      return route;
+    });
+  }
+
+  /**
+   * Releases the provided {@link Route} of the calling exchange, and removes it if it has no other exchanges.
+   */
+  private void exit(final Route route) {
+    routes.computeIfPresent(route.key, (final String k, final Route r) -> --r.users == 0 ? null : r);
+  }
+
+  /**
+   * Creates a new {@link HttpRouteLimiter} with the provided limits.
+   *
+   * @param maxPerRoute The maximum number of concurrent exchanges with each route.
+   * @param timeout The time in milliseconds that a request waits for a permit of a saturated route, or {@code 0} to wait
+   *          indefinitely.
+   * @throws IllegalArgumentException If {@code maxPerRoute} is not positive, or if {@code timeout} is negative.
+   */
+  public HttpRouteLimiter(final int maxPerRoute, final long timeout) {
+    this.maxPerRoute = assertPositive(maxPerRoute);
+    this.timeout = assertNotNegative(timeout);
+  }
+
+  /**
+   * Returns the {@link InputStream} of the response of the provided exchange, which holds a permit of the route of each
+   * {@link HttpURLConnection} with which its callback is called. The permit is released when the returned {@link InputStream} is
+   * read to its end or is closed, or when the exchange fails.
+   *
+   * @param exchange The exchange of the request.
+   * @return The {@link InputStream} of the response of the provided exchange.
+   * @throws IOException If an I/O error has occurred, or if no permit of a route is released within the timeout.
+   */
+  InputStream getInputStream(final Exchange exchange) throws IOException {
+    final Permit permit = new Permit();
+    try {
+      return new FilterInputStream(exchange.exchange(permit::beforeConnect)) {
+        @Override
+        public int read() throws IOException {
+          final int b = super.read();
+          if (b == -1)
+            permit.release();
+
+          return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+          final int n = super.read(b, off, len);
+          if (n == -1)
+            permit.release();
+
+          return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          }
+          finally {
+            permit.release();
+          }
+        }
+      };
+    }
+    catch (final Throwable t) {
+      permit.release();
+      throw t;
+    }
+  }
+
+  /**
+   * Returns the maximum number of concurrent exchanges with each route.
+   *
+   * @return The maximum number of concurrent exchanges with each route.
+   */
+  public int getMaxPerRoute() {
+    return maxPerRoute;
+  }
+
+  /**
+   * Returns the number of exchanges that hold a permit.
+   *
+   * @return The number of exchanges that hold a permit.
+   */
+  public int getActiveCount() {
+    int count = 0;
+    for (final Route route : routes.values()) // [C]
+      count += route.active.get();
+
+    return count;
+  }
+
+  /**
+   * Returns the number of requests that are waiting for a permit of a saturated route.
+   *
+   * @return The number of requests that are waiting for a permit of a saturated route.
+   */
+  public int getPendingCount() {
+    int count = 0;
+    for (final Route route : routes.values()) // [C]
+      count += route.pending.get();
+
+    return count;
+  }
+
+  /**
+   * Returns the number of requests that timed out waiting for a permit of a saturated route.
+   *
+   * @return The number of requests that timed out waiting for a permit of a saturated route.
+   */
+  public long getTimeoutCount() {
+    return timeouts.sum();
+  }
+
+  /**
+   * Returns the number of routes with exchanges that hold or wait for a permit.
+   *
+   * @return The number of routes with exchanges that hold or wait for a permit.
+   */
+  int getRouteCount() {
+    return routes.size();
+  }
+
+  @Override
+  public String toString() {
+    return "HttpRouteLimiter[maxPerRoute=" + maxPerRoute + ", active=" + getActiveCount() + ", pending=" + getPendingCount() + ", timeouts=" + getTimeoutCount() + "]";
+  }
+}
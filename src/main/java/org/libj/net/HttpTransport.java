@@ -0,0 +1,47 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * The transport over which {@link HTTP}, {@link Downloads}, {@link URLConnections#checkFollowRedirect(URLConnection)} and
+ * {@link RequestCoalescer} open the connections of their requests to {@code http} and {@code https} {@link URL}s. The transport in
+ * use is set with {@link HttpTransports#setDefault(HttpTransport)}.
+ * <p>
+ * An {@link HttpTransport} returns an {@link HttpURLConnection} that is not yet connected, which is configured and read by the
+ * helpers as any other {@link HttpURLConnection}, so that an implementation backed by another client adapts its requests and
+ * responses to the {@link HttpURLConnection} API.
+ *
+ * @see HttpTransports#URL_CONNECTION
+ * @see HttpClientTransport
+ */
+@FunctionalInterface
+public interface HttpTransport {
+  /**
+   * Returns a new {@link URLConnection} to the provided {@code http} or {@code https} {@link URL}, which is not yet connected.
+   *
+   * @param url The {@link URL}.
+   * @return A new {@link URLConnection} to the provided {@link URL}, which is not yet connected.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  URLConnection openConnection(URL url) throws IOException;
+}
@@ -0,0 +1,84 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * Utility functions pertaining to {@link HttpTransport}.
+ */
+public final class HttpTransports {
+  /**
+   * The {@link HttpTransport} of {@link URL#openConnection()}, which opens an {@link HttpURLConnection} of the JDK, with the
+   * JVM-global keep-alive cache of its HTTP/1.1 connections. This is the default {@link HttpTransport}.
+   */
+  public static final HttpTransport URL_CONNECTION = new HttpTransport() {
+    @Override
+    public URLConnection openConnection(final URL url) throws IOException {
+      return url.openConnection();
+    }
+
+    @Override
+    public String toString() {
+      return "HttpTransports.URL_CONNECTION";
+    }
+  };
+
+  private static volatile HttpTransport defaultTransport = URL_CONNECTION;
+
+  /**
+   * Returns the {@link HttpTransport} over which the connections to {@code http} and {@code https} {@link URL}s are opened.
+   *
+   * @return The {@link HttpTransport} over which the connections to {@code http} and {@code https} {@link URL}s are opened.
+   */
+  public static HttpTransport getDefault() {
+    return defaultTransport;
+  }
+
+  /**
+   * Sets the {@link HttpTransport} over which the connections to {@code http} and {@code https} {@link URL}s are opened.
+   *
+   * @param transport The {@link HttpTransport}.
+   * @throws NullPointerException If {@code transport} is null.
+   */
+  public static void setDefault(final HttpTransport transport) {
+    defaultTransport = assertNotNull(transport);
+  }
+
+  /**
+   * Returns a new {@link URLConnection} to the provided {@link URL}, which is opened over the {@linkplain #getDefault() default}
+   * {@link HttpTransport} if the protocol of the {@link URL} is {@code http} or {@code https}, and otherwise with
+   * {@link URL#openConnection()}.
+   *
+   * @param url The {@link URL}.
+   * @return A new {@link URLConnection} to the provided {@link URL}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static URLConnection openConnection(final URL url) throws IOException {
+    final String protocol = url.getProtocol();
+    return "http".equals(protocol) || "https".equals(protocol) ? defaultTransport.openConnection(url) : url.openConnection();
+  }
+
+  private HttpTransports() {
+  }
+}
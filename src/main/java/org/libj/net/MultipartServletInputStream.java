@@ -0,0 +1,486 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+/**
+ * A {@link MultipartServletInputStream} wraps a {@link ServletInputStream} of a {@code multipart/form-data} body, and exposes each
+ * part of the body in turn as a bounded sub-stream. Each call to {@link #nextPart()} advances to the next part and returns its parsed
+ * headers, after which the {@code read} methods of this stream return the bytes of that part's body until its end.
+ * <p>
+ * The boundary delimiters are found with the Boyer-Moore-Horspool algorithm, which skips ahead by up to the length of the delimiter at
+ * each step, so most bytes of a part are never compared. The body is read through a single buffer of fixed size, so memory use is
+ * independent of the size of the parts. The {@link #transferTo(WritableByteChannel)} method writes the body of a part to a
+ * {@link WritableByteChannel} directly from the buffer, without intermediate copies.
+ * <p>
+ * This stream only supports blocking reads, and does not support {@link #mark(int) mark} and {@link #reset() reset}.
+ */
+public class MultipartServletInputStream extends FilterServletInputStream {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /**
+   * The headers of a part of a {@code multipart/form-data} body.
+   */
+  public static final class Part {
+    private final Map<String,String> headers;
+    private final String name;
+    private final String fileName;
+
+    private Part(final Map<String,String> headers) {
+      this.headers = Collections.unmodifiableMap(headers);
+      final String disposition = headers.get("Content-Disposition");
+      this.name = disposition == null ? null : getParameter(disposition, "name");
+      this.fileName = disposition == null ? null : getParameter(disposition, "filename");
+    }
+
+    /**
+     * Returns an unmodifiable map of the headers of this part, with case-insensitive names.
+     *
+     * @return An unmodifiable map of the headers of this part, with case-insensitive names.
+     */
+    public Map<String,String> getHeaders() {
+      return headers;
+    }
+
+    /**
+     * Returns the value of the header with the provided case-insensitive name, or {@code null} if this part does not have the header.
+     *
+     * @param name The name of the header.
+     * @return The value of the header with the provided case-insensitive name, or {@code null} if this part does not have the header.
+     */
+    public String getHeader(final String name) {
+      return headers.get(name);
+    }
+
+    /**
+     * Returns the {@code name} parameter of the {@code Content-Disposition} header of this part, or {@code null} if it is absent.
+     *
+     * @return The {@code name} parameter of the {@code Content-Disposition} header of this part, or {@code null} if it is absent.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the {@code filename} parameter of the {@code Content-Disposition} header of this part, or {@code null} if it is absent.
+     *
+     * @return The {@code filename} parameter of the {@code Content-Disposition} header of this part, or {@code null} if it is absent.
+     */
+    public String getFileName() {
+      return fileName;
+    }
+
+    /**
+     * Returns the value of the {@code Content-Type} header of this part, or {@code null} if it is absent.
+     *
+     * @return The value of the {@code Content-Type} header of this part, or {@code null} if it is absent.
+     */
+    public String getContentType() {
+      return headers.get("Content-Type");
+    }
+
+    @Override
+    public String toString() {
+      return headers.toString();
+    }
+  }
+
+  /**
+   * Returns the {@code boundary} parameter of the provided {@code Content-Type} header value, or {@code null} if it is absent.
+   *
+   * @param contentType The value of a {@code Content-Type} header, such as {@code multipart/form-data; boundary=xyz}.
+   * @return The {@code boundary} parameter of the provided {@code Content-Type} header value, or {@code null} if it is absent.
+   * @throws NullPointerException If {@code contentType} is null.
+   */
+  public static String getBoundary(final String contentType) {
+    return getParameter(contentType, "boundary");
+  }
+
+  /**
+   * Returns the value of the parameter with the provided case-insensitive name in the provided header value of the form
+   * {@code value; name1=value1; name2="value2"}, or {@code null} if it is absent.
+   */
+  static String getParameter(final String header, final String name) {
+    final int len = header.length();
+    for (int i = header.indexOf(';'); i != -1 && i < len;) { // [N]
+      int start = i + 1;
+      while (start < len && (header.charAt(start) == ' ' || header.charAt(start) == '\t'))
+        ++start;
+
+      final int eq = header.indexOf('=', start);
+      if (eq == -1)
+        return null;
+
+      final int semi = header.indexOf(';', start);
+      if (semi != -1 && semi < eq) {
+        // A parameter without a value
+        i = semi;
+        continue;
+      }
+
+      final boolean matches = header.substring(start, eq).trim().equalsIgnoreCase(name);
+      int j = eq + 1;
+      while (j < len && header.charAt(j) == ' ')
+        ++j;
+
+      final StringBuilder value = matches ? new StringBuilder() : null;
+      if (j < len && header.charAt(j) == '"') {
+        for (++j; j < len; ++j) { // [N]
+          char ch = header.charAt(j);
+          if (ch == '"')
+            break;
+
+          if (ch == '\\' && j + 1 < len)
+            ch = header.charAt(++j);
+
+          if (matches)
+            value.append(ch);
+        }
+
+        i = header.indexOf(';', j);
+      }
+      else {
+        i = header.indexOf(';', j);
+        if (matches)
+          value.append(header.substring(j, i == -1 ? len : i).trim());
+      }
+
+      if (matches)
+        return value.toString();
+    }
+
+    return null;
+  }
+
+  private final byte[] delimiter;
+  private final int[] skip = new int[256];
+  private final byte[] buf;
+  private final ByteBuffer view;
+  private int pos;
+  private int limit;
+  // The index from which the next search for the delimiter is to start
+  private int searchFrom;
+  // The index of the delimiter that ends the current part, or -1 if it has not yet been found
+  private int partEnd = -1;
+  private Part part;
+  private boolean finished;
+
+  /**
+   * Creates a new {@link MultipartServletInputStream} of the provided {@link ServletInputStream} with the specified boundary, and a
+   * buffer of 8192 bytes.
+   *
+   * @param in The {@link ServletInputStream} of the {@code multipart/form-data} body.
+   * @param boundary The boundary of the parts, as specified by the {@code boundary} parameter of the {@code Content-Type} header.
+   * @throws NullPointerException If {@code in} or {@code boundary} is null.
+   * @throws IllegalArgumentException If {@code boundary} is empty.
+   * @see #getBoundary(String)
+   */
+  public MultipartServletInputStream(final ServletInputStream in, final String boundary) {
+    this(in, boundary, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new {@link MultipartServletInputStream} of the provided {@link ServletInputStream} with the specified boundary and
+   * buffer size. The buffer size also limits the length of each header line of a part.
+   *
+   * @param in The {@link ServletInputStream} of the {@code multipart/form-data} body.
+   * @param boundary The boundary of the parts, as specified by the {@code boundary} parameter of the {@code Content-Type} header.
+   * @param bufferSize The size of the buffer, which is increased if necessary to accommodate the delimiter.
+   * @throws NullPointerException If {@code in} or {@code boundary} is null.
+   * @throws IllegalArgumentException If {@code boundary} is empty.
+   * @see #getBoundary(String)
+   */
+  public MultipartServletInputStream(final ServletInputStream in, final String boundary, final int bufferSize) {
+    super(in);
+    if (boundary.isEmpty())
+      throw new IllegalArgumentException("boundary is empty");
+
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    final int m = delimiter.length;
+    Arrays.fill(skip, m);
+    for (int i = 0; i < m - 1; ++i) // [A]
+      skip[delimiter[i] & 0xff] = m - 1 - i;
+
+    this.buf = new byte[Math.max(bufferSize, m * 2 + 4)];
+    this.view = ByteBuffer.wrap(buf);
+    // The first delimiter is not preceded by a CRLF, so one is provided to find it like the others
+    buf[0] = '\r';
+    buf[1] = '\n';
+    this.limit = 2;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the delimiter in {@code buf} from {@code from} to {@link #limit}, or {@code -1} if
+   * there is no such occurrence, using the Boyer-Moore-Horspool algorithm.
+   */
+  private int search(final int from) {
+    final byte[] delimiter = this.delimiter;
+    final int last = delimiter.length - 1;
+    for (int i = from; i + last < limit; i += skip[buf[i + last] & 0xff]) { // [N]
+      int j = last;
+      while (buf[i + j] == delimiter[j])
+        if (j-- == 0)
+          return i;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Moves the unread bytes to the start of the buffer, and reads more bytes after them.
+   *
+   * @return Whether more bytes were read, or {@code false} if the end of the underlying stream has been reached.
+   */
+  private boolean fill() throws IOException {
+    if (pos > 0) {
+      System.arraycopy(buf, pos, buf, 0, limit -= pos);
+      searchFrom = Math.max(0, searchFrom - pos);
+      if (partEnd != -1)
+        partEnd -= pos;
+
+      pos = 0;
+    }
+
+    if (limit == buf.length)
+      return true;
+
+    int n;
+    do
+      n = in.read(buf, limit, buf.length - limit);
+    while (n == 0);
+    if (n == -1)
+      return false;
+
+    limit += n;
+    return true;
+  }
+
+  /**
+   * Returns the number of bytes of the body of the current part that can be read from the buffer at {@link #pos}, filling the buffer
+   * if necessary, or {@code -1} if the end of the body of the current part has been reached.
+   */
+  private int body() throws IOException {
+    if (part == null)
+      return -1;
+
+    for (;;) { // [X]
+      if (partEnd != -1)
+        return partEnd == pos ? -1 : partEnd - pos;
+
+      final int found = search(searchFrom);
+      if (found != -1) {
+        partEnd = found;
+        continue;
+      }
+
+      // A delimiter can only start in the last (delimiter.length - 1) bytes, so the bytes before them are safe to return
+      searchFrom = Math.max(searchFrom, limit - delimiter.length + 1);
+      if (searchFrom > pos)
+        return searchFrom - pos;
+
+      if (!fill())
+        throw new IOException("Unexpected end of multipart body");
+    }
+  }
+
+  /**
+   * Ensures that at least {@code n} bytes from {@link #pos} are in the buffer.
+   */
+  private void require(final int n) throws IOException {
+    while (limit - pos < n)
+      if (!fill())
+        throw new IOException("Unexpected end of multipart body");
+  }
+
+  /**
+   * Returns the header line at {@link #pos} without its CRLF, and advances past it.
+   */
+  private String readLine() throws IOException {
+    for (int scanned = 0;;) { // [X]
+      for (int i = pos + scanned; i < limit - 1; ++i) { // [N]
+        if (buf[i] == '\r' && buf[i + 1] == '\n') {
+          final String line = new String(buf, pos, i - pos, StandardCharsets.UTF_8);
+          pos = i + 2;
+          return line;
+        }
+      }
+
+      scanned = Math.max(0, limit - 1 - pos);
+      if (pos == 0 && limit == buf.length)
+        throw new IOException("Multipart header line exceeds buffer size of " + buf.length);
+
+      if (!fill())
+        throw new IOException("Unexpected end of multipart body");
+    }
+  }
+
+  /**
+   * Advances to the next part, skipping the unread remainder of the current part (or the preamble, if this is the first invocation),
+   * and returns its headers. After this method returns a {@link Part}, the {@code read} methods of this stream return the bytes of
+   * its body.
+   *
+   * @return The headers of the next part, or {@code null} if there are no more parts.
+   * @throws IOException If an I/O error has occurred, or if the body is not a well-formed {@code multipart/form-data} body.
+   */
+  public Part nextPart() throws IOException {
+    if (finished)
+      return null;
+
+    if (part == null) {
+      // Skip the preamble as if it were the body of a part
+      part = new Part(Collections.emptyMap());
+    }
+
+    for (int n; (n = body()) != -1;) // [X]
+      pos += n;
+
+    pos += delimiter.length;
+    require(2);
+    if (buf[pos] == '-' && buf[pos + 1] == '-') {
+      pos += 2;
+      part = null;
+      finished = true;
+      return null;
+    }
+
+    // Skip transport padding after the delimiter, up to and including its CRLF
+    readLine();
+    final Map<String,String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (String line; !(line = readLine()).isEmpty();) { // [X]
+      final int colon = line.indexOf(':');
+      if (colon == -1)
+        throw new IOException("Malformed multipart header: " + line);
+
+      headers.merge(line.substring(0, colon).trim(), line.substring(colon + 1).trim(), (a, b) -> a + ", " + b);
+    }
+
+    partEnd = -1;
+    searchFrom = pos;
+    return part = new Part(headers);
+  }
+
+  /**
+   * Writes the unread remainder of the body of the current part to the provided {@link WritableByteChannel}, directly from the
+   * buffer of this stream.
+   *
+   * @param channel The {@link WritableByteChannel} to which the body is to be written.
+   * @return The number of bytes written.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code channel} is null.
+   */
+  public long transferTo(final WritableByteChannel channel) throws IOException {
+    long total = 0;
+    for (int n; (n = body()) != -1; pos += n, total += n) { // [X]
+      ((Buffer)view).limit(pos + n).position(pos);
+      while (view.hasRemaining())
+        channel.write(view);
+    }
+
+    return total;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return body() == -1 ? -1 : buf[pos++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    assertBoundsOffsetCount("b.length", b.length, "off", off, "len", len);
+    if (len == 0)
+      return 0;
+
+    final int n = body();
+    if (n == -1)
+      return -1;
+
+    final int r = Math.min(n, len);
+    System.arraycopy(buf, pos, b, off, r);
+    pos += r;
+    return r;
+  }
+
+  @Override
+  public long skip(final long n) throws IOException {
+    long r = n;
+    for (int d; r > 0 && (d = body()) != -1;) { // [X]
+      final int s = (int)Math.min(d, r);
+      pos += s;
+      r -= s;
+    }
+
+    return n - r;
+  }
+
+  @Override
+  public int available() {
+    if (part == null)
+      return 0;
+
+    return (partEnd != -1 ? partEnd : Math.max(pos, Math.min(searchFrom, limit))) - pos;
+  }
+
+  @Override
+  public boolean isFinished() {
+    return finished;
+  }
+
+  @Override
+  public boolean isReady() {
+    return true;
+  }
+
+  /**
+   * Not supported, because this stream only supports blocking reads.
+   *
+   * @throws UnsupportedOperationException Always.
+   */
+  @Override
+  public void setReadListener(final ReadListener readListener) {
+    throw new UnsupportedOperationException("MultipartServletInputStream only supports blocking reads");
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("sync-override")
+  public void mark(final int readlimit) {
+  }
+
+  @Override
+  @SuppressWarnings("sync-override")
+  public void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+}
@@ -0,0 +1,510 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A compact multimap of parameter names to values, which stores its names, values and hash codes in flat parallel arrays, instead of
+ * a {@link java.util.HashMap} of {@link java.util.ArrayList}s. Names are found by a linear scan of their hash codes while the map is
+ * small, and with an open-addressing (linear probing) index once it has more than 8 names. Iteration is in the order in which
+ * names were first added.
+ * <p>
+ * This class implements {@code Map<String,List<String>>}, whereby the {@link List} returned by {@link #get(Object)} is a view of the
+ * values of the name. The {@link #asArrayMap()} method returns a {@code Map<String,String[]>} view of the same parameters (e.g. for
+ * {@link HTTP#createQuery(Map,String)} or {@link javax.servlet.ServletRequest#getParameterMap()}). Parameters are most efficiently
+ * added with {@link #add(String,String)}, which is used by {@link URIs#parseParameters(Map,String)} when provided a
+ * {@link ParameterMap}.
+ * <p>
+ * Names must not be null. This class is not thread-safe.
+ */
+public class ParameterMap extends AbstractMap<String,List<String>> {
+  private static final int HASH_THRESHOLD = 8;
+  private static final String[] EMPTY = {};
+
+  /** A view of the values of a name, which re-resolves the index of the name if it has shifted due to a removal. */
+  private final class Values extends AbstractList<String> implements RandomAccess {
+    private final String name;
+    private int index;
+
+    private Values(final String name, final int index) {
+      this.name = name;
+      this.index = index;
+    }
+
+    private int resolve() {
+      return index != -1 && index < size && names[index] == name ? index : (index = find(name));
+    }
+
+    private int index() {
+      final int i = resolve();
+      if (i == -1)
+        throw new IllegalStateException("Parameter has been removed: " + name);
+
+      return i;
+    }
+
+    @Override
+    public String get(final int index) {
+      final int i = index();
+      if (index < 0 || index >= counts[i])
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + counts[i]);
+
+      return values[i][index];
+    }
+
+    @Override
+    public String set(final int index, final String element) {
+      final int i = index();
+      if (index < 0 || index >= counts[i])
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + counts[i]);
+
+      final String previous = values[i][index];
+      values[i][index] = element;
+      return previous;
+    }
+
+    @Override
+    public void add(final int index, final String element) {
+      final int i = index();
+      final int count = counts[i];
+      if (index < 0 || index > count)
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+
+      String[] array = values[i];
+      if (count == array.length)
+        values[i] = array = Arrays.copyOf(array, Math.max(2, count * 2));
+
+      System.arraycopy(array, index, array, index + 1, count - index);
+      array[index] = element;
+      ++counts[i];
+      ++modCount;
+    }
+
+    @Override
+    public String remove(final int index) {
+      final int i = index();
+      final int count = counts[i];
+      if (index < 0 || index >= count)
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+
+      final String[] array = values[i];
+      final String previous = array[index];
+      System.arraycopy(array, index + 1, array, index, count - index - 1);
+      array[counts[i] = count - 1] = null;
+      ++modCount;
+      return previous;
+    }
+
+    @Override
+    public int size() {
+      final int i = resolve();
+      return i == -1 ? 0 : counts[i];
+    }
+  }
+
+  private final class ArrayMap extends AbstractMap<String,String[]> {
+    private Set<Map.Entry<String,String[]>> entrySet;
+
+    private ParameterMap map() {
+      return ParameterMap.this;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return find(key) != -1;
+    }
+
+    @Override
+    public String[] get(final Object key) {
+      final int i = find(key);
+      return i == -1 ? null : trimmed(i);
+    }
+
+    @Override
+    public String[] put(final String key, final String[] value) {
+      final int i = find(key);
+      final String[] array = value.length == 0 ? EMPTY : value.clone();
+      if (i == -1) {
+        append(key, array, array.length);
+        return null;
+      }
+
+      final String[] previous = trimmed(i);
+      values[i] = array;
+      counts[i] = array.length;
+      return previous;
+    }
+
+    @Override
+    public String[] remove(final Object key) {
+      final int i = find(key);
+      if (i == -1)
+        return null;
+
+      final String[] previous = trimmed(i);
+      removeAt(i);
+      return previous;
+    }
+
+    @Override
+    public void clear() {
+      ParameterMap.this.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<String,String[]>> entrySet() {
+      return entrySet == null ? entrySet = new AbstractSet<Map.Entry<String,String[]>>() {
+        @Override
+        public Iterator<Map.Entry<String,String[]>> iterator() {
+          return new EntryIterator<Map.Entry<String,String[]>>() {
+            @Override
+            Map.Entry<String,String[]> entry(final int index) {
+              return new AbstractMap.SimpleEntry<String,String[]>(names[index], trimmed(index)) {
+                private static final long serialVersionUID = -5016237227632787017L;
+
+                @Override
+                public String[] setValue(final String[] value) {
+                  super.setValue(value);
+                  return put(getKey(), value);
+                }
+              };
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      } : entrySet;
+    }
+  }
+
+  private abstract class EntryIterator<E> implements Iterator<E> {
+    private int index;
+    private int last = -1;
+
+    abstract E entry(int index);
+
+    @Override
+    public boolean hasNext() {
+      return index < size;
+    }
+
+    @Override
+    public E next() {
+      if (index >= size)
+        throw new NoSuchElementException();
+
+      return entry(last = index++);
+    }
+
+    @Override
+    public void remove() {
+      if (last == -1)
+        throw new IllegalStateException();
+
+      removeAt(last);
+      index = last;
+      last = -1;
+    }
+  }
+
+  private String[] names;
+  private int[] hashes;
+  private String[][] values;
+  private int[] counts;
+  private int size;
+  // Open-addressing index of entry index + 1 (with 0 marking an empty slot), or null while size <= HASH_THRESHOLD
+  private int[] table;
+  private Set<Map.Entry<String,List<String>>> entrySet;
+  private ArrayMap arrayMap;
+
+  /**
+   * Creates a new {@link ParameterMap} with an initial capacity of 8 names.
+   */
+  public ParameterMap() {
+    this(HASH_THRESHOLD);
+  }
+
+  /**
+   * Creates a new {@link ParameterMap} with the provided initial capacity of names.
+   *
+   * @param initialCapacity The initial capacity of names.
+   * @throws IllegalArgumentException If {@code initialCapacity} is negative.
+   */
+  public ParameterMap(final int initialCapacity) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("initialCapacity (" + initialCapacity + ") must be non-negative");
+
+    this.names = new String[initialCapacity];
+    this.hashes = new int[initialCapacity];
+    this.values = new String[initialCapacity][];
+    this.counts = new int[initialCapacity];
+  }
+
+  /**
+   * Adds the provided value to the values of the specified name.
+   *
+   * @param name The name of the parameter.
+   * @param value The value to add, which may be null.
+   * @return This {@link ParameterMap}.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public ParameterMap add(final String name, final String value) {
+    final int i = find(name.hashCode(), name);
+    if (i == -1) {
+      append(name, new String[] {value}, 1);
+    }
+    else {
+      final int count = counts[i];
+      if (count == values[i].length)
+        values[i] = Arrays.copyOf(values[i], Math.max(2, count * 2));
+
+      values[i][counts[i]++] = value;
+    }
+
+    return this;
+  }
+
+  /**
+   * Returns the first value of the provided name, or {@code null} if the name is not present, or if its first value is null.
+   *
+   * @param name The name of the parameter.
+   * @return The first value of the provided name, or {@code null} if the name is not present, or if its first value is null.
+   */
+  public String getFirst(final String name) {
+    final int i = find(name);
+    return i == -1 || counts[i] == 0 ? null : values[i][0];
+  }
+
+  /**
+   * Returns a {@code Map<String,String[]>} view of this map, whereby changes to either map are reflected in the other. The arrays
+   * returned by the view share the storage of this map, and must not be modified.
+   *
+   * @return A {@code Map<String,String[]>} view of this map.
+   */
+  public Map<String,String[]> asArrayMap() {
+    return arrayMap == null ? arrayMap = new ArrayMap() : arrayMap;
+  }
+
+  /**
+   * Returns the {@link ParameterMap} of which the provided map is the {@linkplain #asArrayMap() array view}, or {@code null} if it is
+   * not such a view.
+   */
+  static ParameterMap of(final Map<String,String[]> map) {
+    return map instanceof ArrayMap ? ((ArrayMap)map).map() : null;
+  }
+
+  String nameAt(final int index) {
+    return names[index];
+  }
+
+  String[] valuesAt(final int index) {
+    return values[index];
+  }
+
+  int countAt(final int index) {
+    return counts[index];
+  }
+
+  private static int spread(final int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private int find(final Object key) {
+    return key instanceof String ? find(key.hashCode(), (String)key) : -1;
+  }
+
+  private int find(final int hash, final String name) {
+    if (table == null) {
+      for (int i = 0; i < size; ++i) // [A]
+        if (hashes[i] == hash && names[i].equals(name))
+          return i;
+
+      return -1;
+    }
+
+    final int mask = table.length - 1;
+    for (int j = spread(hash) & mask, k; (k = table[j]) != 0; j = (j + 1) & mask) // [N]
+      if (hashes[--k] == hash && names[k].equals(name))
+        return k;
+
+    return -1;
+  }
+
+  private void append(final String name, final String[] array, final int count) {
+    if (size == names.length) {
+      final int capacity = Math.max(4, size * 2);
+      names = Arrays.copyOf(names, capacity);
+      hashes = Arrays.copyOf(hashes, capacity);
+      values = Arrays.copyOf(values, capacity);
+      counts = Arrays.copyOf(counts, capacity);
+    }
+
+    final int hash = name.hashCode();
+    names[size] = name;
+    hashes[size] = hash;
+    values[size] = array;
+    counts[size] = count;
+    ++size;
+    if (size > HASH_THRESHOLD) {
+      if (table == null || size * 2 > table.length)
+        rehash();
+      else
+        insert(hash, size);
+    }
+  }
+
+  private void insert(final int hash, final int entry) {
+    final int mask = table.length - 1;
+    int j = spread(hash) & mask;
+    while (table[j] != 0)
+      j = (j + 1) & mask;
+
+    table[j] = entry;
+  }
+
+  private void rehash() {
+    if (size <= HASH_THRESHOLD) {
+      table = null;
+      return;
+    }
+
+    table = new int[Integer.highestOneBit(size * 4 - 1)];
+    for (int i = 0; i < size; ++i) // [A]
+      insert(hashes[i], i + 1);
+  }
+
+  private void removeAt(final int index) {
+    final int tail = size - index - 1;
+    System.arraycopy(names, index + 1, names, index, tail);
+    System.arraycopy(hashes, index + 1, hashes, index, tail);
+    System.arraycopy(values, index + 1, values, index, tail);
+    System.arraycopy(counts, index + 1, counts, index, tail);
+    names[--size] = null;
+    values[size] = null;
+    rehash();
+  }
+
+  /** Returns the values of the entry at the provided index, after trimming the array to the number of values. */
+  private String[] trimmed(final int index) {
+    final int count = counts[index];
+    if (values[index].length != count)
+      values[index] = count == 0 ? EMPTY : Arrays.copyOf(values[index], count);
+
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return find(key) != -1;
+  }
+
+  @Override
+  public List<String> get(final Object key) {
+    final int i = find(key);
+    return i == -1 ? null : new Values(names[i], i);
+  }
+
+  @Override
+  public List<String> put(final String key, final List<String> value) {
+    final int i = find(key);
+    final String[] array = value.isEmpty() ? EMPTY : value.toArray(new String[value.size()]);
+    if (i == -1) {
+      append(key, array, array.length);
+      return null;
+    }
+
+    final List<String> previous = Arrays.asList(trimmed(i));
+    values[i] = array;
+    counts[i] = array.length;
+    return previous;
+  }
+
+  @Override
+  public List<String> remove(final Object key) {
+    final int i = find(key);
+    if (i == -1)
+      return null;
+
+    final List<String> previous = Arrays.asList(trimmed(i));
+    removeAt(i);
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(names, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    table = null;
+  }
+
+  @Override
+  public Set<Map.Entry<String,List<String>>> entrySet() {
+    return entrySet == null ? entrySet = new AbstractSet<Map.Entry<String,List<String>>>() {
+      @Override
+      public Iterator<Map.Entry<String,List<String>>> iterator() {
+        return new EntryIterator<Map.Entry<String,List<String>>>() {
+          @Override
+          Map.Entry<String,List<String>> entry(final int index) {
+            final String name = names[index];
+            return new AbstractMap.SimpleEntry<String,List<String>>(name, new Values(name, index)) {
+              private static final long serialVersionUID = 2433516460658396463L;
+
+              @Override
+              public List<String> setValue(final List<String> value) {
+                return put(name, value);
+              }
+            };
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    } : entrySet;
+  }
+}
@@ -0,0 +1,315 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An immutable parsed URL, which retains the URL string as provided, and represents its components as offsets into it.
+ * <p>
+ * The URL string is split into its scheme, userinfo, host, port, path, query and fragment components as per
+ * <a href="https://www.rfc-editor.org/rfc/rfc3986#appendix-B">RFC 3986, Appendix B</a>, whereby no component is decoded or
+ * validated other than the port. Unlike {@link URL}, a {@link ParsedURL} does not look up a {@link java.net.URLStreamHandler} when
+ * constructed, and does not resolve host names in {@link #equals(Object)} or {@link #hashCode()}. Component strings are only
+ * created when requested by the respective accessor, and {@link #toString()} returns the original URL string.
+ */
+public final class ParsedURL {
+  private final String spec;
+  private final int schemeEnd;
+  private final int authorityStart;
+  private final int userInfoEnd;
+  private final int hostStart;
+  private final int hostEnd;
+  private final int port;
+  private final int pathStart;
+  private final int pathEnd;
+  private final int queryEnd;
+
+  /**
+   * Returns a new {@link ParsedURL} of the string form of the provided {@link URL}.
+   *
+   * @param url The {@link URL}.
+   * @return A new {@link ParsedURL} of the string form of the provided {@link URL}.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static ParsedURL from(final URL url) {
+    return new ParsedURL(url.toString());
+  }
+
+  /**
+   * Returns a new {@link ParsedURL} of the string form of the provided {@link URI}.
+   *
+   * @param uri The {@link URI}.
+   * @return A new {@link ParsedURL} of the string form of the provided {@link URI}.
+   * @throws NullPointerException If {@code uri} is null.
+   */
+  public static ParsedURL from(final URI uri) {
+    return new ParsedURL(uri.toString());
+  }
+
+  /**
+   * Creates a new {@link ParsedURL} by parsing the provided URL string.
+   *
+   * @param spec The URL string to parse.
+   * @throws NullPointerException If {@code spec} is null.
+   * @throws IllegalArgumentException If the port of {@code spec} is not a non-negative decimal integer.
+   */
+  public ParsedURL(final String spec) {
+    this.spec = spec;
+    final int len = spec.length();
+
+    // scheme = [^:/?#]+ ":"
+    int i = 0;
+    for (char ch; i < len; ++i) // [N]
+      if ((ch = spec.charAt(i)) == ':' || ch == '/' || ch == '?' || ch == '#')
+        break;
+
+    schemeEnd = i > 0 && i < len && spec.charAt(i) == ':' ? i : -1;
+    i = schemeEnd + 1;
+
+    // authority = "//" [^/?#]*
+    if (i + 1 < len && spec.charAt(i) == '/' && spec.charAt(i + 1) == '/') {
+      authorityStart = i += 2;
+      int end = i;
+      for (char ch; end < len; ++end) // [N]
+        if ((ch = spec.charAt(end)) == '/' || ch == '?' || ch == '#')
+          break;
+
+      final int at = spec.lastIndexOf('@', end - 1);
+      userInfoEnd = at < i ? -1 : at;
+      hostStart = userInfoEnd == -1 ? i : userInfoEnd + 1;
+      // An IP literal may contain ':', so the port is sought after its closing ']'
+      final int bracket = hostStart < end && spec.charAt(hostStart) == '[' ? spec.indexOf(']', hostStart) : -1;
+      final int colon = spec.lastIndexOf(':', end - 1);
+      if (colon < hostStart || bracket != -1 && bracket < end && colon < bracket) {
+        hostEnd = end;
+        port = -1;
+      }
+      else {
+        hostEnd = colon;
+        port = parsePort(spec, colon + 1, end);
+      }
+
+      i = end;
+    }
+    else {
+      authorityStart = -1;
+      userInfoEnd = -1;
+      hostStart = -1;
+      hostEnd = -1;
+      port = -1;
+    }
+
+    // path = [^?#]*, query = "?" [^#]*, fragment = "#" .*
+    pathStart = i;
+    for (char ch; i < len; ++i) // [N]
+      if ((ch = spec.charAt(i)) == '?' || ch == '#')
+        break;
+
+    pathEnd = i;
+    if (i < len && spec.charAt(i) == '?') {
+      final int hash = spec.indexOf('#', i + 1);
+      queryEnd = hash == -1 ? len : hash;
+    }
+    else {
+      queryEnd = i;
+    }
+  }
+
+  private static int parsePort(final String spec, final int start, final int end) {
+    if (start == end)
+      return -1;
+
+    if (end - start > 9)
+      throw new IllegalArgumentException("Invalid port: " + spec.substring(start, end));
+
+    int port = 0;
+    for (int i = start; i < end; ++i) { // [N]
+      final char ch = spec.charAt(i);
+      if (ch < '0' || '9' < ch)
+        throw new IllegalArgumentException("Invalid port: " + spec.substring(start, end));
+
+      port = port * 10 + (ch - '0');
+    }
+
+    return port;
+  }
+
+  /**
+   * Returns the scheme of this URL, or {@code null} if the scheme is absent.
+   *
+   * @return The scheme of this URL, or {@code null} if the scheme is absent.
+   */
+  public String getScheme() {
+    return schemeEnd == -1 ? null : spec.substring(0, schemeEnd);
+  }
+
+  /**
+   * Returns whether the scheme of this URL is equal to the provided scheme, ignoring case, without creating a {@link String} of the
+   * scheme.
+   *
+   * @param scheme The scheme to test.
+   * @return Whether the scheme of this URL is equal to the provided scheme, ignoring case.
+   * @throws NullPointerException If {@code scheme} is null.
+   */
+  public boolean isScheme(final String scheme) {
+    return schemeEnd == scheme.length() && spec.regionMatches(true, 0, scheme, 0, schemeEnd);
+  }
+
+  /**
+   * Returns the authority of this URL, or {@code null} if the authority is absent.
+   *
+   * @return The authority of this URL, or {@code null} if the authority is absent.
+   */
+  public String getAuthority() {
+    return authorityStart == -1 ? null : spec.substring(authorityStart, pathStart);
+  }
+
+  /**
+   * Returns the userinfo of this URL, or {@code null} if the userinfo is absent.
+   *
+   * @return The userinfo of this URL, or {@code null} if the userinfo is absent.
+   */
+  public String getUserInfo() {
+    return userInfoEnd == -1 ? null : spec.substring(authorityStart, userInfoEnd);
+  }
+
+  /**
+   * Returns the host of this URL (including the enclosing {@code '['} and {@code ']'} of an IP literal), or {@code null} if the
+   * authority is absent.
+   *
+   * @return The host of this URL, or {@code null} if the authority is absent.
+   */
+  public String getHost() {
+    return authorityStart == -1 ? null : spec.substring(hostStart, hostEnd);
+  }
+
+  /**
+   * Returns the port of this URL, or {@code -1} if the port is absent.
+   *
+   * @return The port of this URL, or {@code -1} if the port is absent.
+   */
+  public int getPort() {
+    return port;
+  }
+
+  /**
+   * Returns the path of this URL, which is the empty string if the path is absent.
+   *
+   * @return The path of this URL, which is the empty string if the path is absent.
+   */
+  public String getPath() {
+    return spec.substring(pathStart, pathEnd);
+  }
+
+  /**
+   * Returns the query of this URL, or {@code null} if the query is absent.
+   *
+   * @return The query of this URL, or {@code null} if the query is absent.
+   */
+  public String getQuery() {
+    return queryEnd == pathEnd ? null : spec.substring(pathEnd + 1, queryEnd);
+  }
+
+  /**
+   * Returns the parameters of the query of this URL decoded in UTF-8, or {@code null} if the query is absent. The returned
+   * {@link QueryParameters} records offsets into the URL string, and does not copy the query.
+   *
+   * @return The parameters of the query of this URL, or {@code null} if the query is absent.
+   */
+  public QueryParameters getQueryParameters() {
+    return queryEnd == pathEnd ? null : new QueryParameters(spec, pathEnd + 1, queryEnd, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the path of this URL followed by its query (if present), which is equivalent to {@link URL#getFile()}.
+   *
+   * @return The path of this URL followed by its query (if present).
+   */
+  public String getFile() {
+    return spec.substring(pathStart, queryEnd);
+  }
+
+  /**
+   * Returns the fragment of this URL, or {@code null} if the fragment is absent.
+   *
+   * @return The fragment of this URL, or {@code null} if the fragment is absent.
+   */
+  public String getFragment() {
+    return queryEnd == spec.length() ? null : spec.substring(queryEnd + 1);
+  }
+
+  /** Returns the index of the ':' after the scheme, or -1 if the scheme is absent. */
+  int schemeEnd() {
+    return schemeEnd;
+  }
+
+  /** Returns the index at which the path starts, which is also the index at which the authority (if any) ends. */
+  int pathStart() {
+    return pathStart;
+  }
+
+  /** Returns the index at which the path ends, which is the index of the '?' or '#' that follows it, or the length of the URL. */
+  int pathEnd() {
+    return pathEnd;
+  }
+
+  /**
+   * Returns a new {@link URL} of this URL.
+   *
+   * @return A new {@link URL} of this URL.
+   * @throws IllegalArgumentException If the scheme is absent or unknown, or the URL fails to comply with the specific syntax of the
+   *           associated protocol.
+   * @see URLs#create(String)
+   */
+  public URL toURL() {
+    return URLs.create(spec);
+  }
+
+  /**
+   * Returns a new {@link URI} of this URL.
+   *
+   * @return A new {@link URI} of this URL.
+   * @throws IllegalArgumentException If the URL violates RFC 2396.
+   * @see URI#create(String)
+   */
+  public URI toURI() {
+    return URI.create(spec);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 + spec.hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    return obj == this || obj instanceof ParsedURL && spec.equals(((ParsedURL)obj).spec);
+  }
+
+  /**
+   * Returns the URL string from which this {@link ParsedURL} was parsed.
+   *
+   * @return The URL string from which this {@link ParsedURL} was parsed.
+   */
+  @Override
+  public String toString() {
+    return spec;
+  }
+}
@@ -0,0 +1,417 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Percent-encoding codec for the components of a URI as per <a href="https://www.rfc-editor.org/rfc/rfc3986">RFC 3986</a>. Each
+ * {@link Component} defines the ASCII characters that are safe to be left unescaped in it, and the {@code encode(Component,...)} and
+ * {@code decode(Component,...)} methods encode and decode {@link String}s, {@link CharSequence}s, and octets in {@link ByteBuffer}s
+ * (heap or direct) accordingly. The methods that do not accept a {@link Component} apply the semantics of {@link Component#PATH},
+ * which are the same as those of {@link URLs#encodePath(String)} and {@link URLs#decodePath(String)}: the characters permitted in a
+ * URL path are not escaped, {@code ' '} is escaped as {@code "%20"}, and {@code '+'} is left as-is.
+ * <p>
+ * The methods that encode and decode octets in {@link ByteBuffer}s follow the contract of
+ * {@link java.nio.charset.CharsetDecoder#decode(ByteBuffer,java.nio.CharBuffer,boolean)}: octets are read from the input buffer
+ * starting at its position and written to the output buffer starting at its position, and the positions of both are advanced past
+ * the octets that were consumed and produced. The returned {@link CoderResult} is {@link CoderResult#UNDERFLOW} if all input that can
+ * be consumed has been consumed, {@link CoderResult#OVERFLOW} if the output buffer has insufficient room, or a malformed-input result
+ * if the input contains an invalid escape sequence. An escape sequence that is split across the end of the input buffer is left
+ * unconsumed until more input is available, so the codec can be driven incrementally across partial reads by compacting the input
+ * buffer between invocations.
+ */
+public final class PercentCodec {
+  private static final String UNRESERVED = "-._~";
+  private static final String SUB_DELIMS = "!$&'()*+,;=";
+  private static final String PCHAR = UNRESERVED + SUB_DELIMS + ":@";
+
+  /**
+   * The components of a URI as per <a href="https://www.rfc-editor.org/rfc/rfc3986#section-3">RFC 3986, Section 3</a>. The ASCII
+   * characters that are safe to be left unescaped in each component are held in a 128-bit set of two {@code long} words, so that a
+   * character is tested with a single shift and mask. In all components, ASCII letters and digits are safe.
+   */
+  public enum Component {
+    /** {@code scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / "." )} */
+    SCHEME("+-.", false),
+    /** {@code userinfo = *( unreserved / pct-encoded / sub-delims / ":" )} */
+    USERINFO(UNRESERVED + SUB_DELIMS + ":", false),
+    /** {@code reg-name = *( unreserved / pct-encoded / sub-delims )}, as well as {@code '['}, {@code ']'} and {@code ':'} of IP literals. */
+    HOST(UNRESERVED + SUB_DELIMS + "[]:", false),
+    /** {@code segment = *pchar} */
+    PATH_SEGMENT(PCHAR, false),
+    /** {@code path-abempty = *( "/" segment )}, as encoded by {@link URLs#encodePath(String)}. */
+    PATH(PCHAR + "/", false),
+    /** {@code query = *( pchar / "/" / "?" )} */
+    QUERY(PCHAR + "/?", false),
+    /**
+     * A name or value of a query parameter in the {@code application/x-www-form-urlencoded} format, as encoded by
+     * {@link java.net.URLEncoder} and {@link URLs#encode(String)}: only {@code "*-._"} are safe, and {@code ' '} is encoded as
+     * {@code '+'}.
+     */
+    QUERY_PARAM("*-._", true),
+    /** {@code fragment = *( pchar / "/" / "?" )} */
+    FRAGMENT(PCHAR + "/?", false);
+
+    private final long lo;
+    private final long hi;
+    final boolean spaceAsPlus;
+
+    private Component(final String safe, final boolean spaceAsPlus) {
+      long lo = 0x03ff000000000000L; // '0'-'9'
+      long hi = 0x07fffffe07fffffeL; // 'A'-'Z', 'a'-'z'
+      for (int i = 0, i$ = safe.length(); i < i$; ++i) { // [N]
+        final char ch = safe.charAt(i);
+        if (ch < 64)
+          lo |= 1L << ch;
+        else
+          hi |= 1L << ch;
+      }
+
+      this.lo = lo;
+      this.hi = hi;
+      this.spaceAsPlus = spaceAsPlus;
+    }
+
+    /**
+     * Returns whether the provided character is safe to be left unescaped in this component.
+     *
+     * @param ch The character to test.
+     * @return Whether the provided character is safe to be left unescaped in this component.
+     */
+    public boolean isSafe(final int ch) {
+      // The shift distance of a long is taken modulo 64
+      return ch < 64 ? ch >= 0 && (lo & 1L << ch) != 0 : ch < 128 && (hi & 1L << ch) != 0;
+    }
+  }
+
+  /**
+   * Returns the encoded form of the provided string as UTF-8 in the specified {@link Component}, or the string itself if it does not
+   * contain characters that need to be encoded.
+   *
+   * @param component The {@link Component} in which the string is to be encoded.
+   * @param s The string to encode.
+   * @return The encoded form of the provided string in the specified {@link Component}.
+   * @throws NullPointerException If {@code component} or {@code s} is null.
+   */
+  public static String encode(final Component component, final String s) {
+    return encode(component, s, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the encoded form of the provided string in the specified {@link Component}, or the string itself if it does not contain
+   * characters that need to be encoded.
+   *
+   * @param component The {@link Component} in which the string is to be encoded.
+   * @param s The string to encode.
+   * @param charset The {@link Charset} with which characters that need to be encoded are to be converted to octets.
+   * @return The encoded form of the provided string in the specified {@link Component}.
+   * @throws NullPointerException If {@code component}, {@code s}, or {@code charset} is null.
+   */
+  public static String encode(final Component component, final String s, final Charset charset) {
+    return URLs.encode(s, Objects.requireNonNull(charset), component, component.spaceAsPlus);
+  }
+
+  /**
+   * Encodes the provided {@link CharSequence} in the specified {@link Component}, appending the result to the specified
+   * {@link Appendable}.
+   *
+   * @param <T> The type parameter of the {@link Appendable}.
+   * @param component The {@link Component} in which the {@link CharSequence} is to be encoded.
+   * @param s The {@link CharSequence} to encode.
+   * @param charset The {@link Charset} with which characters that need to be encoded are to be converted to octets.
+   * @param out The {@link Appendable} to which the encoded characters are to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred while appending to {@code out}.
+   * @throws NullPointerException If {@code component}, {@code s}, {@code charset}, or {@code out} is null.
+   */
+  public static <T extends Appendable> T encode(final Component component, final CharSequence s, final Charset charset, final T out) throws IOException {
+    return URLs.encode(s, 0, s.length(), Objects.requireNonNull(charset), component, component.spaceAsPlus, Objects.requireNonNull(out));
+  }
+
+  /**
+   * Returns the decoded form of the provided string encoded as UTF-8 in the specified {@link Component}. In
+   * {@link Component#QUERY_PARAM}, {@code '+'} is decoded as {@code ' '}, and in all other components it is left as-is.
+   *
+   * @param component The {@link Component} in which the string is encoded.
+   * @param s The string to decode.
+   * @return The decoded form of the provided string.
+   * @throws IllegalArgumentException If {@code s} contains an illegal escape sequence.
+   * @throws NullPointerException If {@code component} or {@code s} is null.
+   */
+  public static String decode(final Component component, final String s) {
+    return decode(component, s, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the decoded form of the provided string encoded in the specified {@link Component}. In {@link Component#QUERY_PARAM},
+   * {@code '+'} is decoded as {@code ' '}, and in all other components it is left as-is.
+   *
+   * @param component The {@link Component} in which the string is encoded.
+   * @param s The string to decode.
+   * @param charset The {@link Charset} with which escaped octets are to be converted to characters.
+   * @return The decoded form of the provided string.
+   * @throws IllegalArgumentException If {@code s} contains an illegal escape sequence.
+   * @throws NullPointerException If {@code component}, {@code s}, or {@code charset} is null.
+   */
+  public static String decode(final Component component, final String s, final Charset charset) {
+    return URLs.decode(s, Objects.requireNonNull(charset), !component.spaceAsPlus);
+  }
+
+  private static int digit16(final byte b) {
+    return b >= 0 ? URLs.HEX_DIGITS[b] : -1;
+  }
+
+  private static final long PERCENTS = 0x2525252525252525L;
+  private static final long PLUSES = 0x2b2b2b2b2b2b2b2bL;
+  private static final long LOW_BITS = 0x7f7f7f7f7f7f7f7fL;
+
+  /**
+   * Returns the index of the first octet equal to {@code (byte)pattern} in {@code in} between {@code fromIndex} and {@code toIndex},
+   * or {@code toIndex} if there is none. The octets are scanned 8 at a time as {@code long} words (SWAR), whereby the high bit of each
+   * octet in the word {@code y} is set if and only if the respective octet is equal to the octet repeated in {@code pattern}.
+   */
+  private static int indexOf(final ByteBuffer in, final long pattern, int fromIndex, final int toIndex) {
+    final boolean bigEndian = in.order() == ByteOrder.BIG_ENDIAN;
+    for (; fromIndex + 8 <= toIndex; fromIndex += 8) { // [N]
+      final long x = in.getLong(fromIndex) ^ pattern;
+      final long y = ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+      if (y != 0)
+        return fromIndex + ((bigEndian ? Long.numberOfLeadingZeros(y) : Long.numberOfTrailingZeros(y)) >>> 3);
+    }
+
+    for (; fromIndex < toIndex; ++fromIndex) // [N]
+      if (in.get(fromIndex) == (byte)pattern)
+        return fromIndex;
+
+    return toIndex;
+  }
+
+  /**
+   * Percent-encodes the octets in {@code in} to {@code out} with the semantics of {@link Component#PATH}.
+   *
+   * @param in The input buffer of octets (such as UTF-8 encoded characters) to encode.
+   * @param out The output buffer to which the encoded octets are to be written.
+   * @return {@link CoderResult#UNDERFLOW} if all of {@code in} was encoded, or {@link CoderResult#OVERFLOW} if {@code out} does not
+   *         have enough room for the remaining input.
+   * @throws NullPointerException If {@code in} or {@code out} is null.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is a read-only buffer.
+   */
+  public static CoderResult encode(final ByteBuffer in, final ByteBuffer out) {
+    return encode(Component.PATH, in, out);
+  }
+
+  /**
+   * Percent-encodes the octets in {@code in} to {@code out} in the specified {@link Component}.
+   *
+   * @param component The {@link Component} in which the octets are to be encoded.
+   * @param in The input buffer of octets (such as UTF-8 encoded characters) to encode.
+   * @param out The output buffer to which the encoded octets are to be written.
+   * @return {@link CoderResult#UNDERFLOW} if all of {@code in} was encoded, or {@link CoderResult#OVERFLOW} if {@code out} does not
+   *         have enough room for the remaining input.
+   * @throws NullPointerException If {@code component}, {@code in}, or {@code out} is null.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is a read-only buffer.
+   */
+  public static CoderResult encode(final Component component, final ByteBuffer in, final ByteBuffer out) {
+    final boolean spaceAsPlus = component.spaceAsPlus;
+    int i = in.position();
+    int j = out.position();
+    final int i$ = in.limit();
+    final int j$ = out.limit();
+    try {
+      for (; i < i$; ++i) { // [N]
+        final byte b = in.get(i);
+        if (component.isSafe(b) || b == ' ' && spaceAsPlus) {
+          if (j == j$)
+            return CoderResult.OVERFLOW;
+
+          out.put(j++, b == ' ' ? (byte)'+' : b);
+        }
+        else {
+          if (j$ - j < 3)
+            return CoderResult.OVERFLOW;
+
+          out.put(j++, (byte)'%');
+          out.put(j++, (byte)URLs.HEX_UPPER[(b >> 4) & 0xf]);
+          out.put(j++, (byte)URLs.HEX_UPPER[b & 0xf]);
+        }
+      }
+
+      return CoderResult.UNDERFLOW;
+    }
+    finally {
+      ((Buffer)in).position(i);
+      ((Buffer)out).position(j);
+    }
+  }
+
+  /**
+   * Decodes the percent-encoded octets in {@code in} to {@code out} with the semantics of {@link Component#PATH}.
+   * <p>
+   * If {@code endOfInput} is {@code false} and {@code in} ends with an incomplete escape sequence, the incomplete sequence is left in
+   * {@code in} and {@link CoderResult#UNDERFLOW} is returned, so that decoding can resume once more input is available.
+   *
+   * @param in The input buffer of percent-encoded octets to decode.
+   * @param out The output buffer to which the decoded octets are to be written. The output buffer may share content with the input
+   *          buffer (i.e. {@code in.duplicate()}), as long as the position of {@code out} does not exceed the position of {@code in}.
+   * @param endOfInput Whether the invoker can provide further input beyond that in the given buffer.
+   * @return {@link CoderResult#UNDERFLOW} if all of {@code in} that can be decoded was decoded, {@link CoderResult#OVERFLOW} if
+   *         {@code out} does not have enough room for the remaining input, or a malformed-input result (with the position of
+   *         {@code in} at the offending {@code '%'}) if an escape sequence is not followed by two hexadecimal digits.
+   * @throws NullPointerException If {@code in} or {@code out} is null.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is a read-only buffer.
+   */
+  public static CoderResult decode(final ByteBuffer in, final ByteBuffer out, final boolean endOfInput) {
+    return decode(Component.PATH, in, out, endOfInput);
+  }
+
+  /**
+   * Decodes the percent-encoded octets in {@code in} to {@code out} in the specified {@link Component}. In
+   * {@link Component#QUERY_PARAM}, {@code '+'} is decoded as {@code ' '}, and in all other components it is left as-is.
+   * <p>
+   * If {@code endOfInput} is {@code false} and {@code in} ends with an incomplete escape sequence, the incomplete sequence is left in
+   * {@code in} and {@link CoderResult#UNDERFLOW} is returned, so that decoding can resume once more input is available.
+   *
+   * @param component The {@link Component} in which the octets are encoded.
+   * @param in The input buffer of percent-encoded octets to decode.
+   * @param out The output buffer to which the decoded octets are to be written. The output buffer may share content with the input
+   *          buffer (i.e. {@code in.duplicate()}), as long as the position of {@code out} does not exceed the position of {@code in}.
+   * @param endOfInput Whether the invoker can provide further input beyond that in the given buffer.
+   * @return {@link CoderResult#UNDERFLOW} if all of {@code in} that can be decoded was decoded, {@link CoderResult#OVERFLOW} if
+   *         {@code out} does not have enough room for the remaining input, or a malformed-input result (with the position of
+   *         {@code in} at the offending {@code '%'}) if an escape sequence is not followed by two hexadecimal digits.
+   * @throws NullPointerException If {@code component}, {@code in}, or {@code out} is null.
+   * @throws java.nio.ReadOnlyBufferException If {@code out} is a read-only buffer.
+   */
+  public static CoderResult decode(final Component component, final ByteBuffer in, final ByteBuffer out, final boolean endOfInput) {
+    final boolean plusAsSpace = component.spaceAsPlus;
+    int i = in.position();
+    int j = out.position();
+    final int i$ = in.limit();
+    final int j$ = out.limit();
+    try {
+      for (byte b; i < i$; ++i) { // [N]
+        if (j == j$)
+          return CoderResult.OVERFLOW;
+
+        if ((b = in.get(i)) == '+' && plusAsSpace) {
+          out.put(j++, (byte)' ');
+          continue;
+        }
+
+        if (b != '%') {
+          // Copy the run of octets up to the next '%' (or '+') in bulk. When out shares content with in, j <= i, so a forward copy is safe.
+          int end = indexOf(in, PERCENTS, i + 1, i$);
+          if (plusAsSpace)
+            end = indexOf(in, PLUSES, i + 1, end);
+
+          final int n = Math.min(end - i, j$ - j);
+          if (in.hasArray() && out.hasArray()) {
+            System.arraycopy(in.array(), in.arrayOffset() + i, out.array(), out.arrayOffset() + j, n);
+          }
+          else {
+            int k = 0;
+            final boolean swap = in.order() != out.order();
+            for (; k + 8 <= n; k += 8) { // [N]
+              final long w = in.getLong(i + k);
+              out.putLong(j + k, swap ? Long.reverseBytes(w) : w);
+            }
+
+            for (; k < n; ++k) // [N]
+              out.put(j + k, in.get(i + k));
+          }
+
+          j += n;
+          i += n - 1;
+          continue;
+        }
+
+        if (i + 2 >= i$) {
+          if (endOfInput)
+            return CoderResult.malformedForLength(i$ - i);
+
+          return CoderResult.UNDERFLOW;
+        }
+
+        final int u = digit16(in.get(i + 1));
+        final int l = digit16(in.get(i + 2));
+        if (u == -1 || l == -1)
+          return CoderResult.malformedForLength(3);
+
+        out.put(j++, (byte)((u << 4) | l));
+        i += 2;
+      }
+
+      return CoderResult.UNDERFLOW;
+    }
+    finally {
+      ((Buffer)in).position(i);
+      ((Buffer)out).position(j);
+    }
+  }
+
+  /**
+   * Decodes the percent-encoded octets between the position and the limit of the provided buffer in place with the semantics of
+   * {@link Component#PATH}. Upon return, the position of the buffer is unchanged, and its limit is set to the end of the decoded
+   * octets.
+   *
+   * @param buf The buffer of percent-encoded octets to decode in place.
+   * @return The number of decoded octets.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws IllegalArgumentException If {@code buf} contains an escape sequence that is not followed by two hexadecimal digits, in
+   *           which case the position of the buffer is unchanged, but its content is undefined.
+   * @throws java.nio.ReadOnlyBufferException If {@code buf} is a read-only buffer.
+   */
+  public static int decode(final ByteBuffer buf) {
+    return decode(Component.PATH, buf);
+  }
+
+  /**
+   * Decodes the percent-encoded octets between the position and the limit of the provided buffer in place in the specified
+   * {@link Component}. Upon return, the position of the buffer is unchanged, and its limit is set to the end of the decoded octets.
+   *
+   * @param component The {@link Component} in which the octets are encoded.
+   * @param buf The buffer of percent-encoded octets to decode in place.
+   * @return The number of decoded octets.
+   * @throws NullPointerException If {@code component} or {@code buf} is null.
+   * @throws IllegalArgumentException If {@code buf} contains an escape sequence that is not followed by two hexadecimal digits, in
+   *           which case the position of the buffer is unchanged, but its content is undefined.
+   * @throws java.nio.ReadOnlyBufferException If {@code buf} is a read-only buffer.
+   */
+  public static int decode(final Component component, final ByteBuffer buf) {
+    final int start = buf.position();
+    final ByteBuffer in = buf.duplicate();
+    final CoderResult result = decode(component, in, buf, true);
+    final int end = buf.position();
+    ((Buffer)buf).position(start);
+    if (result.isError())
+      throw new IllegalArgumentException("Invalid URL encoding: " + (result.length() < 3 ? "Incomplete trailing" : "Invalid") + " escape (%) pattern at index " + (in.position() - start));
+
+    ((Buffer)buf).limit(end);
+    return end - start;
+  }
+
+  private PercentCodec() {
+  }
+}
@@ -0,0 +1,365 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A read-only multimap view of the parameters of a query string, which records the offsets of each parameter name and value in the
+ * query string, and only creates (and decodes) the {@link String} of a name or value when it is accessed.
+ * <p>
+ * The query string is split into parameters in the same manner as by {@link URIs#parseParameters(Map,String)}: each
+ * {@code '&'}-delimited token is a parameter, whereby a token without {@code '='} is a name with a {@code null} value. The names and
+ * values are decoded as {@code application/x-www-form-urlencoded} strings (i.e. with {@code '+'} decoded as a space) in the
+ * {@link Charset} provided at construction, or are left undecoded if the {@link Charset} is null.
+ * <p>
+ * Looking up a parameter with {@link #get(Object)}, {@link #containsKey(Object)} or {@link #getFirst(String)} only decodes the names
+ * that contain a {@code '%'} or {@code '+'}, and compares all other names in place. Methods that require the set of distinct names
+ * (such as {@link #size()} and {@link #entrySet()}) decode all names.
+ * <p>
+ * As names and values are decoded lazily, an {@link IllegalArgumentException} for an illegal escape sequence is thrown by the
+ * accessor that decodes it, rather than by the constructor. This class is not thread-safe.
+ */
+public final class QueryParameters extends AbstractMap<String,List<String>> {
+  private final class Values extends AbstractList<String> implements RandomAccess {
+    private final int[] indices;
+    private final int size;
+
+    private Values(final int[] indices, final int size) {
+      this.indices = indices;
+      this.size = size;
+    }
+
+    @Override
+    public String get(final int index) {
+      if (index < 0 || index >= size)
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+      return getValue(indices[index]);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  private final String query;
+  private final Charset charset;
+  private final int count;
+  // Four offsets per parameter: name start, name end, value start, value end (with value start == -1 for an absent value)
+  private final int[] offsets;
+  private final String[] names;
+  private int[][] groups;
+  private Set<Map.Entry<String,List<String>>> entrySet;
+
+  /**
+   * Creates a new {@link QueryParameters} of the provided query string, with names and values decoded in UTF-8.
+   *
+   * @param query The query string.
+   * @throws NullPointerException If {@code query} is null.
+   */
+  public QueryParameters(final String query) {
+    this(query, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a new {@link QueryParameters} of the provided query string, with names and values decoded in the specified
+   * {@link Charset}.
+   *
+   * @param query The query string.
+   * @param charset The {@link Charset} in which names and values are to be decoded, or {@code null} to not decode names and values.
+   * @throws NullPointerException If {@code query} is null.
+   */
+  public QueryParameters(final String query, final Charset charset) {
+    this(query, 0, query.length(), charset);
+  }
+
+  /**
+   * Creates a new {@link QueryParameters} of the query string in the provided {@link String} from index {@code start} (inclusive) to
+   * index {@code end} (exclusive), with names and values decoded in the specified {@link Charset}. The query string is not copied.
+   *
+   * @param s The {@link String} containing the query string.
+   * @param start The start index of the query string, inclusive.
+   * @param end The end index of the query string, exclusive.
+   * @param charset The {@link Charset} in which names and values are to be decoded, or {@code null} to not decode names and values.
+   * @throws NullPointerException If {@code s} is null.
+   * @throws IndexOutOfBoundsException If {@code start} is negative, {@code end} is greater than the length of {@code s}, or
+   *           {@code start} is greater than {@code end}.
+   */
+  public QueryParameters(final String s, final int start, final int end, final Charset charset) {
+    if (start < 0 || end > s.length() || start > end)
+      throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + s.length());
+
+    this.query = s;
+    this.charset = charset;
+    this.offsets = offsets(s, start, end);
+    this.count = offsets.length / 4;
+    this.names = new String[count];
+  }
+
+  /**
+   * Returns the offsets of the parameters of the query string in the provided {@link String} from index {@code start} (inclusive) to
+   * index {@code end} (exclusive), as four offsets per parameter: name start, name end, value start, value end (with value start and
+   * value end of {@code -1} for a parameter without {@code '='}). If a parameter has more than one {@code '='}, its name is delimited
+   * by the last two.
+   *
+   * @param s The {@link String} containing the query string.
+   * @param start The start index of the query string, inclusive.
+   * @param end The end index of the query string, exclusive.
+   * @return The offsets of the parameters of the query string, of which there are four per parameter.
+   */
+  static int[] offsets(final String s, final int start, final int end) {
+    int[] offsets = new int[16];
+    int n = 0;
+    // Both delimiters are located with String.indexOf(int,int) (which is intrinsified with SIMD instructions), whereby eq is kept at
+    // the first '=' at or after the start of the current token, so that each char is scanned at most once per delimiter
+    int eq = s.indexOf('=', start);
+    for (int from = start, to; from <= end; from = to + 1, n += 4) { // [N]
+      to = s.indexOf('&', from);
+      if (to == -1 || to > end)
+        to = end;
+
+      if (n == offsets.length)
+        offsets = Arrays.copyOf(offsets, n * 2);
+
+      if (eq == -1 || eq >= to) {
+        offsets[n] = from;
+        offsets[n + 1] = to;
+        offsets[n + 2] = -1;
+        offsets[n + 3] = -1;
+      }
+      else {
+        int nameStart = from;
+        int last = eq;
+        while ((eq = s.indexOf('=', last + 1)) != -1 && eq < to) {
+          nameStart = last + 1;
+          last = eq;
+        }
+
+        offsets[n] = nameStart;
+        offsets[n + 1] = last;
+        offsets[n + 2] = last + 1;
+        offsets[n + 3] = to;
+      }
+    }
+
+    return n == offsets.length ? offsets : Arrays.copyOf(offsets, n);
+  }
+
+  /**
+   * Returns the number of parameters, including repeated names.
+   *
+   * @return The number of parameters, including repeated names.
+   */
+  public int count() {
+    return count;
+  }
+
+  /**
+   * Returns the name of the parameter at the provided index.
+   *
+   * @param index The index of the parameter, from {@code 0} to {@link #count()} (exclusive).
+   * @return The name of the parameter at the provided index.
+   * @throws IndexOutOfBoundsException If {@code index} is negative, or not less than {@link #count()}.
+   */
+  public String getName(final int index) {
+    String name = names[checkIndex(index)];
+    if (name == null)
+      names[index] = name = decode(offsets[index * 4], offsets[index * 4 + 1]);
+
+    return name;
+  }
+
+  /**
+   * Returns the value of the parameter at the provided index, or {@code null} if the parameter does not have a value.
+   *
+   * @param index The index of the parameter, from {@code 0} to {@link #count()} (exclusive).
+   * @return The value of the parameter at the provided index, or {@code null} if the parameter does not have a value.
+   * @throws IndexOutOfBoundsException If {@code index} is negative, or not less than {@link #count()}.
+   */
+  public String getValue(final int index) {
+    final int start = offsets[checkIndex(index) * 4 + 2];
+    return start == -1 ? null : decode(start, offsets[index * 4 + 3]);
+  }
+
+  /**
+   * Returns the value of the first parameter with the provided name, or {@code null} if there is no such parameter, or if it does
+   * not have a value.
+   *
+   * @param name The name of the parameter.
+   * @return The value of the first parameter with the provided name, or {@code null} if there is no such parameter, or if it does
+   *         not have a value.
+   */
+  public String getFirst(final String name) {
+    if (name != null)
+      for (int i = 0; i < count; ++i) // [N]
+        if (nameEquals(i, name))
+          return getValue(i);
+
+    return null;
+  }
+
+  private int checkIndex(final int index) {
+    if (index < 0 || index >= count)
+      throw new IndexOutOfBoundsException("Index: " + index + ", Count: " + count);
+
+    return index;
+  }
+
+  private String decode(final int start, final int end) {
+    final String raw = query.substring(start, end);
+    return charset == null ? raw : URLs.decode(raw, charset, false);
+  }
+
+  private boolean nameEquals(final int index, final String name) {
+    if (names[index] != null)
+      return names[index].equals(name);
+
+    final int start = offsets[index * 4];
+    final int end = offsets[index * 4 + 1];
+    // A decoded name is never longer than its encoded form
+    final int len = name.length();
+    if (end - start < len)
+      return false;
+
+    if (charset == null)
+      return end - start == len && query.regionMatches(start, name, 0, len);
+
+    // The chars before the first escape are the same in the decoded name, so a mismatch in them rejects the name without decoding
+    for (int i = start, j = 0; i < end; ++i, ++j) { // [N]
+      final char ch = query.charAt(i);
+      if (ch == '%' || ch == '+')
+        return getName(index).equals(name);
+
+      if (j == len || ch != name.charAt(j))
+        return false;
+    }
+
+    return end - start == len;
+  }
+
+  @Override
+  public List<String> get(final Object key) {
+    if (!(key instanceof String))
+      return null;
+
+    final String name = (String)key;
+    int[] indices = null;
+    int size = 0;
+    for (int i = 0; i < count; ++i) { // [N]
+      if (nameEquals(i, name)) {
+        if (indices == null)
+          indices = new int[2];
+        else if (size == indices.length)
+          indices = Arrays.copyOf(indices, size * 2);
+
+        indices[size++] = i;
+      }
+    }
+
+    return indices == null ? null : new Values(indices, size);
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    if (key instanceof String)
+      for (int i = 0; i < count; ++i) // [N]
+        if (nameEquals(i, (String)key))
+          return true;
+
+    return false;
+  }
+
+  /** Returns the indices of the parameters grouped by distinct name, in the order of the first occurrence of each name. */
+  private int[][] groups() {
+    if (groups != null)
+      return groups;
+
+    final HashMap<String,Integer> nameToGroup = new HashMap<>();
+    final int[] groupOf = new int[count];
+    final int[] sizes = new int[count];
+    for (int i = 0; i < count; ++i) { // [N]
+      final Integer group = nameToGroup.putIfAbsent(getName(i), nameToGroup.size());
+      ++sizes[groupOf[i] = group != null ? group : nameToGroup.size() - 1];
+    }
+
+    final int[][] groups = new int[nameToGroup.size()][];
+    for (int i = 0; i < groups.length; ++i) // [A]
+      groups[i] = new int[sizes[i]];
+
+    Arrays.fill(sizes, 0);
+    for (int i = 0; i < count; ++i) // [N]
+      groups[groupOf[i]][sizes[groupOf[i]]++] = i;
+
+    return this.groups = groups;
+  }
+
+  @Override
+  public int size() {
+    return groups().length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return count == 0;
+  }
+
+  @Override
+  public Set<Map.Entry<String,List<String>>> entrySet() {
+    return entrySet == null ? entrySet = new AbstractSet<Map.Entry<String,List<String>>>() {
+      @Override
+      public Iterator<Map.Entry<String,List<String>>> iterator() {
+        final int[][] groups = groups();
+        return new Iterator<Map.Entry<String,List<String>>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < groups.length;
+          }
+
+          @Override
+          public Map.Entry<String,List<String>> next() {
+            if (index == groups.length)
+              throw new NoSuchElementException();
+
+            final int[] group = groups[index++];
+            return new AbstractMap.SimpleImmutableEntry<>(getName(group[0]), new Values(group, group.length));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return groups().length;
+      }
+    } : entrySet;
+  }
+}
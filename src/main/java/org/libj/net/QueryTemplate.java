@@ -0,0 +1,194 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A precompiled template of a URL with a fixed sequence of query parameter names, of which only the values vary between requests.
+ * The names are encoded once when the template is created, and each URL is built by appending the encoded values to the encoded
+ * names in a per-thread {@link StringBuilder} that is reused between invocations.
+ * <p>
+ * The query is encoded in the same manner as by {@link HTTP#createQuery(Map,String)}, whereby a {@code null} value omits its
+ * parameter from the query. A {@link QueryTemplate} is immutable, and is thus thread-safe.
+ *
+ * @see HTTP#get(QueryTemplate,String...)
+ * @see HTTP#getAsStream(QueryTemplate,String...)
+ */
+public final class QueryTemplate {
+  /** The maximum capacity of the per-thread builders that are retained between invocations. */
+  private static final int MAX_RETAINED_BUILDER = 8192;
+
+  private static final ThreadLocal<StringBuilder> builder = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+  private final String url;
+  private final String separator;
+  private final Charset charset;
+  private final String[] names;
+  // The encoded name of each parameter followed by '='
+  private final String[] prefixes;
+
+  /**
+   * Creates a new {@link QueryTemplate} of the provided base URL and parameter names, with names and values encoded in UTF-8.
+   *
+   * @param url The base URL, which may already contain a query.
+   * @param names The names of the query parameters, in the order in which their values are to be provided.
+   * @throws NullPointerException If {@code url}, {@code names}, or a member of {@code names} is null.
+   */
+  public QueryTemplate(final String url, final String ... names) {
+    this(url, StandardCharsets.UTF_8, names);
+  }
+
+  /**
+   * Creates a new {@link QueryTemplate} of the provided base URL and parameter names, with names and values encoded in the specified
+   * {@link Charset}.
+   *
+   * @param url The base URL, which may already contain a query.
+   * @param charset The {@link Charset} in which names and values are to be encoded.
+   * @param names The names of the query parameters, in the order in which their values are to be provided.
+   * @throws NullPointerException If {@code url}, {@code charset}, {@code names}, or a member of {@code names} is null.
+   */
+  public QueryTemplate(final String url, final Charset charset, final String ... names) {
+    this.url = Objects.requireNonNull(url);
+    this.charset = Objects.requireNonNull(charset);
+    this.names = names.clone();
+    this.prefixes = new String[names.length];
+    for (int i = 0; i < names.length; ++i) // [A]
+      prefixes[i] = PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, Objects.requireNonNull(names[i]), charset) + "=";
+
+    final int q = url.indexOf('?');
+    final char last = url.isEmpty() ? 0 : url.charAt(url.length() - 1);
+    this.separator = q == -1 ? "?" : last == '?' || last == '&' ? "" : "&";
+  }
+
+  /**
+   * Returns the number of parameters of this template.
+   *
+   * @return The number of parameters of this template.
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Returns the name of the parameter at the provided index.
+   *
+   * @param index The index of the parameter.
+   * @return The name of the parameter at the provided index.
+   * @throws ArrayIndexOutOfBoundsException If {@code index} is negative, or not less than {@link #size()}.
+   */
+  public String getName(final int index) {
+    return names[index];
+  }
+
+  /**
+   * Returns the {@link Charset} in which names and values are encoded.
+   *
+   * @return The {@link Charset} in which names and values are encoded.
+   */
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * Returns the query of this template with the provided values, without the base URL.
+   *
+   * @param values The values of the parameters, in the order of the names of this template, whereby a {@code null} value omits its
+   *          parameter.
+   * @return The query of this template with the provided values.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IllegalArgumentException If the number of values is not equal to {@link #size()}.
+   */
+  public String createQuery(final String ... values) {
+    final StringBuilder builder = builder();
+    append(builder, values, "");
+    return release(builder);
+  }
+
+  /**
+   * Returns the URL string of this template with the provided values.
+   *
+   * @param values The values of the parameters, in the order of the names of this template, whereby a {@code null} value omits its
+   *          parameter.
+   * @return The URL string of this template with the provided values.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IllegalArgumentException If the number of values is not equal to {@link #size()}.
+   */
+  public String toString(final String ... values) {
+    final StringBuilder builder = builder().append(url);
+    append(builder, values, separator);
+    return release(builder);
+  }
+
+  /**
+   * Returns the {@link URL} of this template with the provided values.
+   *
+   * @param values The values of the parameters, in the order of the names of this template, whereby a {@code null} value omits its
+   *          parameter.
+   * @return The {@link URL} of this template with the provided values.
+   * @throws MalformedURLException If the resulting URL is malformed.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IllegalArgumentException If the number of values is not equal to {@link #size()}.
+   */
+  public URL toURL(final String ... values) throws MalformedURLException {
+    return new URL(toString(values));
+  }
+
+  private static StringBuilder builder() {
+    final StringBuilder builder = QueryTemplate.builder.get();
+    builder.setLength(0);
+    return builder;
+  }
+
+  private static String release(final StringBuilder builder) {
+    final String s = builder.toString();
+    if (builder.capacity() > MAX_RETAINED_BUILDER)
+      QueryTemplate.builder.remove();
+
+    return s;
+  }
+
+  private void append(final StringBuilder builder, final String[] values, String separator) {
+    if (values.length != names.length)
+      throw new IllegalArgumentException("Expected " + names.length + " values, but got " + values.length);
+
+    try {
+      for (int i = 0; i < values.length; ++i) { // [A]
+        if (values[i] != null) {
+          builder.append(separator).append(prefixes[i]);
+          PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, values[i], charset, builder);
+          separator = "&";
+        }
+      }
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return url + separator + String.join("&", prefixes);
+  }
+}
@@ -0,0 +1,188 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * A bounded cache of permanent (HTTP 301) redirects, keyed by the source {@link URL}, which is consulted by
+ * {@link URLConnections#checkFollowRedirect(java.net.URLConnection,int,org.libj.util.function.ThrowingConsumer,URLConnections.HopListener,RedirectCache)}
+ * so that a request to a source {@link URL} that was previously redirected goes straight to the target {@link URL}, without the
+ * round trip of the redirect. The cache is opt-in: an instance is created with a fixed capacity, and is provided to the methods that
+ * follow redirects.
+ * <p>
+ * A redirect is retained until it expires as per the {@code Cache-Control} and {@code Expires} headers of the redirect response. A
+ * redirect response with {@code Cache-Control: no-store} or {@code no-cache}, or that has already expired, is not retained, and one
+ * with neither header is retained until it is evicted or invalidated. A redirect is invalidated when the request to its target
+ * {@link URL} responds with HTTP 404 or HTTP 410, or by {@link #invalidate(URL)}.
+ * <p>
+ * The cache is split into stripes that are locked independently, each of which evicts with the CLOCK (second chance) algorithm, as
+ * in {@link URLCache}.
+ */
+public final class RedirectCache extends StripedClockCache<RedirectCache.Node> {
+  /** An entry of a source {@link URL}, holding the target {@link URL} of its redirect. */
+  static final class Node extends StripedClockCache.Node {
+    private URL target;
+    private long expires;
+
+    private Node(final String source) {
+      super(source);
+    }
+  }
+
+  /**
+   * Creates a new {@link RedirectCache} with the provided capacity, which is striped for the number of available processors.
+   *
+   * @param capacity The maximum number of redirects to be retained.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public RedirectCache(final int capacity) {
+    this(capacity, Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+  /**
+   * Creates a new {@link RedirectCache} with the provided capacity and concurrency level.
+   *
+   * @param capacity The maximum number of redirects to be retained.
+   * @param concurrencyLevel The estimated number of concurrently accessing threads, which determines the number of stripes (though no
+   *          more stripes are created than would have fewer than 8 entries each).
+   * @throws IllegalArgumentException If {@code capacity} or {@code concurrencyLevel} is not positive.
+   */
+  public RedirectCache(final int capacity, final int concurrencyLevel) {
+    super(capacity, concurrencyLevel);
+  }
+
+  /**
+   * Returns the target {@link URL} of the unexpired redirect of the provided source {@link URL} retained in this cache, or
+   * {@code null} if there is no such redirect.
+   *
+   * @param source The source {@link URL}.
+   * @return The target {@link URL} of the unexpired redirect of the provided source {@link URL} retained in this cache, or
+   *         {@code null} if there is no such redirect.
+   * @throws NullPointerException If {@code source} is null.
+   */
+  public URL get(final URL source) {
+    final String key = source.toString();
+    final Stripe<Node> stripe = stripe(key);
+    synchronized (stripe) {
+      final Node node = stripe.get(key);
+      if (node != null) {
+        if (node.expires > System.currentTimeMillis()) {
+          node.referenced = true;
+          hits.increment();
+          return node.target;
+        }
+
+        stripe.remove(node);
+      }
+    }
+
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Retains the redirect of the provided source {@link URL} to the provided target {@link URL}, which expires at the provided time.
+   *
+   * @param source The source {@link URL}.
+   * @param target The target {@link URL}.
+   * @param expires The time in milliseconds since the epoch at which the redirect expires.
+   * @throws NullPointerException If {@code source} or {@code target} is null.
+   */
+  public void put(final URL source, final URL target, final long expires) {
+    final String key = source.toString();
+    final Stripe<Node> stripe = stripe(key);
+    synchronized (stripe) {
+      Node node = stripe.get(key);
+      if (node == null)
+        stripe.add(node = new Node(key));
+
+      node.target = assertNotNull(target);
+      node.expires = expires;
+    }
+  }
+
+  /**
+   * Retains the redirect of the {@link URL} of the provided {@link HttpURLConnection} to the provided target {@link URL}, if the
+   * redirect response is cacheable as per its {@code Cache-Control} and {@code Expires} headers.
+   *
+   * @param connection The {@link HttpURLConnection} of the redirect response.
+   * @param target The target {@link URL}.
+   */
+  void put(final HttpURLConnection connection, final URL target) {
+    final long expires = getExpires(connection.getHeaderField("Cache-Control"), connection.getExpiration(), System.currentTimeMillis());
+    if (expires != 0)
+      put(connection.getURL(), target, expires);
+  }
+
+  /**
+   * Returns the time in milliseconds since the epoch at which a response with the provided {@code Cache-Control} and {@code Expires}
+   * headers expires, {@link Long#MAX_VALUE} if it does not expire, or {@code 0} if it is not to be cached.
+   */
+  static long getExpires(final String cacheControl, final long expiration, final long now) {
+    if (cacheControl != null) {
+      long maxAge = -1;
+      for (int i = 0, len = cacheControl.length(); i < len;) { // [N]
+        int end = cacheControl.indexOf(',', i);
+        if (end == -1)
+          end = len;
+
+        final String directive = cacheControl.substring(i, end).trim();
+        i = end + 1;
+        if ("no-store".equalsIgnoreCase(directive) || "no-cache".equalsIgnoreCase(directive))
+          return 0;
+
+        if (directive.regionMatches(true, 0, "max-age=", 0, 8)) {
+          try {
+            maxAge = Long.parseLong(directive.substring(8).replace("\"", "").trim());
+          }
+          catch (final NumberFormatException e) {
+            return 0;
+          }
+        }
+      }
+
+      if (maxAge >= 0)
+        return maxAge == 0 ? 0 : maxAge >= (Long.MAX_VALUE - now) / 1000 ? Long.MAX_VALUE : now + maxAge * 1000;
+    }
+
+    return expiration == 0 ? Long.MAX_VALUE : expiration > now ? expiration : 0;
+  }
+
+  /**
+   * Removes the redirect of the provided source {@link URL} from this cache.
+   *
+   * @param source The source {@link URL}.
+   * @return {@code true} if a redirect of the provided source {@link URL} was retained in this cache, otherwise {@code false}.
+   * @throws NullPointerException If {@code source} is null.
+   */
+  public boolean invalidate(final URL source) {
+    final String key = source.toString();
+    final Stripe<Node> stripe = stripe(key);
+    synchronized (stripe) {
+      final Node node = stripe.get(key);
+      if (node == null)
+        return false;
+
+      stripe.remove(node);
+      return true;
+    }
+  }
+}
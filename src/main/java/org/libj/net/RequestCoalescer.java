@@ -0,0 +1,218 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent GET requests of the same {@link URL} into a single request (single-flight), as an opt-in alternative to
+ * {@link HTTP#getAsStream(URL)}. The first caller for a {@link URL} sends the request and reads its response into a buffer, and the
+ * callers for the same {@link URL} that arrive before the response is read wait for it, after which each caller is returned an
+ * independent {@link ByteArrayInputStream} (which supports {@link InputStream#mark(int)} and {@link InputStream#reset()}) over the
+ * shared buffer. A response is not retained after it is read, so a caller that arrives later sends a new request.
+ * <p>
+ * A response with a body longer than the maximum length is not buffered: the first caller is returned a stream of the response as
+ * it is received, and the waiting callers send their own requests. An {@link IOException} of the request of the first caller is
+ * rethrown (as the cause of an {@link IOException}) to each of the waiting callers.
+ */
+public final class RequestCoalescer {
+  /** A request in flight, the result of which is published by the latch. */
+  private static final class Flight {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private byte[] buf;
+    private int count;
+    private IOException exception;
+
+    /**
+     * Publishes the provided result to the waiting callers, who send their own requests if {@code buf} and {@code exception} are
+     * null.
+     */
+    private void complete(final byte[] buf, final int count, final IOException exception) {
+      this.buf = buf;
+      this.count = count;
+      this.exception = exception;
+      latch.countDown();
+    }
+  }
+
+  private final ConcurrentHashMap<String,Flight> flights = new ConcurrentHashMap<>();
+  private final int maxLength;
+  private final RedirectCache redirectCache;
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  /**
+   * Creates a new {@link RequestCoalescer} that buffers responses with a body of up to the provided maximum length.
+   *
+   * @param maxLength The maximum length of a response body that is buffered to be shared with concurrent callers.
+   * @throws IllegalArgumentException If {@code maxLength} is negative.
+   */
+  public RequestCoalescer(final int maxLength) {
+    this(maxLength, null);
+  }
+
+  /**
+   * Creates a new {@link RequestCoalescer} that buffers responses with a body of up to the provided maximum length, and consults the
+   * provided {@link RedirectCache} when following redirects.
+   *
+   * @param maxLength The maximum length of a response body that is buffered to be shared with concurrent callers.
+   * @param redirectCache The {@link RedirectCache} of permanent redirects, or {@code null}.
+   * @throws IllegalArgumentException If {@code maxLength} is negative.
+   */
+  public RequestCoalescer(final int maxLength, final RedirectCache redirectCache) {
+    this.maxLength = assertNotNegative(maxLength);
+    this.redirectCache = redirectCache;
+  }
+
+  /**
+   * Invoke a GET request on the specified {@link URL}, or wait for the response of the GET request on an equal {@link URL} that is
+   * in flight. It is highly recommended to close the obtained {@link InputStream} after processing.
+   *
+   * @param url The {@link URL} to be invoked.
+   * @return The result of the GET request as an {@link InputStream}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws InterruptedIOException If the thread is interrupted while waiting for the response of another caller.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public InputStream getAsStream(final URL url) throws IOException {
+    final String key = url.toString();
+    final Flight flight = new Flight();
+    final Flight existing = flights.putIfAbsent(key, flight);
+    if (existing != null) {
+      try {
+        existing.latch.await();
+      }
+      catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for " + key);
+      }
+
+      if (existing.exception != null)
+        throw new IOException(existing.exception.getMessage(), existing.exception);
+
+      if (existing.buf == null)
+        return open(url).getInputStream();
+
+      coalesced.increment();
+      return new ByteArrayInputStream(existing.buf, 0, existing.count);
+    }
+
+    byte[] shared = null;
+    int count = 0;
+    IOException exception = null;
+    InputStream in = null;
+    try {
+      final URLConnection connection = open(url);
+      final long length = connection.getContentLengthLong();
+      in = connection.getInputStream();
+      if (length > maxLength)
+        return in;
+
+      byte[] buf = new byte[length >= 0 ? (int)length : Math.min(maxLength, 8192)];
+      for (int n;;) { // [X]
+        if (count < buf.length) {
+          if ((n = in.read(buf, count, buf.length - count)) == -1)
+            break;
+
+          count += n;
+        }
+        else if ((n = in.read()) == -1) {
+          break;
+        }
+        else if (count == maxLength) {
+          // The body is longer than the maximum length, so the caller is returned the rest of it as it is received
+          final byte[] head = Arrays.copyOf(buf, count + 1);
+          head[count] = (byte)n;
+          return new SequenceInputStream(new ByteArrayInputStream(head), in);
+        }
+        else {
+          buf = Arrays.copyOf(buf, (int)Math.min(maxLength, buf.length * 2L + 1));
+          buf[count++] = (byte)n;
+        }
+      }
+
+      in.close();
+      return new ByteArrayInputStream(shared = buf, 0, count);
+    }
+    catch (final IOException e) {
+      if (in != null) {
+        try {
+          in.close();
+        }
+        catch (final IOException ie) {
+          e.addSuppressed(ie);
+        }
+      }
+
+      throw exception = e;
+    }
+    finally {
+      flights.remove(key, flight);
+      flight.complete(shared, count, exception);
+    }
+  }
+
+  private URLConnection open(final URL url) throws IOException {
+    requests.increment();
+    return URLConnections.checkFollowRedirect(HttpTransports.openConnection(url), Integer.MAX_VALUE, (final HttpURLConnection c) -> c.setUseCaches(false), null, redirectCache);
+  }
+
+  /**
+   * Returns the maximum length of a response body that is buffered to be shared with concurrent callers.
+   *
+   * @return The maximum length of a response body that is buffered to be shared with concurrent callers.
+   */
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Returns the number of requests that were sent.
+   *
+   * @return The number of requests that were sent.
+   */
+  public long getRequestCount() {
+    return requests.sum();
+  }
+
+  /**
+   * Returns the number of invocations of {@link #getAsStream(URL)} that were returned the response of the request of another caller.
+   *
+   * @return The number of invocations of {@link #getAsStream(URL)} that were returned the response of the request of another caller.
+   */
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "RequestCoalescer[maxLength=" + maxLength + ", requests=" + getRequestCount() + ", coalesced=" + getCoalescedCount() + "]";
+  }
+}
@@ -0,0 +1,216 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of nodes keyed by strings, which is split into stripes that are locked independently, each of which evicts with
+ * the CLOCK (second chance) algorithm: a node that is hit is marked as referenced, and when a stripe is full, the clock hand sweeps
+ * its nodes, clearing the mark of referenced nodes and evicting the first node that is not referenced. The counts of hits, misses and
+ * evictions are kept so that the capacity can be sized for the working set.
+ * <p>
+ * A subclass locks the {@link Stripe} of a key (as returned by {@link #stripe(String)}) while it accesses its nodes, and counts its
+ * own hits and misses.
+ *
+ * @param <N> The type of the nodes.
+ */
+abstract class StripedClockCache<N extends StripedClockCache.Node> {
+  /** A node of a key, which is marked as referenced when it is hit. */
+  static class Node {
+    final String key;
+    boolean referenced;
+    int index;
+
+    Node(final String key) {
+      this.key = key;
+    }
+  }
+
+  /** A stripe of the cache, of which the nodes are accessed while it is locked. */
+  static final class Stripe<N extends Node> {
+    private final HashMap<String,N> map;
+    private final Node[] clock;
+    private final LongAdder evictions;
+    private int hand;
+    private int size;
+
+    private Stripe(final int capacity, final LongAdder evictions) {
+      this.map = new HashMap<>(capacity * 4 / 3 + 1);
+      this.clock = new Node[capacity];
+      this.evictions = evictions;
+    }
+
+    N get(final String key) {
+      return map.get(key);
+    }
+
+    /**
+     * Adds the provided node, of which the key is not in this stripe, evicting the first node from the clock hand that is not
+     * referenced if this stripe is full.
+     */
+    void add(final N node) {
+      if (size < clock.length) {
+        node.index = size;
+        clock[size++] = node;
+      }
+      else {
+        Node victim;
+        while ((victim = clock[hand]).referenced) {
+          victim.referenced = false;
+          hand = (hand + 1) % clock.length;
+        }
+
+        map.remove(victim.key);
+        evictions.increment();
+        node.index = hand;
+        clock[hand] = node;
+        hand = (hand + 1) % clock.length;
+      }
+
+      map.put(node.key, node);
+    }
+
+    /**
+     * Removes the provided node, which is in this stripe, by moving the last node of the clock to its slot.
+     */
+    void remove(final N node) {
+      map.remove(node.key);
+      final Node last = clock[--size];
+      clock[node.index] = last;
+      last.index = node.index;
+      clock[size] = null;
+      if (hand >= size)
+        hand = 0;
+    }
+
+    private void clear() {
+      map.clear();
+      Arrays.fill(clock, null);
+      hand = 0;
+      size = 0;
+    }
+  }
+
+  private final int capacity;
+  private final Stripe<N>[] stripes;
+  final LongAdder hits = new LongAdder();
+  final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a new {@link StripedClockCache} with the provided capacity and concurrency level.
+   *
+   * @param capacity The maximum number of nodes to be retained.
+   * @param concurrencyLevel The estimated number of concurrently accessing threads, which determines the number of stripes (though no
+   *          more stripes are created than would have fewer than 8 nodes each).
+   * @throws IllegalArgumentException If {@code capacity} or {@code concurrencyLevel} is not positive.
+   */
+  @SuppressWarnings("unchecked")
+  StripedClockCache(final int capacity, final int concurrencyLevel) {
+    this.capacity = assertPositive(capacity);
+    assertPositive(concurrencyLevel);
+    int n = 1;
+    while (n < concurrencyLevel && n * 16 <= capacity)
+      n <<= 1;
+
+    this.stripes = new Stripe[n];
+    for (int i = 0; i < n; ++i) // [A]
+      stripes[i] = new Stripe<>(capacity / n + (i < capacity % n ? 1 : 0), evictions);
+  }
+
+  final Stripe<N> stripe(final String key) {
+    final int h = key.hashCode();
+    return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+  }
+
+  /**
+   * Returns the maximum number of entries retained in this cache.
+   *
+   * @return The maximum number of entries retained in this cache.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of entries currently retained in this cache.
+   *
+   * @return The number of entries currently retained in this cache.
+   */
+  public int size() {
+    int size = 0;
+    for (final Stripe<N> stripe : stripes) { // [A]
+      synchronized (stripe) {
+        size += stripe.size;
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Returns the number of lookups that returned an entry retained in this cache.
+   *
+   * @return The number of lookups that returned an entry retained in this cache.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that did not find an entry retained in this cache.
+   *
+   * @return The number of lookups that did not find an entry retained in this cache.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of entries that were evicted from this cache to make room for others.
+   *
+   * @return The number of entries that were evicted from this cache to make room for others.
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Removes all entries from this cache, and resets its counters.
+   */
+  public void clear() {
+    for (final Stripe<N> stripe : stripes) { // [A]
+      synchronized (stripe) {
+        stripe.clear();
+      }
+    }
+
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[capacity=" + capacity + ", size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+  }
+}
@@ -16,9 +16,13 @@
 
 package org.libj.net;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility functions for encoding and decoding URI strings using a specification that is compatible with JavaScript's
@@ -99,11 +103,46 @@ public final class URIComponent {
    * @throws NullPointerException If {@code enc} is null.
    */
   public static String encode(final String uri, final String enc) throws UnsupportedEncodingException {
-    return uri == null ? null : URLEncoder.encode(uri, enc).replace("+", "%20"); // .replace("%21", "!").replace("%27", "'").replace("%28", "(").replace("%29", ")").replace("%7E", "~") : null;
+    return uri == null ? null : URLs.encode(uri, URLs.forName(enc), PercentCodec.Component.QUERY_PARAM, false);
+  }
+
+  /**
+   * Encodes the provided {@link CharSequence} as UTF-8 using a specification that is compatible with JavaScript's
+   * {@code encodeURIComponent} function, appending the result to the specified {@link StringBuilder}.
+   * <p>
+   * This method encodes {@code uri} in a single pass without creating intermediate strings.
+   *
+   * @param uri The {@link CharSequence} to be encoded.
+   * @param builder The {@link StringBuilder} to which the encoded characters are to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code uri} or {@code builder} is null.
+   */
+  public static StringBuilder encode(final CharSequence uri, final StringBuilder builder) {
+    return URLs.encode(uri, StandardCharsets.UTF_8, PercentCodec.Component.QUERY_PARAM, false, builder);
+  }
+
+  /**
+   * Encodes the provided {@link CharSequence} using a specification that is compatible with JavaScript's {@code encodeURIComponent}
+   * function, appending the result to the specified {@link Appendable}.
+   *
+   * @param <T> The type parameter of the {@link Appendable}.
+   * @param uri The {@link CharSequence} to be encoded.
+   * @param charset The {@link Charset}.
+   * @param out The {@link Appendable} to which the encoded characters are to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred while appending to {@code out}.
+   * @throws NullPointerException If {@code uri}, {@code charset}, or {@code out} is null.
+   */
+  public static <T extends Appendable> T encode(final CharSequence uri, final Charset charset, final T out) throws IOException {
+    return URLs.encode(uri, 0, uri.length(), Objects.requireNonNull(charset), PercentCodec.Component.QUERY_PARAM, false, out);
   }
 
   /**
    * Encodes the provided {@code char} using a specification that is compatible with JavaScript's {@code encodeURIComponent} function.
+   * <p>
+   * The encoded forms of {@code char}s are computed once per {@link Charset}, and are thereafter retrieved from a table indexed by the
+   * {@code char}. A {@code char} that is a surrogate is encoded as a single unpaired surrogate; use {@link #encode(int,String)} to
+   * encode a supplementary code point.
    *
    * @param ch The {@code char} to be encoded.
    * @param enc The name of a supported character encoding.
@@ -111,9 +150,72 @@ public final class URIComponent {
    * @throws UnsupportedEncodingException If character encoding needs to be consulted, but named character encoding is not supported.
    * @throws NullPointerException If {@code enc} is null.
    */
-  // FIXME: Reimplement more efficiently
   public static String encode(final char ch, final String enc) throws UnsupportedEncodingException {
-    return encode(String.valueOf(ch), enc);
+    // The name of UTF-8 is recognized before Charset.forName(String), which otherwise looks up the Charset on each call
+    if ("UTF-8".equalsIgnoreCase(Objects.requireNonNull(enc)) || "UTF8".equalsIgnoreCase(enc))
+      return encode(ch, StandardCharsets.UTF_8, utf8Table);
+
+    final Charset charset = URLs.forName(enc);
+    return encode(ch, charset, StandardCharsets.UTF_8.equals(charset) ? utf8Table : charsetTables.computeIfAbsent(charset, c -> new String[PAGES][]));
+  }
+
+  /**
+   * Encodes the provided code point as UTF-8 using a specification that is compatible with JavaScript's {@code encodeURIComponent}
+   * function.
+   *
+   * @param codePoint The code point to be encoded.
+   * @return The encoded string.
+   * @throws IllegalArgumentException If {@code codePoint} is not a valid Unicode code point.
+   * @throws UnsupportedOperationException If character encoding needs to be consulted, but named character encoding is not supported.
+   */
+  public static String encode(final int codePoint) {
+    try {
+      return encode(codePoint, "UTF-8");
+    }
+    catch (final UnsupportedEncodingException e) {
+      throw new UnsupportedOperationException(e);
+    }
+  }
+
+  /**
+   * Encodes the provided code point using a specification that is compatible with JavaScript's {@code encodeURIComponent} function.
+   * Code points in the Basic Multilingual Plane are encoded as by {@link #encode(char,String)}, and supplementary code points are
+   * encoded from their surrogate pair.
+   *
+   * @param codePoint The code point to be encoded.
+   * @param enc The name of a supported character encoding.
+   * @return The encoded string.
+   * @throws IllegalArgumentException If {@code codePoint} is not a valid Unicode code point.
+   * @throws UnsupportedEncodingException If character encoding needs to be consulted, but named character encoding is not supported.
+   * @throws NullPointerException If {@code enc} is null.
+   */
+  public static String encode(final int codePoint, final String enc) throws UnsupportedEncodingException {
+    if (Character.isBmpCodePoint(codePoint))
+      return encode((char)codePoint, enc);
+
+    return encode(new String(Character.toChars(codePoint)), enc);
+  }
+
+  private static final int PAGES = (Character.MAX_VALUE + 1) >> 8;
+
+  /**
+   * Tables of the encoded forms of the {@code char}s of the Basic Multilingual Plane, which are paged by the high byte of the
+   * {@code char}, and are populated lazily, page by page. Racing threads may compute the same page or entry more than once, but
+   * always to an equal (and immutable) {@link String}.
+   */
+  private static final String[][] utf8Table = new String[PAGES][];
+  private static final ConcurrentHashMap<Charset,String[][]> charsetTables = new ConcurrentHashMap<>();
+
+  private static String encode(final char ch, final Charset charset, final String[][] table) {
+    String[] page = table[ch >> 8];
+    if (page == null)
+      table[ch >> 8] = page = new String[256];
+
+    String encoded = page[ch & 0xff];
+    if (encoded == null)
+      page[ch & 0xff] = encoded = URLs.encode(String.valueOf(ch), charset, PercentCodec.Component.QUERY_PARAM, false);
+
+    return encoded;
   }
 
   private URIComponent() {
@@ -22,6 +22,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.libj.lang.Strings;
 import org.libj.util.StringPaths;
@@ -309,6 +310,11 @@ public final class URIs {
       value = null;
     }
 
+    if (parameters instanceof ParameterMap) {
+      ((ParameterMap)parameters).add(name, value);
+      return;
+    }
+
     List<String> values = parameters.get(name);
     if (values == null)
       parameters.put(name, values = new ArrayList<>(2));
@@ -323,27 +329,19 @@ public final class URIs {
    * @param parameters The map into which decoded parameters are to be added.
    * @param data The string of parameters to parse.
    * @throws NullPointerException If {@code parameters} or {@code data} is null.
+   * @see ParameterMap
+   * @see QueryParameters
+   * @see FormDecoder
    */
   public static void parseParameters(final Map<String,List<String>> parameters, final String data) {
-    final StringBuilder b = new StringBuilder();
-    String name = null;
-    for (int i = 0, i$ = data.length(); i < i$; ++i) { // [$]
-      final char ch = data.charAt(i);
-      if (ch == '&') {
-        add(parameters, name, b.toString());
-        b.setLength(0);
-        name = null;
-      }
-      else if (ch == '=') {
-        name = b.toString();
-        b.setLength(0);
-      }
-      else {
-        b.append(ch);
-      }
+    Objects.requireNonNull(parameters);
+    final int[] offsets = QueryParameters.offsets(data, 0, data.length());
+    for (int i = 0, i$ = offsets.length; i < i$; i += 4) { // [A]
+      if (offsets[i + 2] == -1)
+        add(parameters, null, data.substring(offsets[i], offsets[i + 1]));
+      else
+        add(parameters, data.substring(offsets[i], offsets[i + 1]), data.substring(offsets[i + 2], offsets[i + 3]));
     }
-
-    add(parameters, name, b.toString());
   }
 
   private URIs() {
@@ -0,0 +1,138 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.net.URL;
+
+/**
+ * A bounded cache of {@link URL}s, which returns the same {@link URL} instance for repeated invocations with an equal string, so as
+ * to avoid repeating the parsing and protocol handler lookup of {@link URL#URL(String)}. The cache is opt-in: an instance is created
+ * with a fixed capacity, and its {@link #create(String)}, {@link #fromStringPath(String)} and {@link #toCanonicalURL(String)} methods
+ * are used in place of the respective methods in {@link URLs}.
+ * <p>
+ * The cache is split into stripes that are locked independently, each of which evicts with the CLOCK (second chance) algorithm: an
+ * entry that is hit is marked as referenced, and when a stripe is full, the clock hand sweeps its entries, clearing the mark of
+ * referenced entries and evicting the first entry that is not referenced. The {@link URL}s are created outside of the locks, and the
+ * counts of hits, misses and evictions are kept so that the capacity can be sized for the working set.
+ * <p>
+ * Invocations that throw an exception are not cached.
+ */
+public final class URLCache extends StripedClockCache<URLCache.Node> {
+  private static final int CREATE = 0;
+  private static final int FROM_STRING_PATH = 1;
+  private static final int TO_CANONICAL_URL = 2;
+
+  /** An entry of a string, holding the {@link URL} created from it by each of the caching methods. */
+  static final class Node extends StripedClockCache.Node {
+    private final URL[] urls = new URL[3];
+
+    private Node(final String spec) {
+      super(spec);
+    }
+  }
+
+  /**
+   * Creates a new {@link URLCache} with the provided capacity, which is striped for the number of available processors.
+   *
+   * @param capacity The maximum number of strings for which {@link URL}s are to be retained.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public URLCache(final int capacity) {
+    this(capacity, Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+  /**
+   * Creates a new {@link URLCache} with the provided capacity and concurrency level.
+   *
+   * @param capacity The maximum number of strings for which {@link URL}s are to be retained.
+   * @param concurrencyLevel The estimated number of concurrently accessing threads, which determines the number of stripes (though no
+   *          more stripes are created than would have fewer than 8 entries each).
+   * @throws IllegalArgumentException If {@code capacity} or {@code concurrencyLevel} is not positive.
+   */
+  public URLCache(final int capacity, final int concurrencyLevel) {
+    super(capacity, concurrencyLevel);
+  }
+
+  private URL get(final String spec, final int kind) {
+    final Stripe<Node> stripe = stripe(spec);
+    synchronized (stripe) {
+      final Node node = stripe.get(spec);
+      if (node != null && node.urls[kind] != null) {
+        node.referenced = true;
+        hits.increment();
+        return node.urls[kind];
+      }
+    }
+
+    misses.increment();
+    final URL url = kind == CREATE ? URLs.create(spec) : kind == FROM_STRING_PATH ? URLs.fromStringPath(spec) : URLs.toCanonicalURL(spec);
+    synchronized (stripe) {
+      Node node = stripe.get(spec);
+      if (node == null) {
+        stripe.add(node = new Node(spec));
+      }
+      else if (node.urls[kind] != null) {
+        // Another thread has created the URL concurrently, which is returned so that the instance is canonical
+        return node.urls[kind];
+      }
+
+      return node.urls[kind] = url;
+    }
+  }
+
+  /**
+   * Returns the {@link URL} created from the provided string as by {@link URLs#create(String)}, which is retained in this cache.
+   *
+   * @param spec The {@link String} to parse as a {@link URL}.
+   * @return The {@link URL} created from the provided string, which is retained in this cache.
+   * @throws IllegalArgumentException If {@code spec} specifies an unknown protocol, or if {@code spec} is null.
+   * @see URLs#create(String)
+   */
+  public URL create(final String spec) {
+    return spec == null ? URLs.create(spec) : get(spec, CREATE);
+  }
+
+  /**
+   * Returns the {@link URL} created from the provided string path as by {@link URLs#fromStringPath(String)}, which is retained in this
+   * cache, or {@code null} if {@code stringPath} is null.
+   *
+   * @param stringPath The string from which to create a {@link URL}.
+   * @return The {@link URL} created from the provided string path, which is retained in this cache, or {@code null} if
+   *         {@code stringPath} is null.
+   * @throws IllegalArgumentException If a protocol is specified but is unknown, or the parsed URL fails to comply with the specific
+   *           syntax of the associated protocol.
+   * @see URLs#fromStringPath(String)
+   */
+  public URL fromStringPath(final String stringPath) {
+    return stringPath == null ? null : get(stringPath, FROM_STRING_PATH);
+  }
+
+  /**
+   * Returns the canonical {@link URL} created from the provided string path as by {@link URLs#toCanonicalURL(String)}, which is
+   * retained in this cache.
+   *
+   * @param stringPath The string from which to create a {@link URL}.
+   * @return The canonical {@link URL} created from the provided string path, which is retained in this cache.
+   * @throws NullPointerException If {@code stringPath} is null.
+   * @throws IllegalArgumentException If a protocol is specified but is unknown, or the parsed URL fails to comply with the specific
+   *           syntax of the associated protocol.
+   * @see URLs#toCanonicalURL(String)
+   */
+  public URL toCanonicalURL(final String stringPath) {
+    return get(stringPath, TO_CANONICAL_URL);
+  }
+}
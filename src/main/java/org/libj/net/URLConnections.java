@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
@@ -35,6 +36,24 @@ import org.libj.util.function.ThrowingConsumer;
  * Utility functions pertaining to {@link URLConnection}.
  */
 public final class URLConnections {
+  /**
+   * Listener of each request made by {@link URLConnections#checkFollowRedirect(URLConnection,int,ThrowingConsumer,HopListener)}.
+   */
+  @FunctionalInterface
+  public interface HopListener {
+    /**
+     * Called when the response of a request in a chain of redirects is received.
+     *
+     * @param url The {@link URL} of the request.
+     * @param status The status code of the response.
+     * @param nanos The time in nanoseconds from the start of the request until its response code was received.
+     */
+    void onHop(URL url, int status, long nanos);
+  }
+
+  /** The maximum length of a redirect response body that is drained so that its connection can be reused. */
+  private static final int MAX_DRAIN = 65536;
+
   /**
    * Returns an {@link URLConnection} that represents the terminal end of all redirects followed, or the provided
    * {@link URLConnection} if a redirect is not present.
@@ -76,62 +95,129 @@ public final class URLConnections {
    * @throws NullPointerException If the provided {@link URLConnection} is null.
    * @throws IOException If an I/O error has occurred, or if the redirects are found to loop.
    */
-  public static URLConnection checkFollowRedirect(URLConnection connection, final int maxRedirects, final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) throws IOException {
+  public static URLConnection checkFollowRedirect(final URLConnection connection, final int maxRedirects, final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) throws IOException {
+    return checkFollowRedirect(connection, maxRedirects, beforeConnect, null);
+  }
+
+  /**
+   * Returns an {@link URLConnection} that represents the terminal end of all redirects followed, or the provided
+   * {@link URLConnection} if a redirect is not present.
+   * <p>
+   * The body of each redirect response is drained and closed, rather than disconnected, so that the underlying connection is
+   * returned to the keep-alive cache of {@link HttpURLConnection}, and can be reused by the next request if the redirect stays on the
+   * same origin. A redirect response with a body of more than 64 KiB is disconnected instead. A relative {@code Location} is resolved
+   * against the {@link URL} of the redirect response.
+   *
+   * @param connection The {@link URLConnection}.
+   * @param maxRedirects The maximum number of redirects to be followed.
+   * @param beforeConnect The {@link Consumer} to be called before this method invokes {@link HttpURLConnection#getResponseCode()} on
+   *          the provided {@link URLConnection}.
+   * @param onHop The {@link HopListener} to be called with the timing of each request, or {@code null}.
+   * @return An {@link InputStream} to the specified url that may or may not exist at a redirected location.
+   * @throws IllegalArgumentException If {@code maxRedirects} is negative.
+   * @throws NullPointerException If the provided {@link URLConnection} is null.
+   * @throws IOException If an I/O error has occurred, or if the redirects are found to loop.
+   */
+  public static URLConnection checkFollowRedirect(final URLConnection connection, final int maxRedirects, final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect, final HopListener onHop) throws IOException {
+    return checkFollowRedirect(connection, maxRedirects, beforeConnect, onHop, null);
+  }
+
+  /**
+   * Returns an {@link URLConnection} that represents the terminal end of all redirects followed, or the provided
+   * {@link URLConnection} if a redirect is not present.
+   * <p>
+   * If a {@link RedirectCache} is provided, the HTTP 301 redirects that are followed are retained in it, and the request of a source
+   * {@link URL} with a redirect retained in it is not sent, but is instead replaced by a request of the target {@link URL} (with each
+   * retained redirect counted towards {@code maxRedirects}). If the request of the target {@link URL} responds with HTTP 404 or HTTP
+   * 410, the redirects to it are invalidated, and the provided {@link URLConnection} is followed as if the redirects were not
+   * retained. The {@link RedirectCache} should therefore only be provided for requests, such as GET, that need not reach the source
+   * {@link URL}.
+   * <p>
+   * The connection of each redirect is opened with {@link HttpTransports#openConnection(URL)}.
+   *
+   * @param connection The {@link URLConnection}.
+   * @param maxRedirects The maximum number of redirects to be followed.
+   * @param beforeConnect The {@link Consumer} to be called before this method invokes {@link HttpURLConnection#getResponseCode()} on
+   *          the provided {@link URLConnection}.
+   * @param onHop The {@link HopListener} to be called with the timing of each request, or {@code null}.
+   * @param cache The {@link RedirectCache} of permanent redirects, or {@code null}.
+   * @return An {@link InputStream} to the specified url that may or may not exist at a redirected location.
+   * @throws IllegalArgumentException If {@code maxRedirects} is negative.
+   * @throws NullPointerException If the provided {@link URLConnection} is null.
+   * @throws IOException If an I/O error has occurred, or if the redirects are found to loop.
+   */
+  public static URLConnection checkFollowRedirect(URLConnection connection, final int maxRedirects, final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect, final HopListener onHop, final RedirectCache cache) throws IOException {
     assertNotNegative(maxRedirects);
 
     if (!(connection instanceof HttpURLConnection))
       return connection;
 
+    final URLConnection source = connection;
+    ArrayList<URL> cached = null;
+    int i = 0;
+    if (cache != null && maxRedirects > 0 && (cached = getCachedRedirects(cache, connection.getURL(), maxRedirects)) != null) {
+      i = cached.size() - 1;
+      connection = HttpTransports.openConnection(cached.get(i));
+      if (!(connection instanceof HttpURLConnection))
+        return connection;
+    }
+
     HttpURLConnection httpURLConnection = (HttpURLConnection)connection;
-    if (beforeConnect != null)
-      beforeConnect.accept(httpURLConnection);
+    LinkedHashSet<String> visited = null;
+    try {
+      for (;; ++i) { // [N]
+        if (beforeConnect != null)
+          beforeConnect.accept(httpURLConnection);
 
-    int status = httpURLConnection.getResponseCode();
-    if (status < HttpURLConnection.HTTP_MOVED_PERM || HttpURLConnection.HTTP_SEE_OTHER < status || 0 == maxRedirects)
-      return connection;
+        final long start = onHop != null ? System.nanoTime() : 0;
+        final int status = httpURLConnection.getResponseCode();
+        if (onHop != null)
+          onHop.onHop(httpURLConnection.getURL(), status, System.nanoTime() - start);
 
-    final String location0 = httpURLConnection.getURL().toString();
-    String location = httpURLConnection.getHeaderField("Location");
-    if (location.equals(location0))
-      throw new IOException("Infinite redirection loop: " + location + " -> " + location);
+        if (cached != null) {
+          if (status == HttpURLConnection.HTTP_NOT_FOUND || status == HttpURLConnection.HTTP_GONE) {
+            // The target of the cached redirects is gone, so the redirects are invalidated, and the source is followed instead
+            for (int j = 0, j$ = cached.size() - 1; j < j$; ++j) // [RA]
+              cache.invalidate(cached.get(j));
 
-    httpURLConnection.disconnect();
-    try {
-      connection = new URL(location).openConnection();
-      if (!(connection instanceof HttpURLConnection))
-        return connection;
+            httpURLConnection.disconnect();
+            connection = source;
+            httpURLConnection = (HttpURLConnection)source;
+            cached = null;
+            i = -1;
+            continue;
+          }
 
-      httpURLConnection = (HttpURLConnection)connection;
-      if (beforeConnect != null)
-        beforeConnect.accept(httpURLConnection);
+          cached = null;
+        }
 
-      status = httpURLConnection.getResponseCode();
-      if (status < HttpURLConnection.HTTP_MOVED_PERM || HttpURLConnection.HTTP_SEE_OTHER < status || 1 == maxRedirects)
-        return connection;
+        if (status < HttpURLConnection.HTTP_MOVED_PERM || HttpURLConnection.HTTP_SEE_OTHER < status || i == maxRedirects)
+          return connection;
+
+        final String field = httpURLConnection.getHeaderField("Location");
+        if (field == null)
+          return connection;
+
+        final URL url = new URL(httpURLConnection.getURL(), field);
+        if (cache != null && status == HttpURLConnection.HTTP_MOVED_PERM)
+          cache.put(httpURLConnection, url);
+
+        final String location = url.toString();
+        if (visited == null) {
+          visited = new LinkedHashSet<>();
+          visited.add(httpURLConnection.getURL().toString());
+        }
 
-      final LinkedHashSet<String> visited = new LinkedHashSet<>();
-      visited.add(location0);
-      visited.add(location);
-      int i = 1;
-      do {
-        location = httpURLConnection.getHeaderField("Location");
         if (!visited.add(location))
           throw new IOException("Infinite redirection loop: " + visited.stream().collect(Collectors.joining(" -> ")) + " -> " + location);
 
-        httpURLConnection.disconnect();
-        connection = new URL(location).openConnection();
+        release(httpURLConnection);
+        connection = HttpTransports.openConnection(url);
         if (!(connection instanceof HttpURLConnection))
           return connection;
 
         httpURLConnection = (HttpURLConnection)connection;
-        if (beforeConnect != null)
-          beforeConnect.accept(httpURLConnection);
-
-        status = httpURLConnection.getResponseCode();
-        if (status < HttpURLConnection.HTTP_MOVED_PERM || HttpURLConnection.HTTP_SEE_OTHER < status || ++i == maxRedirects)
-          return connection;
       }
-      while (true);
     }
     catch (final IOException e) {
       httpURLConnection.disconnect();
@@ -139,6 +225,54 @@ public final class URLConnections {
     }
   }
 
+  /**
+   * Returns the {@link URL}s of the chain of redirects retained in the provided {@link RedirectCache} starting at the provided source
+   * {@link URL} and ending at the target {@link URL} that is to be requested, or {@code null} if no redirect of the source
+   * {@link URL} is retained.
+   */
+  private static ArrayList<URL> getCachedRedirects(final RedirectCache cache, final URL source, final int maxRedirects) {
+    URL target = cache.get(source);
+    if (target == null)
+      return null;
+
+    final ArrayList<URL> cached = new ArrayList<>();
+    cached.add(source);
+    cached.add(target);
+    for (URL next; cached.size() <= maxRedirects && (next = cache.get(target)) != null; cached.add(target = next)) { // [X]
+      // The cached redirects are not followed into a loop, which is instead detected by the request of the target
+      for (int i = 0, i$ = cached.size(); i < i$; ++i) // [RA]
+        if (cached.get(i).toString().equals(next.toString()))
+          return cached;
+    }
+
+    return cached;
+  }
+
+  /**
+   * Drains and closes the body of the provided redirect response, so that its connection can be reused, or disconnects it if the
+   * body is too large to drain.
+   */
+  private static void release(final HttpURLConnection connection) {
+    final long length = connection.getContentLengthLong();
+    if (length > MAX_DRAIN) {
+      connection.disconnect();
+      return;
+    }
+
+    try (final InputStream in = connection.getInputStream()) {
+      final byte[] buf = new byte[length >= 0 ? Math.max(1, (int)length) : 4096];
+      for (long total = 0, n; (n = in.read(buf)) != -1;) { // [X]
+        if ((total += n) > MAX_DRAIN) {
+          connection.disconnect();
+          return;
+        }
+      }
+    }
+    catch (final IOException e) {
+      connection.disconnect();
+    }
+  }
+
   /**
    * Sets the specified {@link Properties} in the provided {@link URLConnection}.
    *
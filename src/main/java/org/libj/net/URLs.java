@@ -33,15 +33,17 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.net.URLStreamHandler;
-import java.nio.Buffer;
-import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
 
-import org.libj.lang.Strings;
 import org.libj.net.offline.OfflineURLStreamHandler;
 import org.libj.util.StringPaths;
 
@@ -53,6 +55,177 @@ public final class URLs {
   public static final String REGEX = "^([a-z][a-z0-9+\\-.]*):(\\/\\/([a-z0-9\\-._~%!$&amp;'()*+,;=]+@)?([a-z0-9\\-._~%]+|\\[[a-f0-9:.]+\\]|\\[v[a-f0-9][a-z0-9\\-._~%!$&amp;'()*+,;=:]+\\])(:[0-9]+)?(\\/[a-z0-9\\-._~%!$&amp;'()*+,;=:@]+)*\\/?|(\\/?[a-z0-9\\-._~%!$&amp;'()*+,;=:@]+(\\/[a-z0-9\\-._~%!$&amp;'()*+,;=:@]+)*\\/?)?)(\\?[a-z0-9\\-._~%!$&amp;'()*+,;=:@/?]*)?(#[a-z0-9\\-._~%!$&amp;'()*+,;=:@/?]*)?$";
   private static final int DEFAULT_TIMEOUT = 1000;
 
+  private static long lo(final String chars) {
+    long mask = 0;
+    for (int i = 0, i$ = chars.length(); i < i$; ++i) { // [N]
+      final char ch = chars.charAt(i);
+      if (ch < 64)
+        mask |= 1L << ch;
+    }
+
+    return mask;
+  }
+
+  private static long hi(final String chars) {
+    long mask = 0;
+    for (int i = 0, i$ = chars.length(); i < i$; ++i) { // [N]
+      final char ch = chars.charAt(i);
+      if (ch >= 64)
+        mask |= 1L << ch;
+    }
+
+    return mask;
+  }
+
+  // The character classes of REGEX, as 128-bit sets of two long words
+  private static final String LOWER_ALNUM = "abcdefghijklmnopqrstuvwxyz0123456789";
+  private static final String USERINFO = LOWER_ALNUM + "-._~%!$&'()*+,;=";
+  private static final String PCHAR = USERINFO + ":@";
+  private static final long SCHEME_LO = lo(LOWER_ALNUM + "+-."), SCHEME_HI = hi(LOWER_ALNUM + "+-.");
+  private static final long USERINFO_LO = lo(USERINFO), USERINFO_HI = hi(USERINFO);
+  private static final long REG_NAME_LO = lo(LOWER_ALNUM + "-._~%"), REG_NAME_HI = hi(LOWER_ALNUM + "-._~%");
+  private static final long IPV6_LO = lo("abcdef0123456789:."), IPV6_HI = hi("abcdef0123456789:.");
+  private static final long HEX_LO = lo("abcdef0123456789"), HEX_HI = hi("abcdef0123456789");
+  private static final long IPV_FUTURE_LO = lo(USERINFO + ":"), IPV_FUTURE_HI = hi(USERINFO + ":");
+  private static final long DIGIT_LO = lo("0123456789");
+  private static final long PCHAR_LO = lo(PCHAR), PCHAR_HI = hi(PCHAR);
+  private static final long QUERY_LO = lo(PCHAR + "/?"), QUERY_HI = hi(PCHAR + "/?");
+
+  private static boolean in(final char ch, final long lo, final long hi) {
+    // The shift distance of a long is taken modulo 64
+    return ch < 64 ? (lo & 1L << ch) != 0 : ch < 128 && (hi & 1L << ch) != 0;
+  }
+
+  /** Returns the index of the first character in {@code s} at or after {@code i} that is not in the specified set. */
+  private static int skip(final CharSequence s, int i, final int len, final long lo, final long hi) {
+    while (i < len && in(s.charAt(i), lo, hi))
+      ++i;
+
+    return i;
+  }
+
+  /**
+   * Returns the index after the path segments in {@code s} starting at {@code i}, whereby each {@code '/'} must be followed by a
+   * non-empty segment, except for a trailing {@code '/'}.
+   */
+  private static int skipSegments(final CharSequence s, int i, final int len) {
+    while (i < len && s.charAt(i) == '/') {
+      final int j = skip(s, ++i, len, PCHAR_LO, PCHAR_HI);
+      if (j == i)
+        break;
+
+      i = j;
+    }
+
+    return i;
+  }
+
+  /**
+   * Returns whether the provided URL string is valid, which is the case if it is matched by {@link #REGEX} in its entirety.
+   * <p>
+   * This method is equivalent to {@code Pattern.compile(URLs.REGEX).matcher(url).matches()}, but is implemented as a single-pass state
+   * machine that does not allocate.
+   *
+   * @param url The URL string to validate.
+   * @return Whether the provided URL string is valid.
+   * @throws NullPointerException If {@code url} is null.
+   * @see #validate(CharSequence)
+   */
+  public static boolean isValid(final CharSequence url) {
+    return validate(url) == -1;
+  }
+
+  /**
+   * Validates the provided URL string against the language of {@link #REGEX}, and returns {@code -1} if the URL string is valid, or
+   * otherwise the index of the first character at which the URL string cannot be matched. An index equal to the length of the URL
+   * string signifies that the URL string ends prematurely.
+   * <p>
+   * This method is implemented as a single-pass state machine that does not allocate.
+   *
+   * @param url The URL string to validate.
+   * @return {@code -1} if the provided URL string is valid, or otherwise the index of the first character at which it cannot be
+   *         matched.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static int validate(final CharSequence url) {
+    final int len = url.length();
+    // scheme = [a-z][a-z0-9+\-.]* ":"
+    if (len == 0 || url.charAt(0) < 'a' || url.charAt(0) > 'z')
+      return 0;
+
+    int i = skip(url, 1, len, SCHEME_LO, SCHEME_HI);
+    if (i == len || url.charAt(i) != ':')
+      return i;
+
+    int j;
+    if (++i + 1 < len && url.charAt(i) == '/' && url.charAt(i + 1) == '/') {
+      // userinfo is the run of its characters up to '@', or is otherwise absent
+      i += 2;
+      j = skip(url, i, len, USERINFO_LO, USERINFO_HI);
+      if (j < len && url.charAt(j) == '@') {
+        if (j == i)
+          return j;
+
+        i = j + 1;
+      }
+
+      // host = reg-name | "[" IPv6 "]" | "[v" hex IPvFuture "]"
+      if (i < len && url.charAt(i) == '[') {
+        if (++i < len && url.charAt(i) == 'v') {
+          if (++i == len || !in(url.charAt(i), HEX_LO, HEX_HI))
+            return i;
+
+          j = skip(url, ++i, len, IPV_FUTURE_LO, IPV_FUTURE_HI);
+        }
+        else {
+          j = skip(url, i, len, IPV6_LO, IPV6_HI);
+        }
+
+        if (j == i || j == len || url.charAt(j) != ']')
+          return j;
+
+        i = j + 1;
+      }
+      else {
+        j = skip(url, i, len, REG_NAME_LO, REG_NAME_HI);
+        if (j == i)
+          return j;
+
+        i = j;
+      }
+
+      // port = ":" [0-9]+
+      if (i < len && url.charAt(i) == ':') {
+        j = skip(url, ++i, len, DIGIT_LO, 0);
+        if (j == i)
+          return j;
+
+        i = j;
+      }
+
+      i = skipSegments(url, i, len);
+    }
+    else if (i < len) {
+      // The optional rootless or absolute path, of which the first segment must not be empty
+      j = url.charAt(i) == '/' ? i + 1 : i;
+      final int k = skip(url, j, len, PCHAR_LO, PCHAR_HI);
+      if (k > j)
+        i = skipSegments(url, k, len);
+      else if (j > i)
+        return j;
+    }
+
+    // query = "?" [pchar/?]*
+    if (i < len && url.charAt(i) == '?')
+      i = skip(url, i + 1, len, QUERY_LO, QUERY_HI);
+
+    // fragment = "#" [pchar/?]*
+    if (i < len && url.charAt(i) == '#')
+      i = skip(url, i + 1, len, QUERY_LO, QUERY_HI);
+
+    return i == len ? -1 : i;
+  }
+
   /**
    * Creates a {@link URL} by parsing the provided string.
    * <p>
@@ -380,6 +553,155 @@ public final class URLs {
     return url == null ? null : create(url.getProtocol(), url.getHost(), url.getPort(), StringPaths.canonicalize(url.getPath().toString()));
   }
 
+  /** The number of URL strings above which {@link #canonicalizeAll(String...)} canonicalizes in parallel. */
+  private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+  /**
+   * Returns whether the path of {@code spec} between {@code start} and {@code end} has a redundant {@code '/'} separator, or a
+   * {@code "."} or {@code ".."} name.
+   */
+  private static boolean isCanonicalPath(final String spec, final int start, final int end) {
+    for (int i = start, j; i < end; i = j + 1) { // [N]
+      j = spec.indexOf('/', i);
+      if (j == -1 || j > end)
+        j = end;
+
+      final int len = j - i;
+      if (len == 0 ? i != start : len == 1 ? spec.charAt(i) == '.' : len == 2 && spec.charAt(i) == '.' && spec.charAt(i + 1) == '.')
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Appends the canonical form of the path of {@code spec} between {@code start} and {@code end} to the provided
+   * {@link StringBuilder}, whereby redundant {@code '/'} separators and {@code "."} names are removed, and each {@code ".."} name is
+   * dereferenced by removing it together with the preceding name. A {@code ".."} without a preceding name is removed from an absolute
+   * path, and retained in a relative path.
+   */
+  private static void appendCanonicalPath(final StringBuilder builder, final String spec, final int start, final int end) {
+    final boolean absolute = start < end && spec.charAt(start) == '/';
+    if (absolute)
+      builder.append('/');
+
+    final int root = builder.length();
+    for (int i = start, j; i < end; i = j + 1) { // [N]
+      j = spec.indexOf('/', i);
+      if (j == -1 || j > end)
+        j = end;
+
+      final int len = j - i;
+      if (len == 0 || len == 1 && spec.charAt(i) == '.')
+        continue;
+
+      if (len == 2 && spec.charAt(i) == '.' && spec.charAt(i + 1) == '.') {
+        final int slash = builder.lastIndexOf("/");
+        final int last = slash < root ? root : slash + 1;
+        if (builder.length() > root && (builder.length() - last != 2 || builder.charAt(last) != '.' || builder.charAt(last + 1) != '.')) {
+          builder.setLength(slash < root ? root : slash);
+          continue;
+        }
+
+        // A ".." above the root of an absolute path is removed, as per RFC 3986, Section 5.2.4
+        if (absolute)
+          continue;
+      }
+
+      if (builder.length() > root)
+        builder.append('/');
+
+      builder.append(spec, i, j);
+    }
+
+    if (end > start && spec.charAt(end - 1) == '/' && builder.length() > root)
+      builder.append('/');
+  }
+
+  /**
+   * Returns the canonical form of the specified URL string, or {@code null} if the specified string is null. The canonical form is
+   * computed directly from the string without the creation of a {@link URL}, whereby:
+   * <ul>
+   * <li>The scheme is converted to lower case.</li>
+   * <li>Redundant {@code '/'} path separators and {@code "."} path names are removed, and {@code ".."} path names are dereferenced as
+   * per <a href="https://www.rfc-editor.org/rfc/rfc3986#section-5.2.4">RFC 3986, Section 5.2.4</a> (an absolute path that is thereby
+   * emptied is {@code "/"}).</li>
+   * <li>The authority, query and fragment are retained as-is.</li>
+   * </ul>
+   * If the specified string is already canonical, it is itself returned.
+   *
+   * @param spec The URL string.
+   * @return The canonical form of the specified URL string, or {@code null} if the specified string is null.
+   * @throws IllegalArgumentException If the port of {@code spec} is not a non-negative decimal integer.
+   * @see #canonicalize(URL)
+   * @see #canonicalizeAll(Stream)
+   */
+  public static String canonicalizeSpec(final String spec) {
+    if (spec == null)
+      return null;
+
+    final ParsedURL url = new ParsedURL(spec);
+    final int schemeEnd = url.schemeEnd();
+    boolean lowerScheme = true;
+    for (int i = 0; i < schemeEnd && lowerScheme; ++i) { // [N]
+      final char ch = spec.charAt(i);
+      lowerScheme = ch < 'A' || 'Z' < ch;
+    }
+
+    final int pathStart = url.pathStart();
+    final int pathEnd = url.pathEnd();
+    if (lowerScheme && isCanonicalPath(spec, pathStart, pathEnd))
+      return spec;
+
+    final StringBuilder builder = new StringBuilder(spec.length());
+    if (schemeEnd != -1)
+      builder.append(spec.substring(0, schemeEnd).toLowerCase(Locale.ROOT)).append(spec, schemeEnd, pathStart);
+    else
+      builder.append(spec, 0, pathStart);
+
+    appendCanonicalPath(builder, spec, pathStart, pathEnd);
+    return builder.append(spec, pathEnd, spec.length()).toString();
+  }
+
+  /**
+   * Returns a {@link Stream} of the canonical forms of the URL strings in the provided {@link Stream}, as by
+   * {@link #canonicalizeSpec(String)}.
+   * <p>
+   * The URL strings are canonicalized without the creation of {@link URL}s. If the provided {@link Stream} is
+   * {@linkplain Stream#parallel() parallel}, the URL strings are canonicalized in the {@link java.util.concurrent.ForkJoinPool}.
+   *
+   * @param specs The {@link Stream} of URL strings.
+   * @return A {@link Stream} of the canonical forms of the URL strings in the provided {@link Stream}.
+   * @throws NullPointerException If {@code specs} is null.
+   */
+  public static Stream<String> canonicalizeAll(final Stream<String> specs) {
+    return specs.map(URLs::canonicalizeSpec);
+  }
+
+  /**
+   * Returns an array of the canonical forms of the provided URL strings, as by {@link #canonicalizeSpec(String)}.
+   * <p>
+   * The URL strings are canonicalized without the creation of {@link URL}s. Large arrays are canonicalized in parallel in the
+   * {@link java.util.concurrent.ForkJoinPool}.
+   *
+   * @param specs The URL strings.
+   * @return An array of the canonical forms of the provided URL strings.
+   * @throws NullPointerException If {@code specs} is null.
+   * @throws IllegalArgumentException If the port of a URL string is not a non-negative decimal integer.
+   */
+  public static String[] canonicalizeAll(final String ... specs) {
+    final String[] canonical = new String[specs.length];
+    if (specs.length > PARALLEL_THRESHOLD) {
+      Arrays.parallelSetAll(canonical, i -> canonicalizeSpec(specs[i]));
+    }
+    else {
+      for (int i = 0, i$ = specs.length; i < i$; ++i) // [A]
+        canonical[i] = canonicalizeSpec(specs[i]);
+    }
+
+    return canonical;
+  }
+
   /**
    * Tests whether the specified {@link URL} references a resource that exists.
    * <p>
@@ -448,6 +770,19 @@ public final class URLs {
     return "file".equalsIgnoreCase(url.getProtocol()) && (host == null || host.length() == 0 || "localhost".equals(host));
   }
 
+  /**
+   * Tests whether the specified {@link ParsedURL} represents a file path. An URL is considered a file if its scheme is "file"
+   * (case-insensitive), and its host value is absent, empty or equal to {@code "localhost"}.
+   *
+   * @param url The {@link ParsedURL}.
+   * @return {@code true} if the specified {@link ParsedURL} represents a file path; otherwise {@code false}.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static boolean isLocalFile(final ParsedURL url) {
+    final String host = url.getHost();
+    return url.isScheme("file") && (host == null || host.length() == 0 || "localhost".equals(host));
+  }
+
   /**
    * Tests whether the specified {@link URL} represents a location that is a local JAR file with protocol {@code "jar:file:"}.
    * <p>
@@ -476,6 +811,34 @@ public final class URLs {
     while (true);
   }
 
+  /**
+   * Tests whether the specified {@link ParsedURL} represents a location that is a local JAR file with scheme {@code "jar:file:"}.
+   * <p>
+   * The composite scheme definition is unwrapped in order to determine if the root resource locator in the URL is local. This method
+   * then uses {@link URLs#isLocalFile(ParsedURL)} to check whether {@code url} is local.
+   *
+   * @param url The {@link ParsedURL} to test.
+   * @return {@code true} if the specified {@link ParsedURL} represents a location that is local; otherwise {@code false}.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static boolean isLocalJarFile(ParsedURL url) {
+    do {
+      if (!url.toString().startsWith("jar:"))
+        return false;
+
+      final String path = url.toString().substring(4);
+      final int bang = path.lastIndexOf('!');
+      try {
+        if (isLocalFile(url = new ParsedURL(bang == -1 ? path : path.substring(0, bang))))
+          return true;
+      }
+      catch (final IllegalArgumentException e) {
+        return false;
+      }
+    }
+    while (true);
+  }
+
   /**
    * Tests whether the specified {@link URL} represents a location that is either a local file with protocol {@code "file:"}, or a
    * local JAR file with protocol {@code "jar:file:"}.
@@ -492,6 +855,20 @@ public final class URLs {
     return isLocalFile(url) || isLocalJarFile(url);
   }
 
+  /**
+   * Tests whether the specified {@link ParsedURL} represents a location that is either a local file with scheme {@code "file:"}, or
+   * a local JAR file with scheme {@code "jar:file:"}.
+   *
+   * @param url The {@link ParsedURL} to test.
+   * @return {@code true} if the specified {@link ParsedURL} represents a location that is either a local file with scheme
+   *         {@code "file:"}, or a local JAR file with scheme {@code "jar:file:"}; otherwise {@code false}.
+   * @throws NullPointerException If {@code url} is null.
+   * @see #isLocal(URL)
+   */
+  public static boolean isLocal(final ParsedURL url) {
+    return isLocalFile(url) || isLocalJarFile(url);
+  }
+
   /**
    * Tests whether the specified {@link URL} references a Jar resource, otherwise {@code false}.
    *
@@ -508,6 +885,17 @@ public final class URLs {
     }
   }
 
+  /**
+   * Tests whether the specified {@link ParsedURL} references a Jar resource, otherwise {@code false}.
+   *
+   * @param url The {@link ParsedURL} to test.
+   * @return {@code true} if the specified {@link ParsedURL} references a Jar resource; otherwise {@code false}.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static boolean isJar(final ParsedURL url) {
+    return url.toString().startsWith("jar:");
+  }
+
   /**
    * Returns a {@link URL} representing the location of the Jar in {@code url}, if {@code url} is "Jar URL" resembling the
    * {@code "jar:<url>...!..."} semantics; or {@code null} if {@code url} is not a "Jar URL".
@@ -521,6 +909,19 @@ public final class URLs {
     return isJar(url) ? create(url.getFile().substring(0, url.getFile().indexOf('!'))) : null;
   }
 
+  /**
+   * Returns a {@link ParsedURL} representing the location of the Jar in {@code url}, if {@code url} is "Jar URL" resembling the
+   * {@code "jar:<url>...!..."} semantics; or {@code null} if {@code url} is not a "Jar URL".
+   *
+   * @param url The {@link ParsedURL}.
+   * @return A {@link ParsedURL} representing the location of the Jar in {@code url}, if {@code url} is "Jar URL" resembling the
+   *         {@code "jar:<url>...!..."} semantics; or {@code null} if {@code url} is not a "Jar URL".
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static ParsedURL getJarURL(final ParsedURL url) {
+    return isJar(url) ? new ParsedURL(url.getFile().substring(0, url.getFile().indexOf('!'))) : null;
+  }
+
   /**
    * Returns the path portion of the resource referenced inside a Jar of the specified {@code url} "Jar URL" (if {@code url} is "Jar
    * URL" resembling the {@code "jar:<url>...!..."} semantics), or {@code null} if {@code url} is not a "Jar URL".
@@ -534,6 +935,19 @@ public final class URLs {
     return !isJar(url) ? null : url.getFile().substring(url.getFile().indexOf('!') + 2);
   }
 
+  /**
+   * Returns the path portion of the resource referenced inside a Jar of the specified {@code url} "Jar URL" (if {@code url} is "Jar
+   * URL" resembling the {@code "jar:<url>...!..."} semantics), or {@code null} if {@code url} is not a "Jar URL".
+   *
+   * @param url The {@link ParsedURL}.
+   * @return The path portion of the resource referenced inside a Jar of the specified {@code url} "Jar URL" (if {@code url} is "Jar
+   *         URL" resembling the {@code "jar:<url>...!..."} semantics), or {@code null} if {@code url} is not a "Jar URL".
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static String getJarPath(final ParsedURL url) {
+    return !isJar(url) ? null : url.getFile().substring(url.getFile().indexOf('!') + 2);
+  }
+
   /**
    * Returns the name of the file or directory denoted by the specified {@link URL}. This is just the last name in the name sequence
    * of {@code url}. If the name sequence of {@code url} is empty, then the empty string is returned.
@@ -547,6 +961,19 @@ public final class URLs {
     return StringPaths.getName(url.toString());
   }
 
+  /**
+   * Returns the name of the file or directory denoted by the specified {@link ParsedURL}. This is just the last name in the name
+   * sequence of {@code url}. If the name sequence of {@code url} is empty, then the empty string is returned.
+   *
+   * @param url The {@link ParsedURL}.
+   * @return The name of the file or directory denoted by the specified {@link ParsedURL}, or the empty string if the name sequence of
+   *         {@code url} is empty.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static String getName(final ParsedURL url) {
+    return StringPaths.getName(url.toString());
+  }
+
   /**
    * Returns the simple name of the file or directory denoted by the specified {@link URL}. This is just the last name in the name
    * sequence of {@code url}, with its dot-extension removed if present. If the name sequence of {@code url} is empty, then the empty
@@ -561,6 +988,20 @@ public final class URLs {
     return StringPaths.getSimpleName(url.toString());
   }
 
+  /**
+   * Returns the simple name of the file or directory denoted by the specified {@link ParsedURL}. This is just the last name in the
+   * name sequence of {@code url}, with its dot-extension removed if present. If the name sequence of {@code url} is empty, then the
+   * empty string is returned.
+   *
+   * @param url The {@link ParsedURL}.
+   * @return The simple name of the file or directory denoted by the specified {@link ParsedURL}, or the empty string if the name
+   *         sequence of {@code url} is empty.
+   * @throws NullPointerException If {@code url} is null.
+   */
+  public static String getSimpleName(final ParsedURL url) {
+    return StringPaths.getSimpleName(url.toString());
+  }
+
   /**
    * Returns the URL representing the parent of the specified {@link URL}, or {@code null} if {@code url} is null or does not name a
    * parent directory.
@@ -576,6 +1017,21 @@ public final class URLs {
     return parentPath == null ? null : create(parentPath);
   }
 
+  /**
+   * Returns the {@link ParsedURL} representing the parent of the specified {@link ParsedURL}, or {@code null} if {@code url} does not
+   * name a parent directory.
+   *
+   * @param url The {@link ParsedURL}.
+   * @return The {@link ParsedURL} representing the parent of the specified {@link ParsedURL}, or {@code null} if {@code url} does not
+   *         name a parent directory.
+   * @throws NullPointerException If {@code url} is null.
+   * @see StringPaths#getParent(String)
+   */
+  public static ParsedURL getParent(final ParsedURL url) {
+    final String parentPath = StringPaths.getParent(url.toString());
+    return parentPath == null ? null : new ParsedURL(parentPath);
+  }
+
   /**
    * Returns the canonical URL representing the parent of the specified {@link URL}, or {@code null} if {@code url} is null or does
    * not name a parent directory ({@code ".."} and {@code "."} path names are dereferenced in a canonical {@link URL})).
@@ -597,7 +1053,7 @@ public final class URLs {
    * @return The translated {@link String}.
    */
   public static String encode(final String s) {
-    return encode(s, StandardCharsets.UTF_8.name());
+    return encode(s, StandardCharsets.UTF_8, PercentCodec.Component.QUERY_PARAM, true);
   }
 
   /**
@@ -618,12 +1074,15 @@ public final class URLs {
    * @see URLs#decode(String,String)
    */
   public static String encode(final String s, final String enc) {
+    final Charset charset;
     try {
-      return URLEncoder.encode(s, enc);
+      charset = forName(enc);
     }
     catch (final UnsupportedEncodingException e) {
       throw new UnsupportedOperationException(e);
     }
+
+    return encode(s, charset, PercentCodec.Component.QUERY_PARAM, true);
   }
 
   /**
@@ -644,12 +1103,53 @@ public final class URLs {
    * @see URLs#decode(String,Charset)
    */
   public static String encode(final String s, final Charset charset) {
-    try {
-      return URLEncoder.encode(s, charset.name());
-    }
-    catch (final UnsupportedEncodingException e) {
-      throw new UnsupportedOperationException(e);
-    }
+    return encode(s, Objects.requireNonNull(charset), PercentCodec.Component.QUERY_PARAM, true);
+  }
+
+  /**
+   * Translates the provided {@link CharSequence} into {@code application/x-www-form-urlencoded} format, appending the result to the
+   * specified {@link StringBuilder}. This method uses UTF-8 as the character encoding.
+   * <p>
+   * This method encodes {@code s} in a single pass without creating intermediate strings, which allows callers to build an entire URL
+   * in one {@link StringBuilder}.
+   *
+   * @param s The {@link CharSequence} to be translated.
+   * @param builder The {@link StringBuilder} to which the translated characters are to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code s} or {@code builder} is null.
+   */
+  public static StringBuilder encode(final CharSequence s, final StringBuilder builder) {
+    return encode(s, StandardCharsets.UTF_8, builder);
+  }
+
+  /**
+   * Translates the provided {@link CharSequence} into {@code application/x-www-form-urlencoded} format using a specific
+   * {@link Charset}, appending the result to the specified {@link StringBuilder}.
+   *
+   * @param s The {@link CharSequence} to be translated.
+   * @param charset The {@link Charset}.
+   * @param builder The {@link StringBuilder} to which the translated characters are to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code s}, {@code charset}, or {@code builder} is null.
+   */
+  public static StringBuilder encode(final CharSequence s, final Charset charset, final StringBuilder builder) {
+    return encode(s, charset, PercentCodec.Component.QUERY_PARAM, true, builder);
+  }
+
+  /**
+   * Translates the provided {@link CharSequence} into {@code application/x-www-form-urlencoded} format using a specific
+   * {@link Charset}, appending the result to the specified {@link Appendable}.
+   *
+   * @param <T> The type parameter of the {@link Appendable}.
+   * @param s The {@link CharSequence} to be translated.
+   * @param charset The {@link Charset}.
+   * @param out The {@link Appendable} to which the translated characters are to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred while appending to {@code out}.
+   * @throws NullPointerException If {@code s}, {@code charset}, or {@code out} is null.
+   */
+  public static <T extends Appendable> T encode(final CharSequence s, final Charset charset, final T out) throws IOException {
+    return encode(s, 0, s.length(), charset, PercentCodec.Component.QUERY_PARAM, true, out);
   }
 
   /**
@@ -701,103 +1201,330 @@ public final class URLs {
     return decode(s, Charset.forName(enc), false);
   }
 
-  private static String decode(final String s, final Charset charset, final boolean isPath) {
-    boolean needDecode = false;
-    int escapesCount = 0;
-    final int length = s.length();
-    for (int i = 0; i < length; ++i) { // [N]
-      final char ch = s.charAt(i);
-      if (ch == '%') {
-        escapesCount += 1;
-        i += 2;
-        needDecode = true;
+  /** Lookup table of hexadecimal digit values for the ASCII range, with {@code -1} marking non-hexadecimal characters. */
+  static final byte[] HEX_DIGITS = new byte[128];
+
+  static {
+    Arrays.fill(HEX_DIGITS, (byte)-1);
+    for (int i = 0; i < 10; ++i)
+      HEX_DIGITS['0' + i] = (byte)i;
+
+    for (int i = 0; i < 6; ++i) {
+      HEX_DIGITS['A' + i] = (byte)(10 + i);
+      HEX_DIGITS['a' + i] = (byte)(10 + i);
+    }
+  }
+
+  /** The maximum length of the per-thread decode buffers that are retained between invocations. */
+  private static final int MAX_RETAINED_BUFFER = 8192;
+
+  /** Per-thread scratch buffers for {@link #decode(String,Charset,boolean)}. */
+  private static final class DecodeBuffer {
+    private char[] chars = new char[256];
+    private byte[] bytes = new byte[128];
+  }
+
+  private static final ThreadLocal<DecodeBuffer> decodeBuffer = ThreadLocal.withInitial(DecodeBuffer::new);
+
+  static String decode(final String s, final Charset charset, final boolean isPath) {
+    // String.indexOf(int,int) is intrinsified with SIMD instructions, and thus finds the next character that needs work much faster
+    // than a charAt(int) loop, allowing the clean runs in between to be bulk-copied
+    int pct = s.indexOf('%');
+    int plus = isPath ? -1 : s.indexOf('+');
+    if (pct == -1 && plus == -1)
+      return s;
+
+    final int len = s.length();
+    final DecodeBuffer buffer = decodeBuffer.get();
+    char[] chars = buffer.chars;
+    if (chars.length < len) {
+      chars = new char[len];
+      if (len <= MAX_RETAINED_BUFFER)
+        buffer.chars = chars;
+    }
+
+    byte[] bytes = buffer.bytes;
+    final boolean isUtf8 = charset == StandardCharsets.UTF_8 || StandardCharsets.UTF_8.equals(charset);
+    int i = 0, n = 0;
+    for (int next; (next = pct == -1 ? plus : plus == -1 ? pct : Math.min(pct, plus)) != -1;) { // [N]
+      s.getChars(i, next, chars, n);
+      n += next - i;
+      i = next;
+      if (i == plus) {
+        chars[n++] = ' ';
+        plus = s.indexOf('+', ++i);
+        continue;
       }
-      else if (!isPath && ch == '+') {
-        needDecode = true;
+
+      // Collect the run of consecutive escapes, because a multi-byte character spans several of them
+      final int max = (len - i + 2) / 3;
+      if (bytes.length < max) {
+        bytes = new byte[max];
+        if (max <= MAX_RETAINED_BUFFER)
+          buffer.bytes = bytes;
       }
-    }
 
-    if (needDecode) {
-      final ByteBuffer in = ByteBuffer.wrap(Strings.getBytes(s, charset.name()));
-      final ByteBuffer out = ByteBuffer.allocate(in.capacity() - (2 * escapesCount) + 1);
-      while (in.hasRemaining()) {
-        final int b = in.get();
-        if (!isPath && b == '+') {
-          out.put((byte)' ');
-        }
-        else if (b == '%') {
-          try {
-            final int u = digit16(in.get());
-            final int l = digit16(in.get());
-            out.put((byte)((u << 4) + l));
-          }
-          catch (final BufferUnderflowException e) {
-            throw new IllegalArgumentException("Invalid URL encoding: Incomplete trailing escape (%) pattern", e);
-          }
-        }
-        else {
-          out.put((byte)b);
-        }
+      int b = 0;
+      do {
+        if (i + 2 >= len)
+          throw new IllegalArgumentException("Invalid URL encoding: Incomplete trailing escape (%) pattern");
+
+        bytes[b++] = (byte)((digit16(s.charAt(i + 1)) << 4) | digit16(s.charAt(i + 2)));
+        i += 3;
       }
+      while (i < len && s.charAt(i) == '%');
 
-      ((Buffer)out).flip();
-      return charset.decode(out).toString();
+      pct = s.indexOf('%', i);
+      final int m = isUtf8 ? decodeUtf8(bytes, b, chars, n) : -1;
+      if (m != -1) {
+        n = m;
+      }
+      else {
+        final CharBuffer decoded = charset.decode(ByteBuffer.wrap(bytes, 0, b));
+        final int remaining = decoded.remaining();
+        if (n + remaining > chars.length)
+          chars = Arrays.copyOf(chars, n + remaining + len - i);
+
+        decoded.get(chars, n, remaining);
+        n += remaining;
+      }
     }
 
-    return s;
+    s.getChars(i, len, chars, n);
+    n += len - i;
+    return new String(chars, 0, n);
   }
 
-  private static int digit16(final byte b) {
-    final int d = Character.digit((char)b, 16);
+  static int digit16(final char ch) {
+    final int d = ch < 128 ? HEX_DIGITS[ch] : -1;
     if (d == -1)
-      throw new IllegalArgumentException("Invalid URL encoding: not a valid digit (radix 16): " + b);
+      throw new IllegalArgumentException("Invalid URL encoding: not a valid digit (radix 16): " + (int)ch);
 
     return d;
   }
 
-  private static StringBuilder componentEncode(final String reservedChars, final String value) {
-    final StringBuilder builder = new StringBuilder();
-    final StringBuilder builderToEncode = new StringBuilder();
+  private static boolean isContinuation(final byte b) {
+    return (b & 0xc0) == 0x80;
+  }
 
-    for (int i = 0, i$ = value.length(); i < i$; ++i) { // [N]
-      final char ch = value.charAt(i);
-      if (reservedChars.indexOf(ch) != -1) {
-        if (builderToEncode.length() > 0) {
-          builder.append(encode(builderToEncode.toString()));
-          builderToEncode.setLength(0);
-        }
+  /**
+   * Decodes {@code len} UTF-8 bytes from {@code src} into {@code dst} starting at index {@code n}.
+   *
+   * @return The index in {@code dst} following the last decoded char, or {@code -1} if {@code src} is not well-formed UTF-8, in which
+   *         case the caller is expected to fall back to the {@link Charset} decoder for its replacement semantics.
+   */
+  static int decodeUtf8(final byte[] src, final int len, final char[] dst, int n) {
+    for (int i = 0; i < len;) { // [A]
+      final int b0 = src[i];
+      if (b0 >= 0) {
+        dst[n++] = (char)b0;
+        ++i;
+      }
+      else if ((b0 >> 5) == -2 && (b0 & 0x1e) != 0) {
+        if (i + 1 >= len || !isContinuation(src[i + 1]))
+          return -1;
 
-        builder.append(ch);
+        dst[n++] = (char)(((b0 & 0x1f) << 6) | (src[i + 1] & 0x3f));
+        i += 2;
+      }
+      else if ((b0 >> 4) == -2) {
+        if (i + 2 >= len || !isContinuation(src[i + 1]) || !isContinuation(src[i + 2]))
+          return -1;
+
+        final char ch = (char)(((b0 & 0x0f) << 12) | ((src[i + 1] & 0x3f) << 6) | (src[i + 2] & 0x3f));
+        if (ch < 0x800 || Character.isSurrogate(ch))
+          return -1;
+
+        dst[n++] = ch;
+        i += 3;
+      }
+      else if ((b0 >> 3) == -2) {
+        if (i + 3 >= len || !isContinuation(src[i + 1]) || !isContinuation(src[i + 2]) || !isContinuation(src[i + 3]))
+          return -1;
+
+        final int cp = ((b0 & 0x07) << 18) | ((src[i + 1] & 0x3f) << 12) | ((src[i + 2] & 0x3f) << 6) | (src[i + 3] & 0x3f);
+        if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT || cp > Character.MAX_CODE_POINT)
+          return -1;
+
+        dst[n++] = Character.highSurrogate(cp);
+        dst[n++] = Character.lowSurrogate(cp);
+        i += 4;
       }
       else {
-        builderToEncode.append(ch);
+        return -1;
       }
     }
 
-    if (builderToEncode.length() > 0)
-      builder.append(encode(builderToEncode.toString()));
+    return n;
+  }
+
+  static final char[] HEX_UPPER = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+
+  /**
+   * Returns the {@link Charset} of the provided name.
+   *
+   * @param enc The name of a supported character encoding.
+   * @return The {@link Charset} of the provided name.
+   * @throws UnsupportedEncodingException If the named encoding is not supported.
+   * @throws NullPointerException If {@code enc} is null.
+   */
+  static Charset forName(final String enc) throws UnsupportedEncodingException {
+    try {
+      return Charset.forName(Objects.requireNonNull(enc));
+    }
+    catch (final IllegalCharsetNameException | UnsupportedCharsetException e) {
+      throw new UnsupportedEncodingException(enc);
+    }
+  }
+
+  /**
+   * Returns the encoded form of the provided string, or the string itself if it does not contain characters that need to be encoded.
+   */
+  static String encode(final String s, final Charset charset, final PercentCodec.Component component, final boolean spaceAsPlus) {
+    final int len = s.length();
+    int i = 0;
+    for (char ch; i < len; ++i) // [N]
+      if (!component.isSafe(ch = s.charAt(i)) && (ch != ' ' || !spaceAsPlus))
+        break;
+
+    return i == len ? s.replace(' ', '+') : encode(s, charset, component, spaceAsPlus, new StringBuilder(len + 16)).toString();
+  }
 
-    return builder;
+  static StringBuilder encode(final CharSequence s, final Charset charset, final PercentCodec.Component component, final boolean spaceAsPlus, final StringBuilder builder) {
+    try {
+      return encode(s, 0, s.length(), charset, component, spaceAsPlus, builder);
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
-  private static final String PATH_RESERVED_CHARACTERS = "=@/:!$&'(),;~";
+  private static void appendEscaped(final Appendable out, final int b) throws IOException {
+    out.append('%').append(HEX_UPPER[(b >> 4) & 0xf]).append(HEX_UPPER[b & 0xf]);
+  }
+
+  /**
+   * Encodes the characters of {@code s} from index {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) in a single pass,
+   * appending runs of safe characters to {@code out} as-is, and escaping all other characters as {@code "%XY"} sequences of the
+   * bytes of the provided {@link Charset}.
+   *
+   * @param component The {@link PercentCodec.Component} whose safe characters are not to be escaped.
+   * @param spaceAsPlus Whether {@code ' '} is to be encoded as {@code '+'} (as opposed to {@code "%20"}).
+   */
+  static <T extends Appendable> T encode(final CharSequence s, final int fromIndex, final int toIndex, final Charset charset, final PercentCodec.Component component, final boolean spaceAsPlus, final T out) throws IOException {
+    final boolean isUtf8 = charset == StandardCharsets.UTF_8 || StandardCharsets.UTF_8.equals(charset);
+    int start = fromIndex;
+    for (int i = fromIndex; i < toIndex;) { // [N]
+      char ch = s.charAt(i);
+      if (component.isSafe(ch)) {
+        ++i;
+        continue;
+      }
+
+      if (start < i)
+        out.append(s, start, i);
+
+      if (ch == ' ' && spaceAsPlus) {
+        out.append('+');
+        ++i;
+      }
+      else if (ch < 0x80) {
+        appendEscaped(out, ch);
+        ++i;
+      }
+      else if (isUtf8) {
+        int cp = ch;
+        if (Character.isHighSurrogate(ch) && i + 1 < toIndex && Character.isLowSurrogate(s.charAt(i + 1)))
+          cp = Character.toCodePoint(ch, s.charAt(++i));
+        else if (Character.isSurrogate(ch))
+          cp = '?'; // Unpaired surrogates are replaced as by String.getBytes(Charset)
+
+        ++i;
+        if (cp < 0x80) {
+          appendEscaped(out, cp);
+        }
+        else if (cp < 0x800) {
+          appendEscaped(out, 0xc0 | (cp >> 6));
+          appendEscaped(out, 0x80 | (cp & 0x3f));
+        }
+        else if (cp < 0x10000) {
+          appendEscaped(out, 0xe0 | (cp >> 12));
+          appendEscaped(out, 0x80 | ((cp >> 6) & 0x3f));
+          appendEscaped(out, 0x80 | (cp & 0x3f));
+        }
+        else {
+          appendEscaped(out, 0xf0 | (cp >> 18));
+          appendEscaped(out, 0x80 | ((cp >> 12) & 0x3f));
+          appendEscaped(out, 0x80 | ((cp >> 6) & 0x3f));
+          appendEscaped(out, 0x80 | (cp & 0x3f));
+        }
+      }
+      else {
+        // Other charsets may be stateful, so the run of characters to be escaped is encoded at once, as is done by URLEncoder
+        int j = i + 1;
+        while (j < toIndex && !component.isSafe(ch = s.charAt(j)) && (ch != ' ' || !spaceAsPlus))
+          ++j;
+
+        final ByteBuffer bytes = charset.encode(CharBuffer.wrap(s, i, j));
+        while (bytes.hasRemaining())
+          appendEscaped(out, bytes.get());
+
+        i = j;
+      }
+
+      start = i;
+    }
+
+    if (start < toIndex)
+      out.append(s, start, toIndex);
+
+    return out;
+  }
 
   /**
    * Returns the URL-encoded path string.
    * <p>
-   * URL path segments may contain {@code '+'} symbols which should not be decoded into {@code ' '}. This method delegates to
-   * URLEncoder, then replaces {@code '+'} with {@code "%20"}.
+   * URL path segments may contain {@code '+'} symbols which should not be decoded into {@code ' '}. This method therefore retains
+   * {@code '+'}, and encodes {@code ' '} as {@code "%20"}.
    *
-   * @param path The path to decode.
-   * @return The URL-decoded path string.
+   * @param path The path to encode.
+   * @return The URL-encoded path string.
+   * @throws NullPointerException If {@code path} is null.
    */
   public static String encodePath(final String path) {
-    final StringBuilder result = componentEncode(PATH_RESERVED_CHARACTERS, path);
-    // URLEncoder will encode '+' to %2B but will turn ' ' into '+'
-    // We need to retain '+' and encode ' ' as %20
-    Strings.replace(result, "+", "%20");
-    Strings.replace(result, "%2B", "+");
-    return result.toString();
+    return encode(path, StandardCharsets.UTF_8, PercentCodec.Component.PATH, false);
+  }
+
+  /**
+   * Encodes the provided path, appending the result to the specified {@link StringBuilder}.
+   * <p>
+   * URL path segments may contain {@code '+'} symbols which should not be decoded into {@code ' '}. This method therefore retains
+   * {@code '+'}, and encodes {@code ' '} as {@code "%20"}.
+   *
+   * @param path The path to encode.
+   * @param builder The {@link StringBuilder} to which the encoded path is to be appended.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code path} or {@code builder} is null.
+   */
+  public static StringBuilder encodePath(final CharSequence path, final StringBuilder builder) {
+    return encode(path, StandardCharsets.UTF_8, PercentCodec.Component.PATH, false, builder);
+  }
+
+  /**
+   * Encodes the provided path, appending the result to the specified {@link Appendable}.
+   * <p>
+   * URL path segments may contain {@code '+'} symbols which should not be decoded into {@code ' '}. This method therefore retains
+   * {@code '+'}, and encodes {@code ' '} as {@code "%20"}.
+   *
+   * @param <T> The type parameter of the {@link Appendable}.
+   * @param path The path to encode.
+   * @param out The {@link Appendable} to which the encoded path is to be appended.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred while appending to {@code out}.
+   * @throws NullPointerException If {@code path} or {@code out} is null.
+   */
+  public static <T extends Appendable> T encodePath(final CharSequence path, final T out) throws IOException {
+    return encode(path, 0, path.length(), StandardCharsets.UTF_8, PercentCodec.Component.PATH, false, out);
   }
 
   /**
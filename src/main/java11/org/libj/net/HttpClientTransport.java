@@ -0,0 +1,91 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.libj.lang.Assertions.*;
+
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * An {@link HttpTransport} backed by a {@link HttpClient}, which negotiates HTTP/2 with ALPN (falling back to HTTP/1.1), and
+ * multiplexes concurrent requests to an origin over the connections of a pool that is dedicated to each instance.
+ * <p>
+ * The {@link URLConnection}s opened by this transport are {@link java.net.HttpURLConnection}s that send their request when its
+ * response is first accessed, with the body written to {@link URLConnection#getOutputStream()} buffered until then. They do not
+ * follow redirects themselves (regardless of {@link java.net.HttpURLConnection#setInstanceFollowRedirects(boolean)}), as redirects
+ * are followed by {@link URLConnections#checkFollowRedirect(URLConnection)}, and the connect and read timeouts of each connection
+ * are applied together as the timeout of its request until the response headers are received.
+ */
+public final class HttpClientTransport implements HttpTransport {
+  /**
+   * Returns whether {@link HttpClientTransport} is available on this JDK.
+   *
+   * @return Whether {@link HttpClientTransport} is available on this JDK.
+   */
+  public static boolean isAvailable() {
+    return true;
+  }
+
+  private final HttpClient client;
+
+  /**
+   * Creates a new {@link HttpClientTransport} with a new {@link HttpClient} with the default configuration.
+   */
+  public HttpClientTransport() {
+    this(0, null, null);
+  }
+
+  /**
+   * Creates a new {@link HttpClientTransport} with a new {@link HttpClient} with the provided configuration.
+   *
+   * @param connectTimeout The timeout in milliseconds to establish a connection. A timeout of zero is interpreted as an infinite
+   *          timeout.
+   * @param sslContext The {@link SSLContext} of {@code https} connections, or {@code null} for the default {@link SSLContext}.
+   * @param executor The {@link Executor} of the asynchronous tasks of the {@link HttpClient}, or {@code null} for its default
+   *          executor.
+   * @throws IllegalArgumentException If {@code connectTimeout} is negative.
+   */
+  public HttpClientTransport(final int connectTimeout, final SSLContext sslContext, final Executor executor) {
+    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).followRedirects(HttpClient.Redirect.NEVER);
+    if (assertNotNegative(connectTimeout) > 0)
+      builder.connectTimeout(Duration.ofMillis(connectTimeout));
+
+    if (sslContext != null)
+      builder.sslContext(sslContext);
+
+    if (executor != null)
+      builder.executor(executor);
+
+    this.client = builder.build();
+  }
+
+  @Override
+  public URLConnection openConnection(final URL url) {
+    return new HttpClientURLConnection(url, client);
+  }
+
+  @Override
+  public String toString() {
+    return "HttpClientTransport[" + client + "]";
+  }
+}
@@ -0,0 +1,324 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.ProtocolException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * An {@link HttpURLConnection} that sends its request with a {@link HttpClient} when its response is first accessed. In fixed-length
+ * or chunked streaming mode, the request is instead sent when its {@link OutputStream} is obtained, and its body is published as it
+ * is written, as with the {@link HttpURLConnection} of the JDK. Otherwise, the body is buffered until the request is sent.
+ *
+ * @see HttpClientTransport
+ */
+final class HttpClientURLConnection extends HttpURLConnection {
+  private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+  /** The request headers that are set by the {@link HttpClient} itself, and are not allowed to be set on an {@link HttpRequest}. */
+  private static final Set<String> restrictedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+  static {
+    Collections.addAll(restrictedHeaders, "Connection", "Content-Length", "Expect", "Host", "Upgrade");
+  }
+
+  private final HttpClient client;
+  private ByteArrayOutputStream body;
+  private PipedOutputStream stream;
+  private volatile CompletableFuture<HttpResponse<InputStream>> future;
+  private volatile boolean disconnected;
+  private HttpResponse<InputStream> response;
+  private IOException exception;
+  private List<Map.Entry<String,String>> headers;
+
+  HttpClientURLConnection(final URL url, final HttpClient client) {
+    super(url);
+    this.client = client;
+  }
+
+  /**
+   * Does nothing, as the request is sent when its response is first accessed.
+   */
+  @Override
+  public void connect() throws IOException {
+    if (disconnected)
+      throw new IOException("Disconnected");
+  }
+
+  @Override
+  public OutputStream getOutputStream() throws IOException {
+    if (!doOutput)
+      throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+
+    if (stream != null)
+      return stream;
+
+    if (future != null || exception != null)
+      throw new ProtocolException("Cannot write output after reading input.");
+
+    if ("GET".equals(method))
+      method = "POST";
+
+    final long length = fixedContentLengthLong != -1 ? fixedContentLengthLong : fixedContentLength;
+    if (length > 0 || chunkLength != -1) {
+      // In streaming mode, the request is sent now, with a body that is published as it is written through a pipe
+      final PipedInputStream in = new PipedInputStream(chunkLength > 0 ? chunkLength : 8192);
+      final PipedOutputStream out = new PipedOutputStream(in);
+      final HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> in);
+      send(length > 0 ? HttpRequest.BodyPublishers.fromPublisher(publisher, length) : publisher).whenComplete((final HttpResponse<InputStream> r, final Throwable t) -> {
+        // Unblocks the writer if the request fails before its body is published
+        if (t != null) {
+          try {
+            in.close();
+          }
+          catch (final IOException e) {
+          }
+        }
+      });
+
+      return stream = out;
+    }
+
+    if (body == null)
+      body = new ByteArrayOutputStream(fixedContentLengthLong > 0 ? (int)Math.min(fixedContentLengthLong, 1 << 20) : fixedContentLength > 0 ? Math.min(fixedContentLength, 1 << 20) : 256);
+
+    return body;
+  }
+
+  /**
+   * Sends the request with the provided {@link HttpRequest.BodyPublisher}, and returns the {@link CompletableFuture} of its response.
+   */
+  private CompletableFuture<HttpResponse<InputStream>> send(final HttpRequest.BodyPublisher publisher) throws IOException {
+    final HttpRequest.Builder builder;
+    try {
+      builder = HttpRequest.newBuilder(url.toURI());
+    }
+    catch (final URISyntaxException | IllegalArgumentException e) {
+      throw exception = new MalformedURLException(e.getMessage());
+    }
+
+    final int readTimeout = getReadTimeout();
+    if (readTimeout > 0)
+      builder.timeout(Duration.ofMillis((long)getConnectTimeout() + readTimeout));
+
+    for (final Map.Entry<String,List<String>> entry : getRequestProperties().entrySet()) // [S]
+      if (!restrictedHeaders.contains(entry.getKey()))
+        for (final String value : entry.getValue()) // [L]
+          builder.header(entry.getKey(), value);
+
+    if (ifModifiedSince != 0)
+      builder.header("If-Modified-Since", HTTP_DATE.format(Instant.ofEpochMilli(ifModifiedSince)));
+
+    builder.method(method, publisher);
+    connected = true;
+    final CompletableFuture<HttpResponse<InputStream>> future = this.future = client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+    if (disconnected)
+      future.cancel(true);
+
+    return future;
+  }
+
+  private HttpResponse<InputStream> getResponse() throws IOException {
+    if (response != null)
+      return response;
+
+    if (exception != null)
+      throw exception;
+
+    if (disconnected)
+      throw new IOException("Disconnected");
+
+    CompletableFuture<HttpResponse<InputStream>> future = this.future;
+    if (future == null) {
+      future = send(body != null ? HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()) : HttpRequest.BodyPublishers.noBody());
+    }
+    else if (stream != null) {
+      // Ends the streamed body, if the caller has not closed it
+      stream.close();
+    }
+
+    try {
+      response = future.get();
+    }
+    catch (final InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw exception = new InterruptedIOException(e.getMessage());
+    }
+    catch (final CancellationException e) {
+      throw exception = new IOException("Disconnected");
+    }
+    catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      throw exception = cause instanceof HttpTimeoutException ? (SocketTimeoutException)new SocketTimeoutException(cause.getMessage()).initCause(cause) : cause instanceof IOException ? (IOException)cause : new IOException(cause);
+    }
+
+    responseCode = response.statusCode();
+    if (disconnected)
+      closeBody(response);
+
+    return response;
+  }
+
+  private HttpResponse<InputStream> getResponseOrNull() {
+    try {
+      return getResponse();
+    }
+    catch (final IOException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public int getResponseCode() throws IOException {
+    return getResponse().statusCode();
+  }
+
+  /**
+   * Returns {@code null}, as the reason phrase of the status line is not provided by {@link HttpClient}.
+   */
+  @Override
+  public String getResponseMessage() throws IOException {
+    getResponse();
+    return null;
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    final HttpResponse<InputStream> response = getResponse();
+    final int status = response.statusCode();
+    if (status >= 400) {
+      if (status == HTTP_NOT_FOUND || status == HTTP_GONE)
+        throw new FileNotFoundException(url.toString());
+
+      throw new IOException("Server returned HTTP response code: " + status + " for URL: " + url);
+    }
+
+    return response.body();
+  }
+
+  @Override
+  public InputStream getErrorStream() {
+    final HttpResponse<InputStream> response = this.response;
+    return response != null && response.statusCode() >= 400 ? response.body() : null;
+  }
+
+  @Override
+  public String getHeaderField(final String name) {
+    final HttpResponse<InputStream> response = getResponseOrNull();
+    if (response == null || name == null)
+      return null;
+
+    final List<String> values = response.headers().allValues(name);
+    return values.isEmpty() ? null : values.get(values.size() - 1);
+  }
+
+  @Override
+  public Map<String,List<String>> getHeaderFields() {
+    final HttpResponse<InputStream> response = getResponseOrNull();
+    return response == null ? Collections.emptyMap() : response.headers().map();
+  }
+
+  /**
+   * Returns the header fields of the response in the order of {@link #getHeaderFieldKey(int)}, of which the first is the status line.
+   */
+  private List<Map.Entry<String,String>> getHeaders() {
+    if (headers != null)
+      return headers;
+
+    final HttpResponse<InputStream> response = getResponseOrNull();
+    if (response == null)
+      return Collections.emptyList();
+
+    final List<Map.Entry<String,String>> headers = new ArrayList<>();
+    headers.add(new AbstractMap.SimpleImmutableEntry<>(null, (response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ") + response.statusCode()));
+    for (final Map.Entry<String,List<String>> entry : response.headers().map().entrySet()) // [S]
+      if (!entry.getKey().startsWith(":"))
+        for (final String value : entry.getValue()) // [L]
+          headers.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), value));
+
+    return this.headers = headers;
+  }
+
+  @Override
+  public String getHeaderFieldKey(final int n) {
+    final List<Map.Entry<String,String>> headers = getHeaders();
+    return n < 0 || n >= headers.size() ? null : headers.get(n).getKey();
+  }
+
+  @Override
+  public String getHeaderField(final int n) {
+    final List<Map.Entry<String,String>> headers = getHeaders();
+    return n < 0 || n >= headers.size() ? null : headers.get(n).getValue();
+  }
+
+  private static void closeBody(final HttpResponse<InputStream> response) {
+    try {
+      response.body().close();
+    }
+    catch (final IOException e) {
+    }
+  }
+
+  /**
+   * Aborts the request if it is in flight, and closes the body of the response if it has been received, which releases its stream
+   * (or its connection, if the body is not fully read).
+   */
+  @Override
+  public void disconnect() {
+    disconnected = true;
+    final CompletableFuture<HttpResponse<InputStream>> future = this.future;
+    if (future != null && !future.cancel(true) && !future.isCompletedExceptionally())
+      closeBody(future.join());
+  }
+
+  @Override
+  public boolean usingProxy() {
+    return false;
+  }
+}
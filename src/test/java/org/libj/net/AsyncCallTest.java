@@ -0,0 +1,155 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class AsyncCallTest {
+  private static final CountDownLatch stall = new CountDownLatch(1);
+  private static TestServer server;
+  private static String base;
+
+  private static void respond(final HttpExchange exchange, final byte[] body) throws IOException {
+    exchange.sendResponseHeaders(200, body.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    server = new TestServer();
+    server.createContext("/hello", (e) -> respond(e, "hello".getBytes(StandardCharsets.UTF_8)));
+    server.createContext("/echo", (e) -> respond(e, AsyncCall.readAll(e.getRequestBody())));
+    server.createContext("/stall", (e) -> {
+      e.sendResponseHeaders(200, 1000);
+      final OutputStream out = e.getResponseBody();
+      out.write(new byte[10]);
+      out.flush();
+      try {
+        stall.await(30, TimeUnit.SECONDS);
+      }
+      catch (final InterruptedException ie) {
+      }
+
+      e.close();
+    });
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    stall.countDown();
+    server.close();
+  }
+
+  @Test
+  public void testGetAndPost() throws Exception {
+    assertEquals("hello", new String(HTTP.getAsync(new URL(base + "hello")).get(10, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+    final byte[] body = HTTP.postAsync(new URL(base + "echo"), Collections.singletonMap("a b", new String[] {"1", "2"})).get(10, TimeUnit.SECONDS);
+    assertEquals("a+b=1&a+b=2", new String(body, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testDownloadFileAsync() throws Exception {
+    final File file = Files.createTempFile(getClass().getName(), ".txt").toFile();
+    try {
+      final HttpURLConnection connection = Downloads.downloadFileAsync(new URL(base + "hello"), file, StandardCopyOption.REPLACE_EXISTING).get(10, TimeUnit.SECONDS);
+      assertEquals(200, connection.getResponseCode());
+      assertEquals("hello", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    final CountDownLatch done = new CountDownLatch(1);
+    final Executor executor = (r) -> new Thread(() -> {
+      r.run();
+      done.countDown();
+    }).start();
+
+    final CompletableFuture<byte[]> future = HTTP.getAsync(new URL(base + "stall"), executor, 0);
+    Thread.sleep(200);
+    assertTrue(future.cancel(true));
+    try {
+      future.get();
+      fail("Expected CancellationException");
+    }
+    catch (final CancellationException e) {
+    }
+
+    // Cancellation disconnects the connection, so the blocked read of the exchange is aborted
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testDeadline() throws Exception {
+    final CountDownLatch done = new CountDownLatch(1);
+    final Executor executor = (r) -> new Thread(() -> {
+      r.run();
+      done.countDown();
+    }).start();
+
+    final long start = System.nanoTime();
+    try {
+      HTTP.getAsync(new URL(base + "stall"), executor, 200).get(10, TimeUnit.SECONDS);
+      fail("Expected ExecutionException");
+    }
+    catch (final ExecutionException e) {
+      assertTrue(e.getCause() instanceof TimeoutException);
+    }
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+  }
+
+  @Test
+  public void testIllegalTimeout() throws Exception {
+    try {
+      HTTP.getAsync(new URL(base + "hello"), null, -1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class ContentDecoderTest {
+  private static final byte[] text;
+  private static TestServer server;
+  private static String base;
+
+  static {
+    final StringBuilder builder = new StringBuilder("[");
+    for (int i = 0; i < 2000; ++i) // [N]
+      builder.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"name\":\"item\"}");
+
+    text = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] gzip(final byte[] bytes, final int from, final int to) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(bytes, from, to - from);
+    }
+
+    return out.toByteArray();
+  }
+
+  private static byte[] deflate(final byte[] bytes, final boolean nowrap) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+    try (final DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+      deflate.write(bytes);
+    }
+    finally {
+      deflater.end();
+    }
+
+    return out.toByteArray();
+  }
+
+  private static void respond(final HttpExchange exchange, final String encoding, final byte[] body) throws IOException {
+    final String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    final boolean encode = accept != null && accept.contains(encoding.startsWith("x-") ? encoding.substring(2) : encoding);
+    final byte[] bytes = encode ? body : text;
+    if (encode)
+      exchange.getResponseHeaders().set("Content-Encoding", encoding);
+
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    final byte[] gzip = gzip(text, 0, text.length);
+    final ByteArrayOutputStream members = new ByteArrayOutputStream();
+    members.write(gzip(text, 0, 1000));
+    members.write(gzip(text, 1000, text.length));
+    final byte[] corrupt = gzip.clone();
+    corrupt[corrupt.length - 8] ^= 1;
+
+    server = new TestServer();
+    server.createContext("/gzip", (e) -> respond(e, "gzip", gzip));
+    server.createContext("/x-gzip", (e) -> respond(e, "x-gzip", gzip));
+    server.createContext("/zlib", (e) -> respond(e, "deflate", deflate(text, false)));
+    server.createContext("/raw", (e) -> respond(e, "deflate", deflate(text, true)));
+    server.createContext("/members", (e) -> respond(e, "gzip", members.toByteArray()));
+    server.createContext("/corrupt", (e) -> respond(e, "gzip", corrupt));
+    server.createContext("/empty", (e) -> {
+      e.getResponseHeaders().set("Content-Encoding", "gzip");
+      e.sendResponseHeaders(204, -1);
+      e.close();
+    });
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    server.close();
+  }
+
+  private static byte[] get(final String path, final ContentDecoder decoder) throws IOException {
+    return AsyncCall.readAll(HTTP.getAsStream(new URL(base + path), null, null, decoder));
+  }
+
+  @Test
+  public void testGzip() throws IOException {
+    final ContentDecoder decoder = new ContentDecoder(1);
+    for (int i = 0; i < 3; ++i) // [N]
+      assertArrayEquals(text, get("gzip", decoder));
+
+    assertArrayEquals(text, get("x-gzip", decoder));
+    assertEquals(4, decoder.getResponseCount());
+    assertEquals(4, decoder.getEncodedResponseCount());
+    assertEquals(4L * text.length, decoder.getDecodedByteCount());
+    assertTrue(decoder.toString(), decoder.getEncodedByteCount() * 5 < decoder.getDecodedByteCount());
+    assertEquals(decoder.getDecodedByteCount() - decoder.getEncodedByteCount(), decoder.getSavedByteCount());
+  }
+
+  @Test
+  public void testDeflate() throws IOException {
+    final ContentDecoder decoder = new ContentDecoder();
+    assertArrayEquals(text, get("zlib", decoder));
+    assertArrayEquals(text, get("raw", decoder));
+    assertArrayEquals(text, get("zlib", decoder));
+    assertEquals(3, decoder.getEncodedResponseCount());
+  }
+
+  @Test
+  public void testMembers() throws IOException {
+    assertArrayEquals(text, get("members", new ContentDecoder()));
+  }
+
+  @Test
+  public void testIdentity() throws IOException {
+    // Without a decoder, gzip is not advertised and the response is not encoded
+    assertArrayEquals(text, get("gzip", null));
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    final ContentDecoder decoder = new ContentDecoder();
+    assertEquals(0, get("empty", decoder).length);
+    assertEquals(1, decoder.getEncodedResponseCount());
+  }
+
+  @Test
+  public void testCorrupt() throws IOException {
+    try {
+      get("corrupt", new ContentDecoder());
+      fail("Expected ZipException");
+    }
+    catch (final ZipException e) {
+    }
+  }
+
+  @Test
+  public void testDownloadFile() throws IOException {
+    final ContentDecoder decoder = new ContentDecoder();
+    final File file = Files.createTempFile(getClass().getName(), ".json").toFile();
+    try {
+      HttpURLConnection connection = Downloads.downloadFile(new URL(base + "gzip"), file, 0, 0, decoder, true, StandardCopyOption.REPLACE_EXISTING);
+      assertEquals("gzip", connection.getContentEncoding());
+      assertArrayEquals(text, Files.readAllBytes(file.toPath()));
+      assertEquals(text.length, decoder.getDecodedByteCount());
+
+      file.delete();
+      connection = Downloads.downloadFile(new URL(base + "gzip"), file, 0, 0, decoder, false, StandardCopyOption.REPLACE_EXISTING);
+      assertEquals("gzip", connection.getContentEncoding());
+      assertArrayEquals(text, AsyncCall.readAll(new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))));
+    }
+    finally {
+      file.delete();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the decoding of all parameters of a form of 8 to 128 parameters with {@link FormDecoder}, against
+ * {@link URIs#parseParameters(Map,String)} followed by {@link URLs#decode(String)} of each name and value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormDecoderBenchmark {
+  @Param({"8", "32", "128"})
+  public int count;
+
+  private final FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+  private final FormDecoder.Parameters parameters = new FormDecoder.Parameters();
+  private String data;
+
+  @Setup
+  public void setup() {
+    final StringBuilder b = new StringBuilder();
+    for (int i = 0; i < count; ++i) { // [N]
+      if (i > 0)
+        b.append('&');
+
+      b.append("field").append(i).append("=some+value%2C").append(i).append("+caf%C3%A9");
+    }
+
+    data = b.toString();
+  }
+
+  @Benchmark
+  public void parseParametersAndDecode(final Blackhole blackhole) {
+    final Map<String,List<String>> parameters = new HashMap<>();
+    URIs.parseParameters(parameters, data);
+    for (final Map.Entry<String,List<String>> entry : parameters.entrySet()) { // [S]
+      blackhole.consume(URLs.decode(entry.getKey()));
+      for (final String value : entry.getValue()) // [L]
+        blackhole.consume(URLs.decode(value));
+    }
+  }
+
+  @Benchmark
+  public void formDecoder(final Blackhole blackhole) {
+    blackhole.consume(decoder.decode(data, parameters));
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FormDecoderBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,139 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FormDecoderTest {
+  private static void assertDecode(final FormDecoder decoder, final FormDecoder.Parameters parameters, final Charset charset,
+      final String data) {
+    final Map<String,List<String>> raw = new LinkedHashMap<>();
+    URIs.parseParameters(raw, data);
+    final Map<String,List<String>> expected = new LinkedHashMap<>();
+    for (final Map.Entry<String,List<String>> entry : raw.entrySet()) { // [S]
+      final List<String> values = new ArrayList<>();
+      for (final String value : entry.getValue()) // [L]
+        values.add(value == null ? null : URLs.decode(value, charset));
+
+      expected.merge(URLs.decode(entry.getKey(), charset), values, (a, b) -> {
+        a.addAll(b);
+        return a;
+      });
+    }
+
+    assertEquals(data, expected, decoder.decode(data, parameters).toMap(new LinkedHashMap<>()));
+  }
+
+  @Test
+  public void testSameAsParseParametersAndDecode() {
+    final FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+    final FormDecoder.Parameters parameters = new FormDecoder.Parameters();
+    assertDecode(decoder, parameters, StandardCharsets.UTF_8, "");
+    assertDecode(decoder, parameters, StandardCharsets.UTF_8, "a");
+    assertDecode(decoder, parameters, StandardCharsets.UTF_8, "=a");
+    assertDecode(decoder, parameters, StandardCharsets.UTF_8, "a=1&&b&=&c=x=y");
+    assertDecode(decoder, parameters, StandardCharsets.UTF_8, "a+b=c%20d&a+b=e&caf%C3%A9=%E2%82%AC%F0%9F%98%80&x=%26%3D");
+
+    final Random random = new Random(0);
+    final String[] alphabet = {"a", "b", "=", "&", "+", "%20", "%3D", "%C3%A9", "%E2%82%AC", "%FF"};
+    final StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 10000; ++i) { // [N]
+      b.setLength(0);
+      for (int j = 0, len = random.nextInt(12); j < len; ++j) // [N]
+        b.append(alphabet[random.nextInt(alphabet.length)]);
+
+      assertDecode(decoder, parameters, StandardCharsets.UTF_8, b.toString());
+    }
+
+    final FormDecoder latin1 = new FormDecoder(StandardCharsets.ISO_8859_1);
+    assertDecode(latin1, parameters, StandardCharsets.ISO_8859_1, "x=%E9&%FF=%C3%A9");
+  }
+
+  @Test
+  public void testReuse() {
+    final FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+    final FormDecoder.Parameters parameters = new FormDecoder.Parameters();
+    decoder.decode("a=1&b=2&c=3&a=4", parameters);
+    assertEquals(4, parameters.size());
+    assertEquals("1", parameters.getFirst("a"));
+    assertEquals("a", parameters.getName(3));
+    assertEquals("4", parameters.getValue(3));
+
+    assertSame(parameters, decoder.decode("xx?b=%2F&flag#c", 3, 13, parameters));
+    assertEquals(2, parameters.size());
+    assertNull(parameters.getFirst("a"));
+    assertEquals("/", parameters.getFirst("b"));
+    assertEquals("flag", parameters.getName(1));
+    assertNull(parameters.getValue(1));
+
+    try {
+      parameters.getName(2);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testIllegal() {
+    final FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+    final FormDecoder.Parameters parameters = new FormDecoder.Parameters();
+    for (final String data : new String[] {"a=%", "a=%2", "a=%zz&b=1", "%g0=1"}) { // [A]
+      try {
+        decoder.decode(data, parameters);
+        fail("Expected IllegalArgumentException: " + data);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testLimits() {
+    final FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8, 3, 4, 6);
+    final FormDecoder.Parameters parameters = new FormDecoder.Parameters();
+    assertEquals(3, decoder.decode("abcd=123456&%41%42%43%44=%E2%82%AC%E2%82%AC1234&c", parameters).size());
+    assertEquals("\u20ac\u20ac1234", parameters.getFirst("ABCD"));
+    final String[] illegal = {"a&b&c&d", "abcde=1", "a=1234567", "a=12%333456", "a=bcdef=1", "abcde",
+      "a=%F0%9F%98%80%F0%9F%98%80%F0%9F%98%80%F0%9F%98%80"};
+    for (final String data : illegal) { // [A]
+      try {
+        decoder.decode(data, parameters);
+        fail("Expected IllegalArgumentException: " + data);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    try {
+      new FormDecoder(StandardCharsets.UTF_8, -1, 0, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+import org.junit.Test;
+
+public class FormParserTest {
+  /** A {@link ServletInputStream} that delivers its data to a {@link ReadListener} in chunks of the provided size. */
+  private static final class ChunkedServletInputStream extends ServletInputStream {
+    private final byte[] data;
+    private final int chunk;
+    private int pos;
+    private boolean ready;
+
+    private ChunkedServletInputStream(final byte[] data, final int chunk) {
+      this.data = data;
+      this.chunk = chunk;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return pos == data.length;
+    }
+
+    @Override
+    public boolean isReady() {
+      return ready;
+    }
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+      try {
+        while (pos < data.length) {
+          ready = true;
+          readListener.onDataAvailable();
+        }
+
+        readListener.onAllDataRead();
+      }
+      catch (final IOException e) {
+        readListener.onError(e);
+      }
+    }
+
+    @Override
+    public int read() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (pos == data.length)
+        return -1;
+
+      // Only one chunk is available per onDataAvailable()
+      final int n = Math.min(Math.min(len, chunk), data.length - pos);
+      System.arraycopy(data, pos, b, off, n);
+      pos += n;
+      ready = false;
+      return n;
+    }
+  }
+
+  private static List<String> parse(final String data, final int chunk) {
+    final List<String> actual = new ArrayList<>();
+    final FormParser parser = new FormParser(StandardCharsets.UTF_8, (n, v) -> actual.add(n + "=" + v));
+    final byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < bytes.length; i += chunk) // [N]
+      assertTrue(parser.write(bytes, i, Math.min(chunk, bytes.length - i)));
+
+    assertTrue(parser.finish());
+    return actual;
+  }
+
+  @Test
+  public void testSameAsFormDecoder() {
+    final FormDecoder decoder = new FormDecoder(StandardCharsets.UTF_8);
+    final FormDecoder.Parameters parameters = new FormDecoder.Parameters();
+    final Random random = new Random(0);
+    final String[] alphabet = {"a", "b", "=", "&", "+", "%20", "%3D", "%C3%A9", "%E2%82%AC", "\u00e9"};
+    final StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 5000; ++i) { // [N]
+      b.setLength(0);
+      for (int j = 0, len = random.nextInt(16); j < len; ++j) // [N]
+        b.append(alphabet[random.nextInt(alphabet.length)]);
+
+      final String data = b.toString();
+      decoder.decode(data, parameters);
+      final List<String> expected = new ArrayList<>();
+      for (int j = 0; j < parameters.size(); ++j) // [N]
+        expected.add(parameters.getName(j) + "=" + parameters.getValue(j));
+
+      for (final int chunk : new int[] {1, 2, 3, 7, 64}) // [A]
+        assertEquals(data + " / " + chunk, expected, parse(data, chunk));
+    }
+  }
+
+  @Test
+  public void testEarlyTermination() throws IOException {
+    final List<String> names = new ArrayList<>();
+    final FormParser parser = new FormParser(StandardCharsets.UTF_8, (n, v) -> names.add(n) && !"b".equals(n));
+    assertFalse(parser.parse(new ByteArrayInputStream("a=1&b=2&c=3&%zz".getBytes(StandardCharsets.UTF_8))));
+    assertEquals(Arrays.asList("a", "b"), names);
+
+    // The parser is reusable after it is stopped
+    names.clear();
+    assertTrue(parser.parse(new ByteArrayInputStream("x&y=".getBytes(StandardCharsets.UTF_8))));
+    assertEquals(Arrays.asList("x", "y"), names);
+  }
+
+  @Test
+  public void testReadListener() {
+    final byte[] data = "a=1&long=0123456789abcdef&b=%E2%82%AC".getBytes(StandardCharsets.UTF_8);
+    for (int chunk = 1; chunk <= data.length; ++chunk) { // [N]
+      final List<String> actual = new ArrayList<>();
+      final AtomicReference<Throwable> result = new AtomicReference<>(new Throwable());
+      final FormParser parser = new FormParser(StandardCharsets.UTF_8, (n, v) -> actual.add(n + "=" + v));
+      parser.parse(new ChunkedServletInputStream(data, chunk), result::set);
+      assertNull(result.get());
+      assertEquals(Arrays.asList("a=1", "long=0123456789abcdef", "b=\u20ac"), actual);
+    }
+
+    final AtomicReference<Throwable> result = new AtomicReference<>();
+    final FormParser parser = new FormParser(StandardCharsets.UTF_8, (n, v) -> true);
+    parser.parse(new ChunkedServletInputStream("a=%".getBytes(StandardCharsets.UTF_8), 2), result::set);
+    assertTrue(result.get() instanceof IllegalArgumentException);
+  }
+
+  @Test
+  public void testLimits() throws IOException {
+    final FormParser parser = new FormParser(StandardCharsets.UTF_8, 4, 6, (n, v) -> true);
+    final String legal = "abcd=123456&%41%42%43%44=%E2%82%AC%E2%82%AC";
+    assertTrue(parser.parse(new ByteArrayInputStream(legal.getBytes(StandardCharsets.UTF_8))));
+    final String[] illegal = {"abcde=1", "a=1234567", "a=bcdef=1", "abcde", "a=%F0%9F%98%80%F0%9F%98%80", "a=%g0"};
+    for (final String data : illegal) { // [A]
+      try {
+        parser.parse(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
+        fail("Expected IllegalArgumentException: " + data);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    assertTrue(parser.parse(new ByteArrayInputStream("a=1".getBytes(StandardCharsets.UTF_8))));
+  }
+}
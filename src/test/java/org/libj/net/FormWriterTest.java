@@ -0,0 +1,112 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class FormWriterTest {
+  private static byte[] write(final Map<String,String[]> parameters, final Charset charset) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final FormWriter writer = new FormWriter(out, charset)) {
+      writer.write(parameters);
+    }
+
+    return out.toByteArray();
+  }
+
+  private static void assertForm(final Map<String,String[]> parameters, final Charset charset) throws IOException {
+    final String expected = HTTP.createQuery(parameters, charset.name());
+    final byte[] actual = write(parameters, charset);
+    assertEquals(expected, new String(actual, StandardCharsets.US_ASCII));
+    assertEquals(actual.length, FormWriter.length(parameters, charset));
+  }
+
+  @Test
+  public void testWrite() throws IOException {
+    assertForm(null, StandardCharsets.UTF_8);
+    assertForm(Collections.emptyMap(), StandardCharsets.UTF_8);
+
+    final Map<String,String[]> parameters = new LinkedHashMap<>();
+    parameters.put("a", new String[] {"1"});
+    parameters.put("empty", new String[0]);
+    parameters.put("b c", new String[] {"x y", "\u00e9\u20ac", "*-._~!"});
+    parameters.put("\ud83d\ude00", new String[] {""});
+    assertForm(parameters, StandardCharsets.UTF_8);
+    assertForm(parameters, StandardCharsets.UTF_16);
+    assertForm(parameters, StandardCharsets.ISO_8859_1);
+  }
+
+  @Test
+  public void testLargeBody() throws IOException {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100000; ++i) // [N]
+      builder.append((char)(' ' + i % 95)).append('\u00e9');
+
+    final Map<String,String[]> parameters = new LinkedHashMap<>();
+    parameters.put("v", new String[] {builder.toString(), builder.toString()});
+    assertForm(parameters, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testWriteNameValue() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final FormWriter writer = new FormWriter(out, StandardCharsets.UTF_8)) {
+      writer.write("a", "1").write("b", "2 3");
+    }
+
+    assertEquals("a=1&b=2+3", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  public void testPostAsStream() throws IOException {
+    try (final TestServer server = new TestServer()) {
+      server.createContext("/", exchange -> {
+        final byte[] body = AsyncCall.readAll(exchange.getRequestBody());
+        final byte[] response = (exchange.getRequestMethod() + " " + exchange.getRequestHeaders().getFirst("Content-Length") + " " + new String(body, StandardCharsets.US_ASCII)).getBytes(StandardCharsets.US_ASCII);
+        exchange.sendResponseHeaders(200, response.length);
+        try (final OutputStream out = exchange.getResponseBody()) {
+          out.write(response);
+        }
+      });
+
+      final Map<String,String[]> parameters = new LinkedHashMap<>();
+      parameters.put("a", new String[] {"1", "\u00e9"});
+      parameters.put("b", new String[] {"x y"});
+      final URL url = new URL(server.getBase());
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try (final InputStream in = HTTP.postAsStream(url, parameters)) {
+        for (int ch; (ch = in.read()) != -1;) // [X]
+          out.write(ch);
+      }
+
+      assertEquals("POST 18 a=1&a=%C3%A9&b=x+y", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+  }
+}
@@ -0,0 +1,332 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class HttpCacheTest {
+  private static final String LAST_MODIFIED = "Sat, 01 Jan 2000 00:00:00 GMT";
+  private static final String LONG;
+  private static final ConcurrentHashMap<String,AtomicInteger> requests = new ConcurrentHashMap<>();
+
+  static {
+    final char[] chars = new char[70000];
+    Arrays.fill(chars, '\u00e9');
+    LONG = new String(chars);
+  }
+
+  private static TestServer server;
+  private static String base;
+  private File directory;
+
+  private static void respond(final HttpExchange exchange, final int status, final String body, final String ... headers) throws IOException {
+    requests.computeIfAbsent(exchange.getRequestURI().getPath(), (k) -> new AtomicInteger()).incrementAndGet();
+    for (int i = 0; i < headers.length; i += 2) // [A]
+      exchange.getResponseHeaders().add(headers[i], headers[i + 1]);
+
+    if (body == null) {
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+      return;
+    }
+
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    final char[] chars = new char[100];
+    Arrays.fill(chars, 'x');
+    final String large = new String(chars);
+
+    server = new TestServer();
+    server.createContext("/max-age", (e) -> respond(e, 200, "fresh", "Cache-Control", "max-age=60"));
+    server.createContext("/etag", (e) -> {
+      if ("\"v1\"".equals(e.getRequestHeaders().getFirst("If-None-Match")))
+        respond(e, 304, null, "ETag", "\"v1\"", "X-Version", "2");
+      else
+        respond(e, 200, "etag", "Cache-Control", "no-cache", "ETag", "\"v1\"", "X-Version", "1");
+    });
+    server.createContext("/last-modified", (e) -> {
+      if (LAST_MODIFIED.equals(e.getRequestHeaders().getFirst("If-Modified-Since")))
+        respond(e, 304, null);
+      else
+        respond(e, 200, "last-modified", "Cache-Control", "max-age=0", "Last-Modified", LAST_MODIFIED);
+    });
+    server.createContext("/no-store", (e) -> respond(e, 200, "no-store", "Cache-Control", "no-store, max-age=60"));
+    server.createContext("/large", (e) -> respond(e, 200, large, "Cache-Control", "max-age=60"));
+    server.createContext("/vary", (e) -> respond(e, 200, String.valueOf(e.getRequestHeaders().getFirst("Accept-Language")), "Cache-Control", "max-age=60", "Vary", "Accept-Language"));
+    server.createContext("/old", (e) -> respond(e, 301, "moved", "Cache-Control", "max-age=60", "Location", base + "new"));
+    server.createContext("/new", (e) -> respond(e, 200, "new", "Cache-Control", "max-age=60"));
+    server.createContext("/long-header", (e) -> respond(e, 200, "long-header", "Cache-Control", "max-age=60", "X-Long", LONG));
+    server.createContext("/not-found", (e) -> respond(e, 404, "not-found", "Cache-Control", "max-age=60"));
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    server.close();
+  }
+
+  @Before
+  public void before() throws IOException {
+    requests.clear();
+    directory = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+  }
+
+  @After
+  public void after() {
+    HttpTransports.setDefault(HttpTransports.URL_CONNECTION);
+    final File[] files = directory.listFiles();
+    if (files != null)
+      for (final File file : files) // [A]
+        file.delete();
+
+    directory.delete();
+  }
+
+  private static int requests(final String path) {
+    final AtomicInteger count = requests.get("/" + path);
+    return count == null ? 0 : count.get();
+  }
+
+  private static String get(final String path) throws IOException {
+    return new String(AsyncCall.readAll(HTTP.getAsStream(new URL(base + path))), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testMaxAge() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    for (int i = 0; i < 3; ++i) // [N]
+      assertEquals("fresh", get("max-age"));
+
+    assertEquals(1, requests("max-age"));
+    assertEquals(1, cache.getMissCount());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.size());
+    assertEquals(5, cache.getLength());
+
+    final HttpURLConnection connection = (HttpURLConnection)cache.openConnection(new URL(base + "max-age"));
+    assertEquals(200, connection.getResponseCode());
+    assertEquals("max-age=60", connection.getHeaderField("cache-control"));
+    assertEquals(5, connection.getContentLength());
+    connection.disconnect();
+
+    assertTrue(cache.invalidate(new URL(base + "max-age")));
+    assertEquals("fresh", get("max-age"));
+    assertEquals(2, requests("max-age"));
+  }
+
+  @Test
+  public void testETag() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    assertEquals("etag", get("etag"));
+    assertEquals("etag", get("etag"));
+    assertEquals(2, requests("etag"));
+    assertEquals(1, cache.getRevalidationCount());
+
+    // The stored headers are updated with those of the 304 response
+    final HttpURLConnection connection = (HttpURLConnection)cache.openConnection(new URL(base + "etag"));
+    assertEquals(200, connection.getResponseCode());
+    assertEquals("2", connection.getHeaderField("X-Version"));
+    assertEquals("etag", new String(AsyncCall.readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+    assertEquals(2, cache.getRevalidationCount());
+  }
+
+  @Test
+  public void testLastModified() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    assertEquals("last-modified", get("last-modified"));
+    assertEquals("last-modified", get("last-modified"));
+    assertEquals(2, requests("last-modified"));
+    assertEquals(1, cache.getRevalidationCount());
+    assertEquals(0, cache.getHitCount());
+  }
+
+  @Test
+  public void testNotFound() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    for (int i = 0; i < 2; ++i) { // [N]
+      final HttpURLConnection connection = (HttpURLConnection)cache.openConnection(new URL(base + "not-found"));
+      assertEquals(404, connection.getResponseCode());
+      try {
+        connection.getInputStream();
+        fail("Expected FileNotFoundException");
+      }
+      catch (final FileNotFoundException e) {
+      }
+
+      assertEquals("not-found", new String(AsyncCall.readAll(connection.getErrorStream()), StandardCharsets.UTF_8));
+      connection.disconnect();
+    }
+
+    assertEquals(1, requests("not-found"));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testNoStore() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    assertEquals("no-store", get("no-store"));
+    assertEquals("no-store", get("no-store"));
+    assertEquals(2, requests("no-store"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testRequestNoCache() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    assertEquals("fresh", get("max-age"));
+    final URLConnection connection = cache.openConnection(new URL(base + "max-age"));
+    connection.setRequestProperty("Cache-Control", "no-cache");
+    assertEquals("fresh", new String(AsyncCall.readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+    assertEquals(2, requests("max-age"));
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 250);
+    HttpTransports.setDefault(cache);
+    get("large/a");
+    get("large/b");
+    get("large/a");
+    get("large/c");
+
+    // The least recently used response of "b" was evicted to store "c"
+    assertEquals(2, cache.size());
+    assertEquals(200, cache.getLength());
+    assertEquals(1, cache.getEvictionCount());
+    get("large/a");
+    assertEquals(1, requests("large/a"));
+    get("large/b");
+    assertEquals(2, requests("large/b"));
+  }
+
+  @Test
+  public void testPersistence() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    assertEquals("fresh", get("max-age"));
+    assertEquals("new", get("new"));
+    cache.flush();
+    assertTrue(new File(directory, "1000.tmp").createNewFile());
+    assertTrue(new File(directory, "1001.body").createNewFile());
+    assertTrue(new File(directory, "notes.tmp").createNewFile());
+
+    // The orphaned files of the cache are deleted, but other files in its directory are not
+    final HttpCache restored = new HttpCache(directory, 1 << 20);
+    assertEquals(2, restored.size());
+    assertFalse(new File(directory, "1000.tmp").exists());
+    assertFalse(new File(directory, "1001.body").exists());
+    assertTrue(new File(directory, "notes.tmp").exists());
+    HttpTransports.setDefault(restored);
+    assertEquals("fresh", get("max-age"));
+    assertEquals(1, restored.getHitCount());
+    assertEquals(1, requests("max-age"));
+
+    // A body that is truncated by a crash is dropped when the cache is restored
+    for (final File file : directory.listFiles()) { // [A]
+      if (file.getName().endsWith(".body") && file.length() == 3) {
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+          raf.setLength(1);
+        }
+      }
+    }
+
+    final HttpCache recovered = new HttpCache(directory, 1 << 20);
+    assertEquals(1, recovered.size());
+    assertEquals(5, recovered.getLength());
+  }
+
+  @Test
+  public void testLongHeader() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    assertEquals("long-header", get("long-header"));
+    cache.flush();
+
+    // A header field longer than the 65535 bytes of DataOutput.writeUTF(String) is persisted
+    final HttpCache restored = new HttpCache(directory, 1 << 20);
+    assertEquals(1, restored.size());
+    final HttpURLConnection connection = (HttpURLConnection)restored.openConnection(new URL(base + "long-header"));
+    assertEquals(LONG, connection.getHeaderField("X-Long"));
+    connection.disconnect();
+    assertEquals(1, restored.getHitCount());
+    assertEquals(1, requests("long-header"));
+  }
+
+  @Test
+  public void testVary() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    for (final String language : new String[] {"en", "en", "fr"}) { // [A]
+      final URLConnection connection = cache.openConnection(new URL(base + "vary"));
+      connection.setRequestProperty("Accept-Language", language);
+      assertEquals(language, new String(AsyncCall.readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+    }
+
+    assertEquals(2, requests("vary"));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testRedirect() throws IOException {
+    final HttpCache cache = new HttpCache(directory, 1 << 20);
+    HttpTransports.setDefault(cache);
+    for (int i = 0; i < 2; ++i) { // [N]
+      final URLConnection connection = URLConnections.checkFollowRedirect(cache.openConnection(new URL(base + "old")), (final HttpURLConnection c) -> c.setInstanceFollowRedirects(false));
+      assertEquals(base + "new", connection.getURL().toString());
+      assertEquals("new", new String(AsyncCall.readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+    }
+
+    // The redirect and its target are each requested once, and are then served from the cache
+    assertEquals(1, requests("old"));
+    assertEquals(1, requests("new"));
+    assertEquals(2, cache.size());
+    assertEquals(2, cache.getHitCount());
+  }
+}
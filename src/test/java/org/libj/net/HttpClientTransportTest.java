@@ -0,0 +1,173 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class HttpClientTransportTest {
+  private static final CountDownLatch stall = new CountDownLatch(1);
+  private static volatile CountDownLatch uploading;
+  private static TestServer server;
+  private static String base;
+
+  private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    server = new TestServer();
+    server.createContext("/hello", (e) -> respond(e, 200, "hello"));
+    server.createContext("/redirect", (e) -> {
+      e.getResponseHeaders().set("Location", "hello");
+      respond(e, 301, "");
+    });
+    server.createContext("/echo", (e) -> respond(e, 200, e.getRequestMethod() + " " + e.getRequestHeaders().getFirst("X-Test") + " " + new String(AsyncCall.readAll(e.getRequestBody()), StandardCharsets.UTF_8)));
+    server.createContext("/upload", (e) -> {
+      uploading.countDown();
+      respond(e, 200, String.valueOf(AsyncCall.readAll(e.getRequestBody()).length));
+    });
+    server.createContext("/stall", (e) -> {
+      e.sendResponseHeaders(200, 1000);
+      final OutputStream out = e.getResponseBody();
+      out.write(new byte[10]);
+      out.flush();
+      try {
+        stall.await(30, TimeUnit.SECONDS);
+      }
+      catch (final InterruptedException ie) {
+      }
+
+      e.close();
+    });
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    stall.countDown();
+    server.close();
+  }
+
+  private HttpClientTransport transport;
+
+  @Before
+  public void before() {
+    assumeTrue(HttpClientTransport.isAvailable());
+    transport = new HttpClientTransport();
+    HttpTransports.setDefault(transport);
+  }
+
+  @After
+  public void after() {
+    HttpTransports.setDefault(HttpTransports.URL_CONNECTION);
+  }
+
+  @Test
+  public void testConnection() throws IOException {
+    final HttpURLConnection connection = (HttpURLConnection)transport.openConnection(new URL(base + "hello"));
+    assertEquals(200, connection.getResponseCode());
+    assertEquals(5, connection.getContentLengthLong());
+    assertEquals("5", connection.getHeaderField("content-length"));
+    assertNull(connection.getHeaderFieldKey(0));
+    assertEquals("HTTP/1.1 200", connection.getHeaderField(0));
+    assertEquals("hello", new String(AsyncCall.readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testGetAndPost() throws IOException {
+    assertEquals("hello", new String(AsyncCall.readAll(HTTP.getAsStream(new URL(base + "redirect"))), StandardCharsets.UTF_8));
+    final String echo = new String(AsyncCall.readAll(HTTP.postAsStream(new URL(base + "echo"), Collections.singletonMap("a", new String[] {"1"}), Collections.singletonMap("X-Test", "x"))), StandardCharsets.UTF_8);
+    assertEquals("POST x a=1", echo);
+  }
+
+  @Test
+  public void testStreaming() throws Exception {
+    final byte[] bytes = new byte[1 << 20];
+    Arrays.fill(bytes, (byte)'x');
+    for (int i = 0; i < 2; ++i) { // [N]
+      uploading = new CountDownLatch(1);
+      final HttpURLConnection connection = (HttpURLConnection)transport.openConnection(new URL(base + "upload"));
+      connection.setDoOutput(true);
+      if (i == 0)
+        connection.setFixedLengthStreamingMode(bytes.length);
+      else
+        connection.setChunkedStreamingMode(0);
+
+      // The request is received by the server before its body is written to its end
+      try (final OutputStream out = connection.getOutputStream()) {
+        out.write(bytes, 0, bytes.length / 2);
+        assertTrue(uploading.await(10, TimeUnit.SECONDS));
+        out.write(bytes, bytes.length / 2, bytes.length - bytes.length / 2);
+      }
+
+      assertEquals(String.valueOf(bytes.length), new String(AsyncCall.readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testNotFound() throws IOException {
+    try {
+      HTTP.getAsStream(new URL(base + "missing"));
+      fail("Expected FileNotFoundException");
+    }
+    catch (final FileNotFoundException e) {
+    }
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    final CountDownLatch done = new CountDownLatch(1);
+    final Executor executor = (r) -> new Thread(() -> {
+      r.run();
+      done.countDown();
+    }).start();
+
+    final CompletableFuture<byte[]> future = HTTP.getAsync(new URL(base + "stall"), executor, 0);
+    Thread.sleep(200);
+    assertTrue(future.cancel(true));
+
+    // Cancellation disconnects the connection, so the blocked read of the exchange is aborted
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+  }
+}
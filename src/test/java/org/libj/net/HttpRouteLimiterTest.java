@@ -0,0 +1,206 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.libj.util.function.ThrowingConsumer;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class HttpRouteLimiterTest {
+  private static final Set<Integer> ports = ConcurrentHashMap.newKeySet();
+  private static final AtomicInteger active = new AtomicInteger();
+  private static final AtomicInteger maxActive = new AtomicInteger();
+  private static volatile CountDownLatch release = new CountDownLatch(0);
+  private static TestServer server;
+  private static String base;
+
+  private static void respond(final HttpExchange exchange, final String body) throws IOException {
+    ports.add(exchange.getRemoteAddress().getPort());
+    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+    try {
+      release.await(10, TimeUnit.SECONDS);
+    }
+    catch (final InterruptedException e) {
+      throw new IOException(e);
+    }
+    finally {
+      active.decrementAndGet();
+    }
+
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    server = new TestServer();
+    server.createContext("/hello", (e) -> respond(e, "hello"));
+    server.createContext("/echo", (e) -> respond(e, new String(AsyncCall.readAll(e.getRequestBody()), StandardCharsets.UTF_8)));
+    server.createContext("/redirect", (e) -> {
+      // Redirects to the same server by the name of its host, which is another route than its address
+      e.getResponseHeaders().set("Location", "http://localhost:" + server.getPort() + "/hello");
+      e.sendResponseHeaders(302, -1);
+      e.close();
+    });
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    release.countDown();
+    server.close();
+  }
+
+  private static String get(final HttpRouteLimiter limiter) throws IOException {
+    return new String(AsyncCall.readAll(HTTP.getAsStream(new URL(base + "hello"), null, limiter)), StandardCharsets.UTF_8);
+  }
+
+  private static void await(final HttpRouteLimiter limiter, final int active, final int pending) throws InterruptedException {
+    for (int i = 0; i < 100 && (limiter.getActiveCount() != active || limiter.getPendingCount() != pending || active + pending == 0 && limiter.getRouteCount() != 0); ++i) // [N]
+      Thread.sleep(50);
+
+    assertEquals(limiter.toString(), active, limiter.getActiveCount());
+    assertEquals(limiter.toString(), pending, limiter.getPendingCount());
+
+    // The routes without exchanges are removed
+    if (active + pending == 0)
+      assertEquals(0, limiter.getRouteCount());
+  }
+
+  @Test
+  public void testMaxPerRoute() throws Exception {
+    final HttpRouteLimiter limiter = new HttpRouteLimiter(2, 0);
+    final ExecutorService executor = Executors.newFixedThreadPool(6);
+    try {
+      ports.clear();
+      maxActive.set(0);
+      release = new CountDownLatch(1);
+      final List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 6; ++i) // [N]
+        futures.add(executor.submit(() -> get(limiter)));
+
+      await(limiter, 2, 4);
+      release.countDown();
+      for (final Future<String> future : futures) // [L]
+        assertEquals("hello", future.get(10, TimeUnit.SECONDS));
+
+      // The requests were sent over the sockets that the JDK kept alive for the 2 concurrent exchanges with the route
+      assertEquals(2, maxActive.get());
+      assertEquals(ports.toString(), 2, ports.size());
+      await(limiter, 0, 0);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    final HttpRouteLimiter limiter = new HttpRouteLimiter(1, 100);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      release = new CountDownLatch(1);
+      final Future<String> future = executor.submit(() -> get(limiter));
+      await(limiter, 1, 0);
+      try {
+        get(limiter);
+        fail("Expected SocketTimeoutException");
+      }
+      catch (final SocketTimeoutException e) {
+      }
+
+      assertEquals(1, limiter.getTimeoutCount());
+      release.countDown();
+      assertEquals("hello", future.get(10, TimeUnit.SECONDS));
+      await(limiter, 0, 0);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testRedirect() throws Exception {
+    final HttpRouteLimiter limiter = new HttpRouteLimiter(1, 100);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      release = new CountDownLatch(1);
+      final URL target = new URL("http://localhost:" + server.getPort() + "/hello");
+      final Future<String> future = executor.submit(() -> new String(AsyncCall.readAll(HTTP.getAsStream(target, null, limiter)), StandardCharsets.UTF_8));
+      await(limiter, 1, 0);
+
+      // The permit of the redirect is moved to the route of its target, which is saturated
+      try {
+        limiter.getInputStream((final ThrowingConsumer<HttpURLConnection,IOException> beforeConnect) -> URLConnections.checkFollowRedirect(new URL(base + "redirect").openConnection(), (final HttpURLConnection c) -> {
+          c.setInstanceFollowRedirects(false);
+          beforeConnect.accept(c);
+        }).getInputStream());
+        fail("Expected SocketTimeoutException");
+      }
+      catch (final SocketTimeoutException e) {
+      }
+
+      assertEquals(1, limiter.getTimeoutCount());
+      await(limiter, 1, 0);
+      release.countDown();
+      assertEquals("hello", future.get(10, TimeUnit.SECONDS));
+      await(limiter, 0, 0);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testPost() throws Exception {
+    final HttpRouteLimiter limiter = new HttpRouteLimiter(1, 0);
+    try (final InputStream in = HTTP.postAsStream(new URL(base + "echo"), Collections.singletonMap("a", new String[] {"1"}), null, null, limiter)) {
+      assertEquals(1, limiter.getActiveCount());
+      assertEquals("a=1", new String(AsyncCall.readAll(in), StandardCharsets.UTF_8));
+    }
+
+    assertEquals(0, limiter.getActiveCount());
+    assertEquals(0, limiter.getRouteCount());
+  }
+}
@@ -0,0 +1,176 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+
+import org.junit.Test;
+
+public class MultipartServletInputStreamTest {
+  private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+
+  /** A {@link ServletInputStream} that returns its data in reads of random length. */
+  private static final class RandomChunkServletInputStream extends ServletInputStream {
+    private final byte[] data;
+    private final Random random;
+    private int pos;
+
+    private RandomChunkServletInputStream(final byte[] data, final long seed) {
+      this.data = data;
+      this.random = new Random(seed);
+    }
+
+    @Override
+    public boolean isFinished() {
+      return pos == data.length;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener(final ReadListener readListener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read() {
+      return pos == data.length ? -1 : data[pos++] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (pos == data.length)
+        return -1;
+
+      final int n = Math.min(1 + random.nextInt(Math.min(len, 100)), data.length - pos);
+      System.arraycopy(data, pos, b, off, n);
+      pos += n;
+      return n;
+    }
+  }
+
+  private static byte[] body(final byte[] large) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String head = "preamble\r\n--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=\"field\"\r\n\r\n" +
+      "value\r\n--" + BOUNDARY.substring(0, 10) + "\r\n-" +
+      "\r\n--" + BOUNDARY + "  \r\n" +
+      "content-disposition: form-data; name=\"file\"; filename=\"a \\\"b\\\".bin\"\r\n" +
+      "Content-Type: application/octet-stream\r\n\r\n";
+    out.write(head.getBytes(StandardCharsets.UTF_8), 0, head.length());
+    out.write(large, 0, large.length);
+    final String tail = "\r\n--" + BOUNDARY + "\r\n" +
+      "Content-Disposition: form-data; name=skipped\r\n\r\n" +
+      "skip me\r\n--" + BOUNDARY + "--\r\nepilogue";
+    out.write(tail.getBytes(StandardCharsets.UTF_8), 0, tail.length());
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testParts() throws IOException {
+    final byte[] large = new byte[100000];
+    new Random(0).nextBytes(large);
+    final byte[] body = body(large);
+    for (final int bufferSize : new int[] {0, 97, 8192}) { // [A]
+      for (long seed = 0; seed < 10; ++seed) { // [N]
+        final ServletInputStream chunked = new RandomChunkServletInputStream(body, seed);
+        try (final MultipartServletInputStream in = new MultipartServletInputStream(chunked, BOUNDARY, bufferSize)) {
+          assertEquals(-1, in.read());
+
+          MultipartServletInputStream.Part part = in.nextPart();
+          assertEquals("field", part.getName());
+          assertNull(part.getFileName());
+          final ByteArrayOutputStream out = new ByteArrayOutputStream();
+          for (int ch; (ch = in.read()) != -1;) // [X]
+            out.write(ch);
+
+          assertEquals("value\r\n--" + BOUNDARY.substring(0, 10) + "\r\n-", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+          part = in.nextPart();
+          assertEquals("file", part.getName());
+          assertEquals("a \"b\".bin", part.getFileName());
+          assertEquals("application/octet-stream", part.getContentType());
+          assertEquals("application/octet-stream", part.getHeaders().get("CONTENT-TYPE"));
+          out.reset();
+          assertEquals(large.length, in.transferTo(Channels.newChannel(out)));
+          assertArrayEquals(large, out.toByteArray());
+          assertEquals(0, in.transferTo(Channels.newChannel(out)));
+
+          // The body of the skipped part is not read
+          assertEquals("skipped", in.nextPart().getName());
+          assertNull(in.nextPart());
+          assertTrue(in.isFinished());
+          assertNull(in.nextPart());
+          assertEquals(-1, in.read());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testReadArray() throws IOException {
+    final byte[] large = new byte[5000];
+    new Random(1).nextBytes(large);
+    final byte[] body = body(large);
+    final ServletInputStream chunked = new RandomChunkServletInputStream(body, 0);
+    try (final MultipartServletInputStream in = new MultipartServletInputStream(chunked, BOUNDARY, 128)) {
+      in.nextPart();
+      in.nextPart();
+      final byte[] actual = new byte[large.length];
+      int n = 0;
+      for (int r; (r = in.read(actual, n, Math.min(33, actual.length - n))) > 0;) // [X]
+        n += r;
+
+      assertEquals(large.length, n);
+      assertArrayEquals(large, actual);
+      assertEquals(-1, in.read(new byte[1], 0, 1));
+    }
+  }
+
+  @Test
+  public void testMalformed() throws IOException {
+    final byte[] truncated = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=a\r\n\r\nvalue").getBytes(StandardCharsets.UTF_8);
+    final ServletInputStream chunked = new RandomChunkServletInputStream(truncated, 0);
+    try (final MultipartServletInputStream in = new MultipartServletInputStream(chunked, BOUNDARY)) {
+      assertEquals("a", in.nextPart().getName());
+      in.nextPart();
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+
+  @Test
+  public void testGetBoundary() {
+    assertEquals("abc", MultipartServletInputStream.getBoundary("multipart/form-data; boundary=abc"));
+    assertEquals("a b;c", MultipartServletInputStream.getBoundary("multipart/form-data;charset=utf-8; BOUNDARY=\"a b;c\""));
+    assertEquals("abc", MultipartServletInputStream.getBoundary("multipart/form-data; foo; boundary=abc ; x=y"));
+    assertNull(MultipartServletInputStream.getBoundary("multipart/form-data"));
+  }
+}
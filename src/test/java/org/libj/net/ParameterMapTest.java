@@ -0,0 +1,161 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ParameterMapTest {
+  @Test
+  public void testSameAsLinkedHashMap() {
+    final Random random = new Random(0);
+    for (final int names : new int[] {4, 8, 9, 64}) { // [A]
+      final ParameterMap actual = new ParameterMap(0);
+      final Map<String,List<String>> expected = new LinkedHashMap<>();
+      for (int i = 0; i < 2000; ++i) { // [N]
+        final String name = "p" + random.nextInt(names);
+        final String value = random.nextInt(10) == 0 ? null : String.valueOf(i);
+        switch (random.nextInt(8)) {
+          case 0:
+            assertEquals(expected.remove(name), actual.remove(name));
+            break;
+          case 1:
+            final List<String> values = Arrays.asList(value, "x");
+            assertEquals(expected.put(name, new ArrayList<>(values)), actual.put(name, values));
+            break;
+          case 2:
+            final List<String> list = actual.get(name);
+            if (list != null) {
+              list.add(0, value);
+              expected.get(name).add(0, value);
+            }
+
+            break;
+          default:
+            actual.add(name, value);
+            expected.computeIfAbsent(name, k -> new ArrayList<>(2)).add(value);
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.get(name), actual.get(name));
+      }
+
+      assertEquals(expected, actual);
+      assertEquals(expected.keySet().toString(), actual.keySet().toString());
+    }
+  }
+
+  @Test
+  public void testValues() {
+    final ParameterMap map = new ParameterMap();
+    map.add("a", "1").add("b", "2").add("a", "3");
+    final List<String> a = map.get("a");
+    assertEquals(Arrays.asList("1", "3"), a);
+    assertEquals("1", map.getFirst("a"));
+    assertNull(map.getFirst("c"));
+
+    a.add("4");
+    assertEquals("3", a.set(1, "5"));
+    assertEquals("1", a.remove(0));
+    assertEquals(Arrays.asList("5", "4"), map.get("a"));
+
+    // The view follows its name when it shifts, and reports removal
+    final List<String> b = map.get("b");
+    map.remove("a");
+    assertEquals(Collections.singletonList("2"), b);
+    map.remove("b");
+    assertEquals(0, b.size());
+    try {
+      b.add("x");
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    try {
+      map.add(null, "x");
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+  }
+
+  @Test
+  public void testArrayMap() {
+    final ParameterMap map = new ParameterMap();
+    final Map<String,String[]> arrays = map.asArrayMap();
+    map.add("a", "1").add("a", "2").add("b", null);
+    assertArrayEquals(new String[] {"1", "2"}, arrays.get("a"));
+    assertArrayEquals(new String[] {null}, arrays.get("b"));
+    assertNull(arrays.get("c"));
+
+    assertArrayEquals(new String[] {"1", "2"}, arrays.put("a", new String[] {"3"}));
+    assertEquals(Collections.singletonList("3"), map.get("a"));
+    assertNull(arrays.put("c", new String[0]));
+    assertEquals(Collections.emptyList(), map.get("c"));
+
+    final Iterator<Map.Entry<String,String[]>> iterator = arrays.entrySet().iterator();
+    assertEquals("a", iterator.next().getKey());
+    iterator.next().setValue(new String[] {"4", "5"});
+    assertEquals(Arrays.asList("4", "5"), map.get("b"));
+    iterator.remove();
+    assertEquals("c", iterator.next().getKey());
+    assertFalse(iterator.hasNext());
+    assertEquals(2, map.size());
+    assertFalse(map.containsKey("b"));
+
+    arrays.clear();
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testParseParameters() {
+    final ParameterMap actual = new ParameterMap();
+    URIs.parseParameters(actual, "a=1&b&a=2&=c&d=x=y");
+    final Map<String,List<String>> expected = new LinkedHashMap<>();
+    URIs.parseParameters(expected, "a=1&b&a=2&=c&d=x=y");
+    assertEquals(expected, actual);
+    assertEquals(expected.keySet().toString(), actual.keySet().toString());
+  }
+
+  @Test
+  public void testCreateQuery() throws UnsupportedEncodingException {
+    final ParameterMap map = new ParameterMap();
+    final Map<String,String[]> expected = new LinkedHashMap<>();
+    for (int i = 0; i < 20; ++i) { // [N]
+      final String name = "n " + (i % 12);
+      map.add(name, "v&" + i);
+      final String[] values = expected.get(name);
+      expected.put(name, values == null ? new String[] {"v&" + i} : new String[] {values[0], "v&" + i});
+    }
+
+    map.add("empty", "x").get("empty").remove(0);
+    expected.put("empty", new String[0]);
+    assertEquals(HTTP.createQuery(expected, "UTF-8"), HTTP.createQuery(map.asArrayMap(), "UTF-8"));
+  }
+}
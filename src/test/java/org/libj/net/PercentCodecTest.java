@@ -0,0 +1,208 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class PercentCodecTest {
+  private static final String[] paths = {"", "/", "/a/b/c", ":@!$&'()*+,;=-._~", "+ ", "/caf\u00e9 cr\u00e8me/\u20ac/\ud83d\ude00?#%"};
+
+  private static String toString(final ByteBuffer buf) {
+    final byte[] bytes = new byte[buf.remaining()];
+    buf.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static ByteBuffer copy(final String str, final boolean direct) {
+    final byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+    final ByteBuffer buf = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+    buf.put(bytes).flip();
+    return buf;
+  }
+
+  /**
+   * Drives the codec with an input buffer of {@code inSize} and an output buffer of {@code outSize}, so that escape sequences are
+   * split across reads and writes.
+   */
+  private static String transcode(final String str, final boolean encode, final int inSize, final int outSize, final boolean direct) {
+    final ByteBuffer src = copy(str, false);
+    final ByteBuffer in = direct ? ByteBuffer.allocateDirect(inSize) : ByteBuffer.allocate(inSize);
+    final ByteBuffer out = direct ? ByteBuffer.allocateDirect(outSize) : ByteBuffer.allocate(outSize);
+    final ByteBuffer result = ByteBuffer.allocate(str.length() * 3);
+    in.flip();
+    while (true) {
+      in.compact();
+      while (in.hasRemaining() && src.hasRemaining())
+        in.put(src.get());
+
+      in.flip();
+      final boolean endOfInput = !src.hasRemaining();
+      CoderResult cr;
+      do {
+        cr = encode ? PercentCodec.encode(in, out) : PercentCodec.decode(in, out, endOfInput);
+        assertFalse(cr.toString(), cr.isError());
+        out.flip();
+        result.put(out);
+        out.clear();
+      }
+      while (cr.isOverflow());
+
+      if (endOfInput && !in.hasRemaining())
+        break;
+    }
+
+    result.flip();
+    return toString(result);
+  }
+
+  @Test
+  public void testEncode() {
+    for (final String path : paths) { // [A]
+      final String expected = URLs.encodePath(path);
+      assertEquals(expected, transcode(path, true, 64, 256, false));
+      assertEquals(expected, transcode(path, true, 1, 3, false));
+      assertEquals(expected, transcode(path, true, 2, 4, true));
+    }
+  }
+
+  @Test
+  public void testDecode() {
+    for (final String path : paths) { // [A]
+      final String encoded = URLs.encodePath(path);
+      assertEquals(URLs.decodePath(encoded), transcode(encoded, false, 64, 256, false));
+      assertEquals(URLs.decodePath(encoded), transcode(encoded, false, 3, 1, false));
+      assertEquals(URLs.decodePath(encoded), transcode(encoded, false, 4, 2, true));
+    }
+  }
+
+  @Test
+  public void testDecodeInPlace() {
+    for (final boolean direct : new boolean[] {false, true}) { // [A]
+      final ByteBuffer buf = copy("x" + URLs.encodePath("/caf\u00e9 +"), direct);
+      buf.get();
+      assertEquals(8, PercentCodec.decode(buf));
+      assertEquals(1, buf.position());
+      assertEquals("/caf\u00e9 +", toString(buf));
+    }
+  }
+
+  @Test
+  public void testOverflow() {
+    final ByteBuffer in = copy("\u00e9", false);
+    final ByteBuffer out = ByteBuffer.allocate(4);
+    assertTrue(PercentCodec.encode(in, out).isOverflow());
+    assertEquals(1, in.position());
+    assertEquals(3, out.position());
+  }
+
+  @Test
+  public void testMalformed() {
+    ByteBuffer in = copy("ab%4", false);
+    final ByteBuffer out = ByteBuffer.allocate(8);
+    assertTrue(PercentCodec.decode(in, out, false).isUnderflow());
+    assertEquals(2, in.position());
+    assertTrue(PercentCodec.decode(in, out, true).isMalformed());
+    assertEquals(2, in.position());
+
+    in = copy("a%zz", false);
+    out.clear();
+    final CoderResult cr = PercentCodec.decode(in, out, false);
+    assertTrue(cr.isMalformed());
+    assertEquals(3, cr.length());
+    assertEquals(1, in.position());
+
+    try {
+      PercentCodec.decode(copy("abc%", false));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage().startsWith("Invalid URL encoding: "));
+    }
+  }
+
+  @Test
+  public void testComponentSafeCharacters() {
+    for (final PercentCodec.Component component : PercentCodec.Component.values()) { // [A]
+      assertTrue(component.isSafe('a'));
+      assertTrue(component.isSafe('Z'));
+      assertTrue(component.isSafe('0'));
+      assertFalse(component.isSafe(' '));
+      assertFalse(component.isSafe('%'));
+      assertFalse(component.isSafe(0xe9));
+      assertFalse(component.isSafe(-1));
+    }
+
+    assertEquals("a+b-c.d%7E", PercentCodec.encode(PercentCodec.Component.SCHEME, "a+b-c.d~"));
+    assertEquals("user:p%40ss", PercentCodec.encode(PercentCodec.Component.USERINFO, "user:p@ss"));
+    assertEquals("[::1]", PercentCodec.encode(PercentCodec.Component.HOST, "[::1]"));
+    assertEquals("a%2Fb:c@d", PercentCodec.encode(PercentCodec.Component.PATH_SEGMENT, "a/b:c@d"));
+    assertEquals("/a/b%20c", PercentCodec.encode(PercentCodec.Component.PATH, "/a/b c"));
+    assertEquals("a=b&c=/d?e%23", PercentCodec.encode(PercentCodec.Component.QUERY, "a=b&c=/d?e#"));
+    assertEquals("a%3Db%26c+d%2B%7E", PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, "a=b&c d+~"));
+    assertEquals("s/?x%23", PercentCodec.encode(PercentCodec.Component.FRAGMENT, "s/?x#"));
+
+    final String str = "caf\u00e9 a+b";
+    assertEquals(URLs.encode(str), PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, str));
+    assertEquals(URLs.encodePath(str), PercentCodec.encode(PercentCodec.Component.PATH, str));
+    assertEquals(str, PercentCodec.decode(PercentCodec.Component.QUERY_PARAM, URLs.encode(str)));
+    assertEquals("a+b", PercentCodec.decode(PercentCodec.Component.QUERY, "a+b"));
+    assertEquals("a b", PercentCodec.decode(PercentCodec.Component.QUERY_PARAM, "a+b"));
+  }
+
+  @Test
+  public void testComponentBuffers() {
+    final String str = "caf\u00e9 a+b&c=d ++ \u20ac";
+    for (final boolean direct : new boolean[] {false, true}) { // [A]
+      final ByteBuffer in = copy(str, direct);
+      final ByteBuffer out = ByteBuffer.allocate(64);
+      assertTrue(PercentCodec.encode(PercentCodec.Component.QUERY_PARAM, in, out).isUnderflow());
+      out.flip();
+      final String encoded = toString(out.duplicate());
+      assertEquals(URLs.encode(str), encoded);
+
+      assertEquals(str.getBytes(StandardCharsets.UTF_8).length, PercentCodec.decode(PercentCodec.Component.QUERY_PARAM, out));
+      assertEquals(str, toString(out));
+
+      final ByteBuffer buf = copy(encoded, direct);
+      PercentCodec.decode(PercentCodec.Component.QUERY, buf);
+      assertEquals(URLs.decodePath(encoded), toString(buf));
+    }
+  }
+
+  @Test
+  public void testCreateQuery() throws IOException {
+    final Map<String,String[]> parameters = new LinkedHashMap<>();
+    parameters.put("q", new String[] {"caf\u00e9 cr\u00e8me", "a+b&c"});
+    parameters.put("~x y", new String[] {"*-._"});
+    final StringBuilder expected = new StringBuilder();
+    expected.append("q=").append(URLEncoder.encode("caf\u00e9 cr\u00e8me", "UTF-8"));
+    expected.append("&q=").append(URLEncoder.encode("a+b&c", "UTF-8"));
+    expected.append('&').append(URLEncoder.encode("~x y", "UTF-8")).append("=*-._");
+    assertEquals(expected.toString(), HTTP.createQuery(parameters, "UTF-8"));
+    assertEquals("q=caf%E9+cr%E8me&q=a%2Bb%26c&%7Ex+y=*-._", HTTP.createQuery(parameters, "ISO-8859-1"));
+  }
+}
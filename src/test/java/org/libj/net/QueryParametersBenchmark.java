@@ -0,0 +1,86 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the reading of 3 decoded parameters from a query string of 8 to 128 parameters with {@link QueryParameters}, against
+ * {@link URIs#parseParameters(Map,String)} followed by {@link URLs#decode(String)} of the values that are read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParametersBenchmark {
+  private static final String[] NAMES = {"id", "page", "sort"};
+
+  @Param({"8", "32", "128"})
+  public int count;
+
+  private String query;
+
+  @Setup
+  public void setup() {
+    final StringBuilder b = new StringBuilder();
+    for (int i = 0; i < count - NAMES.length; ++i) // [N]
+      b.append("utm_param").append(i).append("=some+value%2C").append(i).append('&');
+
+    b.append("id=12345&page=7&sort=name%2Cdesc");
+    query = b.toString();
+  }
+
+  @Benchmark
+  public void parseParameters(final Blackhole blackhole) {
+    final Map<String,List<String>> parameters = new HashMap<>();
+    URIs.parseParameters(parameters, query);
+    for (final String name : NAMES) // [A]
+      blackhole.consume(URLs.decode(parameters.get(name).get(0)));
+  }
+
+  @Benchmark
+  public void queryParameters(final Blackhole blackhole) {
+    final QueryParameters parameters = new QueryParameters(query);
+    for (final String name : NAMES) // [A]
+      blackhole.consume(parameters.getFirst(name));
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(QueryParametersBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,158 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class QueryParametersTest {
+  private static void assertParseParameters(final String query) {
+    final Map<String,List<String>> expected = new LinkedHashMap<>();
+    URIs.parseParameters(expected, query);
+    final QueryParameters actual = new QueryParameters(query, null);
+    assertEquals(query, expected, actual);
+    assertEquals(query, expected.keySet().toString(), actual.keySet().toString());
+    for (final Map.Entry<String,List<String>> entry : expected.entrySet()) { // [S]
+      assertTrue(query, actual.containsKey(entry.getKey()));
+      assertEquals(query, entry.getValue(), actual.get(entry.getKey()));
+      assertEquals(query, entry.getValue().get(0), actual.getFirst(entry.getKey()));
+    }
+  }
+
+  @Test
+  public void testSameAsParseParameters() {
+    assertParseParameters("");
+    assertParseParameters("a");
+    assertParseParameters("a=");
+    assertParseParameters("=a");
+    assertParseParameters("a=1&b=2&a=3");
+    assertParseParameters("a=1&&b&=&c=x=y");
+    assertParseParameters("a+b=c%20d&a+b=e");
+
+    final Random random = new Random(0);
+    final char[] alphabet = {'a', 'b', '=', '&', '%', '+', '2'};
+    final char[] chars = new char[16];
+    for (int i = 0; i < 10000; ++i) { // [N]
+      final int len = random.nextInt(chars.length);
+      for (int j = 0; j < len; ++j) // [N]
+        chars[j] = alphabet[random.nextInt(alphabet.length)];
+
+      assertParseParameters(new String(chars, 0, len));
+    }
+  }
+
+  @Test
+  public void testDecode() {
+    final QueryParameters parameters = new QueryParameters("q=a+b%26c&caf%C3%A9=%E2%82%AC&q=2&flag&bad=%zz");
+    assertEquals(5, parameters.count());
+    assertEquals(4, parameters.size());
+    assertEquals(Arrays.asList("a b&c", "2"), parameters.get("q"));
+    assertEquals("a b&c", parameters.getFirst("q"));
+    assertEquals("\u20ac", parameters.getFirst("caf\u00e9"));
+    assertTrue(parameters.containsKey("flag"));
+    assertNull(parameters.getFirst("flag"));
+    assertEquals(Collections.singletonList(null), parameters.get("flag"));
+    assertNull(parameters.get("caf%C3%A9"));
+    assertNull(parameters.get("missing"));
+    assertNull(parameters.getFirst("missing"));
+    assertFalse(parameters.containsKey(null));
+
+    assertEquals("bad", parameters.getName(4));
+    try {
+      parameters.getValue(4);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      parameters.getName(5);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    final Iterator<String> names = parameters.keySet().iterator();
+    assertEquals("q", names.next());
+    assertEquals("caf\u00e9", names.next());
+    assertEquals("flag", names.next());
+    assertEquals("bad", names.next());
+    assertFalse(names.hasNext());
+
+    final QueryParameters latin1 = new QueryParameters("x=%E9", StandardCharsets.ISO_8859_1);
+    assertEquals("\u00e9", latin1.getFirst("x"));
+  }
+
+  @Test
+  public void testReadOnly() {
+    final QueryParameters parameters = new QueryParameters("a=1");
+    try {
+      parameters.put("b", Collections.singletonList("2"));
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+
+    try {
+      parameters.get("a").set(0, "2");
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+
+    try {
+      parameters.entrySet().iterator().next().setValue(null);
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+  }
+
+  @Test
+  public void testRange() {
+    final QueryParameters parameters = new QueryParameters("xx?a=1&b=2#a=3", 3, 10, StandardCharsets.UTF_8);
+    assertEquals(2, parameters.count());
+    assertEquals("2", parameters.getFirst("b"));
+    assertEquals(Collections.singletonList("1"), parameters.get("a"));
+
+    try {
+      new QueryParameters("a=1", 2, 4, null);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testParsedURL() {
+    assertNull(new ParsedURL("http://www.example.com/a#b?c").getQueryParameters());
+    final QueryParameters parameters = new ParsedURL("http://www.example.com/a?x=1&y=%2F#y=2").getQueryParameters();
+    assertEquals("1", parameters.getFirst("x"));
+    assertEquals(Collections.singletonList("/"), parameters.get("y"));
+    assertEquals(2, parameters.size());
+  }
+}
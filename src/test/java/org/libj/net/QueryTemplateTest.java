@@ -0,0 +1,74 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class QueryTemplateTest {
+  @Test
+  public void testSameAsCreateQuery() throws IOException {
+    final QueryTemplate template = new QueryTemplate("http://www.example.com/search", "q", "caf\u00e9 au lait", "a&b");
+    final String[] values = {"x+y z", "cr\u00e8me", "1=2"};
+    final Map<String,String[]> parameters = new LinkedHashMap<>();
+    for (int i = 0; i < values.length; ++i) // [A]
+      parameters.put(template.getName(i), new String[] {values[i]});
+
+    assertEquals(HTTP.createQuery(parameters, "UTF-8"), template.createQuery(values));
+    assertEquals(HTTP.get("http://www.example.com/search", parameters).toString(), HTTP.get(template, values).toString());
+
+    final QueryTemplate latin1 = new QueryTemplate("http://www.example.com/search", StandardCharsets.ISO_8859_1, "q",
+      "caf\u00e9 au lait", "a&b");
+    assertEquals(HTTP.createQuery(parameters, "ISO-8859-1"), latin1.createQuery(values));
+  }
+
+  @Test
+  public void testSeparator() throws IOException {
+    assertEquals("http://a/?x=1&y=2", new QueryTemplate("http://a/", "x", "y").toString("1", "2"));
+    assertEquals("http://a/?k=v&x=1", new QueryTemplate("http://a/?k=v", "x").toString("1"));
+    assertEquals("http://a/?x=1", new QueryTemplate("http://a/?", "x").toString("1"));
+    assertEquals("http://a/?k=v&x=1", new QueryTemplate("http://a/?k=v&", "x").toString("1"));
+    assertEquals("http://a/?y=2", new QueryTemplate("http://a/", "x", "y").toURL(null, "2").toString());
+    assertEquals("http://a/", new QueryTemplate("http://a/", "x").toString((String)null));
+    assertEquals("", new QueryTemplate("http://a/").createQuery());
+  }
+
+  @Test
+  public void testIllegal() {
+    final QueryTemplate template = new QueryTemplate("http://a/", "x", "y");
+    assertEquals(2, template.size());
+    try {
+      template.createQuery("1");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new QueryTemplate("http://a/", "x", null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.net.URL;
+
+import org.junit.Test;
+
+public class RedirectCacheTest {
+  @Test
+  public void testGetExpires() {
+    final long now = 1000000;
+    assertEquals(Long.MAX_VALUE, RedirectCache.getExpires(null, 0, now));
+    assertEquals(now + 5000, RedirectCache.getExpires(null, now + 5000, now));
+    assertEquals(0, RedirectCache.getExpires(null, now - 1, now));
+    assertEquals(now + 60000, RedirectCache.getExpires("public, max-age=60", now + 5000, now));
+    assertEquals(now + 60000, RedirectCache.getExpires("Max-Age=\"60\"", 0, now));
+    assertEquals(Long.MAX_VALUE, RedirectCache.getExpires("max-age=9223372036854775807", 0, now));
+    assertEquals(0, RedirectCache.getExpires("max-age=0", now + 5000, now));
+    assertEquals(0, RedirectCache.getExpires("max-age=60, no-store", 0, now));
+    assertEquals(0, RedirectCache.getExpires("No-Cache", 0, now));
+    assertEquals(0, RedirectCache.getExpires("max-age=x", 0, now));
+    assertEquals(now + 5000, RedirectCache.getExpires("public", now + 5000, now));
+  }
+
+  @Test
+  public void testGetPutInvalidate() throws Exception {
+    final RedirectCache cache = new RedirectCache(8);
+    final URL a = new URL("http://www.example.com/a");
+    final URL b = new URL("http://www.example.com/b");
+    assertNull(cache.get(a));
+    cache.put(a, b, Long.MAX_VALUE);
+    assertEquals(b, cache.get(new URL("http://www.example.com/a")));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+
+    cache.put(b, a, System.currentTimeMillis() - 1);
+    assertEquals(2, cache.size());
+    assertNull(cache.get(b));
+    assertEquals(1, cache.size());
+
+    assertTrue(cache.invalidate(a));
+    assertFalse(cache.invalidate(a));
+    assertNull(cache.get(a));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testClockEviction() throws Exception {
+    final RedirectCache cache = new RedirectCache(2, 1);
+    final URL target = new URL("http://target");
+    final URL a = new URL("http://a");
+    final URL b = new URL("http://b");
+    cache.put(a, target, Long.MAX_VALUE);
+    cache.put(b, target, Long.MAX_VALUE);
+    cache.get(a);
+    cache.put(new URL("http://c"), target, Long.MAX_VALUE);
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(2, cache.size());
+
+    // "http://a" was referenced, so it was given a second chance, and "http://b" was evicted instead
+    assertEquals(target, cache.get(a));
+    assertNull(cache.get(b));
+
+    // Invalidation frees a slot in the clock, so the next put does not evict
+    assertTrue(cache.invalidate(a));
+    cache.put(b, target, Long.MAX_VALUE);
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(target, cache.get(b));
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+  }
+}
@@ -0,0 +1,129 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class RequestCoalescerTest {
+  private static final byte[] body = new byte[1000];
+  private static final AtomicInteger served = new AtomicInteger();
+  private static volatile CountDownLatch release;
+  private static TestServer server;
+  private static String base;
+
+  private static void respond(final HttpExchange exchange, final boolean chunked) throws IOException {
+    served.incrementAndGet();
+    try {
+      release.await(10, TimeUnit.SECONDS);
+    }
+    catch (final InterruptedException e) {
+      throw new IOException(e);
+    }
+
+    exchange.sendResponseHeaders(200, chunked ? 0 : body.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    for (int i = 0; i < body.length; ++i) // [A]
+      body[i] = (byte)i;
+
+    server = new TestServer();
+    server.createContext("/fixed", (e) -> respond(e, false));
+    server.createContext("/chunked", (e) -> respond(e, true));
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    server.close();
+  }
+
+  private static void test(final String path, final int maxLength, final int threads) throws Exception {
+    final RequestCoalescer coalescer = new RequestCoalescer(maxLength);
+    final URL url = new URL(base + path);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      served.set(0);
+      release = new CountDownLatch(1);
+      final List<Future<byte[]>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; ++i) // [N]
+        futures.add(executor.submit(() -> AsyncCall.readAll(coalescer.getAsStream(url))));
+
+      // Hold the response until the other callers are waiting for it
+      Thread.sleep(200);
+      release.countDown();
+      for (final Future<byte[]> future : futures) // [L]
+        assertArrayEquals(body, future.get(10, TimeUnit.SECONDS));
+
+      assertEquals(served.get(), coalescer.getRequestCount());
+      assertEquals(threads, coalescer.getRequestCount() + coalescer.getCoalescedCount());
+      if (maxLength >= body.length)
+        assertTrue(coalescer.toString(), coalescer.getCoalescedCount() > 0);
+      else
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testCoalesced() throws Exception {
+    test("fixed", body.length, 8);
+    test("chunked", body.length, 8);
+    test("chunked", 100000, 8);
+  }
+
+  @Test
+  public void testTooLarge() throws Exception {
+    test("fixed", body.length - 1, 4);
+    test("chunked", body.length - 1, 4);
+    test("chunked", 0, 4);
+  }
+
+  @Test
+  public void testNotFound() throws Exception {
+    try {
+      new RequestCoalescer(100).getAsStream(new URL(base + "missing"));
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+}
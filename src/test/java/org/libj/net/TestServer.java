@@ -0,0 +1,88 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An {@link HttpServer} on an ephemeral port of the loopback address, which handles each exchange on a thread of its own cached
+ * thread pool, so that the tests of the HTTP helpers can hold exchanges open concurrently.
+ */
+final class TestServer implements AutoCloseable {
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final String base;
+
+  /**
+   * Creates and starts a new {@link TestServer}, to which contexts are added with {@link #createContext(String,HttpHandler)}.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  TestServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(executor);
+    server.start();
+    base = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+  }
+
+  /**
+   * Adds the provided {@link HttpHandler} for the provided path.
+   *
+   * @param path The path of the context, such as {@code "/hello"}.
+   * @param handler The {@link HttpHandler} of the exchanges with the context.
+   * @return This {@link TestServer}.
+   */
+  TestServer createContext(final String path, final HttpHandler handler) {
+    server.createContext(path, handler);
+    return this;
+  }
+
+  /**
+   * Returns the port on which this server listens.
+   *
+   * @return The port on which this server listens.
+   */
+  int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Returns the base URL of this server, such as {@code "http://127.0.0.1:8080/"}, to which the path of a context (without its
+   * leading {@code '/'}) is appended.
+   *
+   * @return The base URL of this server.
+   */
+  String getBase() {
+    return base;
+  }
+
+  /**
+   * Stops this server without waiting for its exchanges, and shuts down its thread pool.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,63 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.UnsupportedEncodingException;
+
+import org.junit.Test;
+
+public class URIComponentTest {
+  @Test
+  public void testEncodeChar() throws UnsupportedEncodingException {
+    for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ++ch) { // [N]
+      final String expected = URIComponent.encode(String.valueOf((char)ch));
+      assertEquals(expected, URIComponent.encode((char)ch));
+      assertSame(URIComponent.encode((char)ch), URIComponent.encode((char)ch));
+    }
+
+    assertEquals("%20", URIComponent.encode(' '));
+    assertEquals("%E9", URIComponent.encode('\u00e9', "ISO-8859-1"));
+    assertEquals("%C3%A9", URIComponent.encode('\u00e9', "UTF-8"));
+    assertEquals("%3F", URIComponent.encode('\ud83d'));
+  }
+
+  @Test
+  public void testEncodeCodePoint() {
+    assertEquals("a", URIComponent.encode((int)'a'));
+    assertEquals("%E2%82%AC", URIComponent.encode(0x20ac));
+    assertEquals("%F0%9F%98%80", URIComponent.encode(0x1f600));
+    assertEquals(URIComponent.encode("\ud83d\ude00"), URIComponent.encode("\ud83d\ude00".codePointAt(0)));
+    try {
+      URIComponent.encode(0x110000);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testUnsupportedEncoding() {
+    try {
+      URIComponent.encode('a', "x-unknown");
+      fail("Expected UnsupportedEncodingException");
+    }
+    catch (final UnsupportedEncodingException e) {
+    }
+  }
+}
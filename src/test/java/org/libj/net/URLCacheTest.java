@@ -0,0 +1,115 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class URLCacheTest {
+  @Test
+  public void testCanonicalInstances() {
+    final URLCache cache = new URLCache(64);
+    final URL url = cache.create("http://www.example.com/a");
+    assertEquals(URLs.create("http://www.example.com/a"), url);
+    assertSame(url, cache.create(new String("http://www.example.com/a")));
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+
+    assertEquals(URLs.fromStringPath("/tmp/a"), cache.fromStringPath("/tmp/a"));
+    assertSame(cache.fromStringPath("/tmp/a"), cache.fromStringPath("/tmp/a"));
+    assertEquals(URLs.toCanonicalURL("/tmp/./b/../a"), cache.toCanonicalURL("/tmp/./b/../a"));
+    assertNull(cache.fromStringPath(null));
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  public void testClockEviction() {
+    final URLCache cache = new URLCache(2, 1);
+    final URL a = cache.create("http://a");
+    cache.create("http://b");
+    assertSame(a, cache.create("http://a"));
+    cache.create("http://c");
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(2, cache.size());
+
+    // "http://a" was referenced, so it was given a second chance, and "http://b" was evicted instead
+    final long misses = cache.getMissCount();
+    assertSame(a, cache.create("http://a"));
+    assertEquals(misses, cache.getMissCount());
+    cache.create("http://b");
+    assertEquals(misses + 1, cache.getMissCount());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test
+  public void testExceptionNotCached() {
+    final URLCache cache = new URLCache(16);
+    for (int i = 0; i < 2; ++i) { // [N]
+      try {
+        cache.create("unknown://a");
+        fail("Expected IllegalArgumentException");
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testConcurrent() throws Exception {
+    final URLCache cache = new URLCache(256);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      @SuppressWarnings("unchecked")
+      final Future<URL[]>[] futures = new Future[8];
+      for (int t = 0; t < futures.length; ++t) { // [A]
+        futures[t] = executor.submit(() -> {
+          final URL[] urls = new URL[100];
+          for (int i = 0; i < 10000; ++i) // [N]
+            urls[i % 100] = cache.create("http://www.example.com/" + (i % 100));
+
+          return urls;
+        });
+      }
+
+      final URL[] expected = futures[0].get();
+      for (final Future<URL[]> future : futures) { // [A]
+        final URL[] urls = future.get();
+        for (int i = 0; i < urls.length; ++i) // [A]
+          assertSame(expected[i], urls[i]);
+      }
+
+      assertEquals(100, cache.size());
+      assertEquals(80000, cache.getHitCount() + cache.getMissCount());
+    }
+    finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of canonicalizing a synthetic corpus of 10M URL strings with {@link URLs#canonicalizeAll(Stream)}
+ * (sequentially and in parallel), as compared to {@link URLs#canonicalize(URL)} of {@link URLs#create(String)} for each string. The
+ * corpus is streamed lazily from a pool of distinct URL strings, of which roughly a third are already canonical.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@OperationsPerInvocation(URLCanonicalizeBenchmark.CORPUS)
+@Fork(1)
+public class URLCanonicalizeBenchmark {
+  static final int CORPUS = 10_000_000;
+  private static final int POOL = 1 << 16;
+  private static final String[] hosts = {"www.example.com", "cdn.example.org:8080", "user@api.example.net", "[::1]:8443"};
+  private static final String[] names = {"index.html", ".", "..", "", "static", "img", "v2", "a.b.c"};
+
+  private final String[] pool = new String[POOL];
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(POOL);
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < POOL; ++i) { // [A]
+      builder.setLength(0);
+      builder.append(random.nextInt(8) == 0 ? "HTTPS" : "https").append("://").append(hosts[random.nextInt(hosts.length)]);
+      final boolean clean = i % 3 == 0;
+      for (int j = 0, j$ = 1 + random.nextInt(6); j < j$; ++j) { // [N]
+        final String name = names[random.nextInt(names.length)];
+        builder.append('/').append(clean ? "p" + name.length() : name);
+      }
+
+      if (random.nextBoolean())
+        builder.append("?id=").append(i).append("&ref=../a");
+
+      if (random.nextInt(4) == 0)
+        builder.append("#section-").append(i);
+
+      pool[i] = builder.toString();
+    }
+  }
+
+  private Stream<String> corpus() {
+    return LongStream.range(0, CORPUS).mapToObj(i -> pool[(int)i & (POOL - 1)]);
+  }
+
+  private static String legacy(final String spec) {
+    try {
+      return URLs.canonicalize(URLs.create(spec)).toString();
+    }
+    catch (final RuntimeException e) {
+      // StringPaths.canonicalize(String) fails for some paths with ".." names
+      return spec;
+    }
+  }
+
+  @Benchmark
+  public long legacy() {
+    return corpus().map(URLCanonicalizeBenchmark::legacy).mapToInt(String::length).sum();
+  }
+
+  @Benchmark
+  public long canonicalizeAll() {
+    return URLs.canonicalizeAll(corpus()).mapToInt(String::length).sum();
+  }
+
+  @Benchmark
+  public long canonicalizeAllParallel() {
+    return URLs.canonicalizeAll(corpus().parallel()).mapToInt(String::length).sum();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(URLCanonicalizeBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,156 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.libj.util.function.ThrowingConsumer;
+
+import com.sun.net.httpserver.HttpExchange;
+
+public class URLConnectionsTest {
+  private static final ThrowingConsumer<HttpURLConnection,IOException> noFollow = (c) -> c.setInstanceFollowRedirects(false);
+  private static final Set<Integer> ports = new HashSet<>();
+  private static volatile int status = 200;
+  private static TestServer server;
+  private static String base;
+
+  private static void respond(final HttpExchange exchange, final int status, final String location, final String body) throws IOException {
+    synchronized (ports) {
+      ports.add(exchange.getRemoteAddress().getPort());
+    }
+
+    if (location != null)
+      exchange.getResponseHeaders().set("Location", location);
+
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (final OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @BeforeClass
+  public static void beforeClass() throws IOException {
+    server = new TestServer();
+    server.createContext("/a", (e) -> respond(e, 301, "b", "moved to b"));
+    server.createContext("/b", (e) -> respond(e, 302, "/c", "moved to c"));
+    server.createContext("/c", (e) -> respond(e, 200, null, "done"));
+    server.createContext("/p", (e) -> respond(e, 301, "q", ""));
+    server.createContext("/q", (e) -> respond(e, 301, "r", ""));
+    server.createContext("/r", (e) -> respond(e, status, null, "r"));
+    server.createContext("/x", (e) -> respond(e, 303, "y", ""));
+    server.createContext("/y", (e) -> respond(e, 303, "x", ""));
+    base = server.getBase();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    server.close();
+  }
+
+  @Test
+  public void testFollowRedirect() throws IOException {
+    synchronized (ports) {
+      ports.clear();
+    }
+
+    final List<String> hops = new ArrayList<>();
+    final URLConnection connection = URLConnections.checkFollowRedirect(new URL(base + "a").openConnection(), 10, noFollow, (u, s, n) -> {
+      assertTrue(n >= 0);
+      hops.add(u.getPath() + " " + s);
+    });
+
+    assertEquals(Arrays.asList("/a 301", "/b 302", "/c 200"), hops);
+    assertEquals(base + "c", connection.getURL().toString());
+    assertEquals(200, ((HttpURLConnection)connection).getResponseCode());
+    ((HttpURLConnection)connection).disconnect();
+
+    // The drained redirect responses return their connection to the keep-alive cache
+    synchronized (ports) {
+      assertEquals(ports.toString(), 1, ports.size());
+    }
+  }
+
+  @Test
+  public void testMaxRedirects() throws IOException {
+    final URLConnection connection = URLConnections.checkFollowRedirect(new URL(base + "a").openConnection(), 1, noFollow);
+    assertEquals(base + "b", connection.getURL().toString());
+    assertEquals(302, ((HttpURLConnection)connection).getResponseCode());
+    ((HttpURLConnection)connection).disconnect();
+  }
+
+  @Test
+  public void testRedirectCache() throws IOException {
+    final RedirectCache cache = new RedirectCache(16);
+    final List<String> hops = new ArrayList<>();
+    final URLConnections.HopListener onHop = (u, s, n) -> hops.add(u.getPath() + " " + s);
+    URLConnection connection = URLConnections.checkFollowRedirect(new URL(base + "p").openConnection(), 10, noFollow, onHop, cache);
+    assertEquals(Arrays.asList("/p 301", "/q 301", "/r 200"), hops);
+    assertEquals(base + "r", connection.getURL().toString());
+    assertEquals(2, cache.size());
+
+    // The cached redirects are not requested
+    hops.clear();
+    connection = URLConnections.checkFollowRedirect(new URL(base + "p").openConnection(), 10, noFollow, onHop, cache);
+    assertEquals(Arrays.asList("/r 200"), hops);
+    assertEquals(base + "r", connection.getURL().toString());
+
+    // The cached redirects count towards maxRedirects
+    hops.clear();
+    connection = URLConnections.checkFollowRedirect(new URL(base + "p").openConnection(), 1, noFollow, onHop, cache);
+    assertEquals(Arrays.asList("/q 301"), hops);
+
+    // The cached redirects are invalidated when their target is gone
+    status = 410;
+    try {
+      hops.clear();
+      connection = URLConnections.checkFollowRedirect(new URL(base + "p").openConnection(), 10, noFollow, onHop, cache);
+      assertEquals(Arrays.asList("/r 410", "/p 301", "/q 301", "/r 410"), hops);
+      assertEquals(410, ((HttpURLConnection)connection).getResponseCode());
+    }
+    finally {
+      status = 200;
+    }
+  }
+
+  @Test
+  public void testLoop() throws IOException {
+    try {
+      URLConnections.checkFollowRedirect(new URL(base + "x").openConnection(), noFollow);
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+      assertEquals("Infinite redirection loop: " + base + "x -> " + base + "y -> " + base + "x", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.libj.lang.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link URLs#decode(String)} and {@link URLs#decodePath(String)} to the implementation they replaced, on inputs
+ * resembling request paths and query strings. Run with {@code -prof gc} to observe the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URLDecodeBenchmark {
+  @Param({
+    "/api/v2/accounts/8f14e45f/orders/recent",
+    "/static/img/caf%C3%A9%20cr%C3%A8me/banner%402x.png",
+    "q=java+url+decoder&lang=en&page=2&sort=relevance",
+    "q=%E6%9D%B1%E4%BA%AC+%E3%82%BF%E3%83%AF%E3%83%BC&from=2026-01-01T00%3A00%3A00Z&tags=a%2Cb%2Cc"
+  })
+  public String input;
+
+  /** The implementation of {@code URLs.decode(String,Charset,boolean)} prior to the table-driven decoder. */
+  static String legacyDecode(final String s, final Charset charset, final boolean isPath) {
+    boolean needDecode = false;
+    int escapesCount = 0;
+    final int length = s.length();
+    for (int i = 0; i < length; ++i) { // [N]
+      final char ch = s.charAt(i);
+      if (ch == '%') {
+        escapesCount += 1;
+        i += 2;
+        needDecode = true;
+      }
+      else if (!isPath && ch == '+') {
+        needDecode = true;
+      }
+    }
+
+    if (needDecode) {
+      final ByteBuffer in = ByteBuffer.wrap(Strings.getBytes(s, charset.name()));
+      final ByteBuffer out = ByteBuffer.allocate(in.capacity() - (2 * escapesCount) + 1);
+      while (in.hasRemaining()) {
+        final int b = in.get();
+        if (!isPath && b == '+') {
+          out.put((byte)' ');
+        }
+        else if (b == '%') {
+          try {
+            final int u = digit16(in.get());
+            final int l = digit16(in.get());
+            out.put((byte)((u << 4) + l));
+          }
+          catch (final BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid URL encoding: Incomplete trailing escape (%) pattern", e);
+          }
+        }
+        else {
+          out.put((byte)b);
+        }
+      }
+
+      ((Buffer)out).flip();
+      return charset.decode(out).toString();
+    }
+
+    return s;
+  }
+
+  private static int digit16(final byte b) {
+    final int d = Character.digit((char)b, 16);
+    if (d == -1)
+      throw new IllegalArgumentException("Invalid URL encoding: not a valid digit (radix 16): " + b);
+
+    return d;
+  }
+
+  @Benchmark
+  public String legacyDecode() {
+    return legacyDecode(input, StandardCharsets.UTF_8, false);
+  }
+
+  @Benchmark
+  public String decode() {
+    return URLs.decode(input);
+  }
+
+  @Benchmark
+  public String legacyDecodePath() {
+    return legacyDecode(input, StandardCharsets.UTF_8, true);
+  }
+
+  @Benchmark
+  public String decodePath() {
+    return URLs.decodePath(input);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(URLDecodeBenchmark.class.getSimpleName()).build()).run();
+  }
+}
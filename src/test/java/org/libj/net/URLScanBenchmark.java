@@ -0,0 +1,183 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the scanning for escapes and delimiters in {@link URLs#decode(String)}, {@link URIs#parseParameters(Map,String)} and
+ * {@link PercentCodec#decode(ByteBuffer)} against the char-at-a-time loops they replaced, on inputs from 64 bytes to 8 KB that are
+ * either free of escapes, or have an escape every 64 characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URLScanBenchmark {
+  @Param({"64", "512", "4096", "8192"})
+  public int size;
+
+  @Param({"false", "true"})
+  public boolean escaped;
+
+  private String input;
+  private byte[] bytes;
+  private ByteBuffer heap;
+  private ByteBuffer direct;
+
+  @Setup
+  public void setup() {
+    final StringBuilder b = new StringBuilder(size);
+    for (int i = 0; b.length() < size; ++i) { // [N]
+      b.append(i % 4 == 0 ? "&key" : "=value").append(i);
+      if (escaped && b.length() / 64 > (b.length() - 8) / 64)
+        b.append("%2F");
+    }
+
+    b.setLength(size);
+    input = b.toString();
+    // Ensure a trailing escape is not truncated
+    final int pct = input.lastIndexOf('%');
+    if (pct > size - 3)
+      input = input.substring(0, pct) + "zzz".substring(0, size - pct);
+
+    bytes = input.getBytes(StandardCharsets.US_ASCII);
+    heap = ByteBuffer.allocate(size);
+    direct = ByteBuffer.allocateDirect(size);
+  }
+
+  private static boolean legacyNeedsDecode(final String s) {
+    for (int i = 0, i$ = s.length(); i < i$; ++i) { // [N]
+      final char ch = s.charAt(i);
+      if (ch == '%' || ch == '+')
+        return true;
+    }
+
+    return false;
+  }
+
+  @Benchmark
+  public boolean legacyScan() {
+    return legacyNeedsDecode(input);
+  }
+
+  @Benchmark
+  public boolean scan() {
+    return input.indexOf('%') != -1 || input.indexOf('+') != -1;
+  }
+
+  @Benchmark
+  public String legacyDecode() {
+    return URLDecodeBenchmark.legacyDecode(input, StandardCharsets.UTF_8, false);
+  }
+
+  @Benchmark
+  public String decode() {
+    return URLs.decode(input);
+  }
+
+  private static void add(final Map<String,List<String>> parameters, String name, String value) {
+    if (name == null) {
+      name = value;
+      value = null;
+    }
+
+    List<String> values = parameters.get(name);
+    if (values == null)
+      parameters.put(name, values = new ArrayList<>(2));
+
+    values.add(value);
+  }
+
+  /** The implementation of {@link URIs#parseParameters(Map,String)} prior to the {@link String#indexOf(int,int)} scan. */
+  private static void legacyParseParameters(final Map<String,List<String>> parameters, final String data) {
+    final StringBuilder b = new StringBuilder();
+    String name = null;
+    for (int i = 0, i$ = data.length(); i < i$; ++i) { // [N]
+      final char ch = data.charAt(i);
+      if (ch == '&') {
+        add(parameters, name, b.toString());
+        b.setLength(0);
+        name = null;
+      }
+      else if (ch == '=') {
+        name = b.toString();
+        b.setLength(0);
+      }
+      else {
+        b.append(ch);
+      }
+    }
+
+    add(parameters, name, b.toString());
+  }
+
+  @Benchmark
+  public Map<String,List<String>> legacyParseParameters() {
+    final Map<String,List<String>> parameters = new HashMap<>();
+    legacyParseParameters(parameters, input);
+    return parameters;
+  }
+
+  @Benchmark
+  public Map<String,List<String>> parseParameters() {
+    final Map<String,List<String>> parameters = new HashMap<>();
+    URIs.parseParameters(parameters, input);
+    return parameters;
+  }
+
+  @Benchmark
+  public int decodeHeap() {
+    heap.clear();
+    heap.put(bytes).flip();
+    return PercentCodec.decode(heap);
+  }
+
+  @Benchmark
+  public int decodeDirect() {
+    direct.clear();
+    direct.put(bytes).flip();
+    return PercentCodec.decode(direct);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(URLScanBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,70 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.net;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link URLs#isValid(CharSequence)} to matching with {@link URLs#REGEX}, on valid and invalid URL strings. Run with
+ * {@code -prof gc} to observe the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URLValidateBenchmark {
+  private static final Pattern pattern = Pattern.compile(URLs.REGEX);
+
+  @Param({
+    "http://example.com",
+    "https://user@www.example.com:8443/api/v2/accounts/8f14e45f/orders?from=2026-01-01&sort=desc#recent",
+    "http://[2001:db8::7]/c=gb?objectclass?one",
+    "https://www.example.com/api/v2/accounts/8f14e45f/orders/Recent"
+  })
+  public String input;
+
+  @Benchmark
+  public boolean regex() {
+    return pattern.matcher(input).matches();
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return URLs.isValid(input);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(URLValidateBenchmark.class.getSimpleName()).build()).run();
+  }
+}
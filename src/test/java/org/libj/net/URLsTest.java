@@ -18,10 +18,16 @@ package org.libj.net;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import org.junit.Test;
 
@@ -141,6 +147,32 @@ public class URLsTest {
     assertEquals("+ ", URLs.decode("%2B+"));
   }
 
+  @Test
+  public void testUrlDecodeMultiByte() {
+    final String s = "/caf\u00e9/\u20ac/\ud83d\ude00?q=a b";
+    assertSame("/plain/path", URLs.decode("/plain/path"));
+    assertEquals(s, URLs.decode(URLs.encode(s)));
+    assertEquals("a\u00e9b\u00e9", URLs.decode("a%C3%A9b%c3%a9"));
+    assertEquals("\u00e9\u00e9", URLs.decode("\u00e9%C3%A9"));
+    assertEquals("\ufffdx", URLs.decode("%C3x"));
+    assertEquals(new String(new byte[] {(byte)0xed, (byte)0xa0, (byte)0x80}, StandardCharsets.UTF_8), URLs.decode("%ED%A0%80"));
+    assertEquals("\u00e9 \u00e9", URLs.decode("%E9+%E9", StandardCharsets.ISO_8859_1));
+    assertEquals("+\u00e9", URLs.decodePath("+%C3%A9"));
+  }
+
+  @Test
+  public void testUrlDecodeInvalid() {
+    for (final String s : new String[] {"%", "a%4", "%4g", "%\u00e9A"}) { // [A]
+      try {
+        URLs.decode(s);
+        fail("Expected IllegalArgumentException: " + s);
+      }
+      catch (final IllegalArgumentException e) {
+        assertTrue(e.getMessage().startsWith("Invalid URL encoding: "));
+      }
+    }
+  }
+
   @Test
   public void testUrlEncode() {
     assertEquals("%2B+", URLs.encode("+ "));
@@ -172,6 +204,20 @@ public class URLsTest {
     assertEquals("%2B+", URLs.encode("+ "));
   }
 
+  @Test
+  public void testEncodeToBuilder() throws IOException {
+    final StringBuilder builder = new StringBuilder("http://example.com");
+    URLs.encodePath("/caf\u00e9 cr\u00e8me/a+b", builder).append('?');
+    URLs.encode("q", builder).append('=');
+    URLs.encode("a b&c", builder).append('&');
+    URIComponent.encode("x y", builder);
+    assertEquals("http://example.com/caf%C3%A9%20cr%C3%A8me/a+b?q=a+b%26c&x%20y", builder.toString());
+
+    final StringWriter writer = new StringWriter();
+    URLs.encode("\ud83d\ude00 ~", StandardCharsets.UTF_8, writer);
+    assertEquals("%F0%9F%98%80+%7E", writer.toString());
+  }
+
   @Test
   public void testUrlDecodeReserved() {
     assertEquals("!$&'()*,;=", URLs.decode("!$&'()*,;="));
@@ -187,4 +233,80 @@ public class URLsTest {
     assertNotEquals(URLs.withLiteralHost("http://localhost"), URLs.withLiteralHost("http://127.0.0.1"));
     assertEquals(new URL("http://localhost"), new URL("http://127.0.0.1"));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testValidate() {
+    final String[] valid = {"a:", "http://www.example.com", "http://user@example.com:8080/a/b/?q=1&r=2#frag", "https://[::1]:443/", "http://[v1.x:y]/", "mailto:a@b.c", "urn:isbn:0451450523", "file:/tmp/a.txt", "a+b-c.d:x", "ftp://a/"};
+    for (final String url : valid) // [A]
+      assertEquals(url, -1, URLs.validate(url));
+
+    assertEquals(0, URLs.validate(""));
+    assertEquals(0, URLs.validate("HTTP://example.com"));
+    assertEquals(4, URLs.validate("http"));
+    assertEquals(7, URLs.validate("http://"));
+    assertEquals(7, URLs.validate("http://@host"));
+    assertEquals(9, URLs.validate("http://a:/"));
+    assertEquals(11, URLs.validate("http://a/b//c"));
+    assertEquals(9, URLs.validate("http://[v]/"));
+    assertEquals(8, URLs.validate("http://[]/"));
+    assertEquals(13, URLs.validate("http://a.com/ b"));
+    assertEquals(6, URLs.validate("a:/b?c d"));
+    assertEquals(3, URLs.validate("a:/"));
+    assertEquals(8, URLs.validate("ftp://a//"));
+    assertFalse(URLs.isValid("http://Example.com"));
+    assertTrue(URLs.isValid("http://example.com"));
+  }
+
+  @Test
+  public void testValidateAgainstRegex() {
+    final Pattern pattern = Pattern.compile(URLs.REGEX);
+    final String[] tokens = {"http", "a", "Z", "x1", ":", "//", "/", "@", "[", "]", "v", "v1", "::1", "1.2", ".", "?", "#", "%", "80", "&", "-", "~", "!", " ", "\u00e9", "+", "=", "'", "(", "*", ",", ";", "f", "g"};
+    final Random random = new Random(7);
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 100000; ++i) { // [N]
+      builder.setLength(0);
+      if (random.nextInt(3) > 0)
+        builder.append(random.nextBoolean() ? "http:" : "a+.-:");
+
+      if (random.nextBoolean())
+        builder.append("//");
+
+      for (int j = 0, j$ = random.nextInt(10); j < j$; ++j) // [N]
+        builder.append(tokens[random.nextInt(tokens.length)]);
+
+      final String url = builder.toString();
+      final int index = URLs.validate(url);
+      assertEquals(url, pattern.matcher(url).matches(), index == -1);
+      assertTrue(url, index <= url.length());
+    }
+  }
+
+  @Test
+  public void testCanonicalizeSpec() {
+    assertNull(URLs.canonicalizeSpec(null));
+    final String canonical = "http://user@www.example.com:8080/a/b/?q=../x#./f";
+    assertSame(canonical, URLs.canonicalizeSpec(canonical));
+    assertEquals(canonical, URLs.canonicalizeSpec("HTTP://user@www.example.com:8080/a/./c/..//b/?q=../x#./f"));
+    assertEquals("http://x/", URLs.canonicalizeSpec("http://x/a/.."));
+    assertEquals("http://x/b", URLs.canonicalizeSpec("http://x/../../b"));
+    assertEquals("http://x/a/b", URLs.canonicalizeSpec("http://x/a/b/."));
+    assertEquals("http://x/a/..b/c", URLs.canonicalizeSpec("http://x/a/./..b/c"));
+    assertEquals("../b", URLs.canonicalizeSpec("a/../../b"));
+    assertEquals("file:/tmp/a.txt", URLs.canonicalizeSpec("file:/tmp/./a.txt"));
+    assertEquals("jar:file:/a.jar!/b/c", URLs.canonicalizeSpec("jar:file:/a.jar!/b/d/../c"));
+  }
+
+  @Test
+  public void testCanonicalizeAll() {
+    final String[] specs = new String[20000];
+    for (int i = 0; i < specs.length; ++i) // [A]
+      specs[i] = "http://www.example.com/" + (i % 7) + "/./" + i + "/../" + i + "?q=" + i;
+
+    final String[] canonical = URLs.canonicalizeAll(specs);
+    for (int i = 0; i < specs.length; ++i) // [A]
+      assertEquals("http://www.example.com/" + (i % 7) + "/" + i + "?q=" + i, canonical[i]);
+
+    assertArrayEquals(canonical, URLs.canonicalizeAll(Arrays.stream(specs).parallel()).toArray(String[]::new));
+    assertArrayEquals(Arrays.copyOf(canonical, 10), URLs.canonicalizeAll(Arrays.copyOf(specs, 10)));
+  }
+}